@@ -63,10 +63,10 @@ class SocketService {
                 this.messageCallbacks.forEach(cb => cb(message))
             })
 
-            // Subscribe to global presence updates
-            this.subscribe('/topic/presence', (update: PresenceUpdate) => {
-                console.log('👤 Presence update:', update)
-                this.presenceCallbacks.forEach(cb => cb(update))
+            // Presence changes of conversation partners, batched per window
+            this.subscribe('/user/queue/presence', (updates: PresenceUpdate[]) => {
+                console.log('👤 Presence updates:', updates)
+                updates.forEach(update => this.presenceCallbacks.forEach(cb => cb(update)))
             })
         }
 
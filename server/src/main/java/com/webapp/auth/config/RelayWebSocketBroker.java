@@ -0,0 +1,77 @@
+package com.webapp.auth.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Relays {@code /topic} and {@code /queue} to an external STOMP broker
+ * (RabbitMQ with the STOMP plugin, ActiveMQ Artemis, ...), so a message sent
+ * on one instance reaches subscribers connected to any other.
+ *
+ * User destinations are resolved across instances: each instance broadcasts
+ * its connected users on {@link #USER_REGISTRY_BROADCAST}, and a
+ * {@code convertAndSendToUser} for a user this instance does not know is
+ * rebroadcast on {@link #USER_DESTINATION_BROADCAST} for the instance holding
+ * the user's session to deliver.
+ */
+@Component
+@ConditionalOnProperty(name = "app.websocket.broker.mode", havingValue = "relay")
+@Slf4j
+public class RelayWebSocketBroker implements WebSocketBroker {
+
+  public static final String USER_REGISTRY_BROADCAST = "/topic/simp-user-registry";
+  public static final String USER_DESTINATION_BROADCAST = "/topic/unresolved-user-destination";
+
+  private final String host;
+  private final int port;
+  private final String virtualHost;
+  private final String clientLogin;
+  private final String clientPasscode;
+  private final String systemLogin;
+  private final String systemPasscode;
+  private final long heartbeatMs;
+
+  public RelayWebSocketBroker(
+      @Value("${app.websocket.broker.relay.host:localhost}") String host,
+      @Value("${app.websocket.broker.relay.port:61613}") int port,
+      @Value("${app.websocket.broker.relay.virtual-host:}") String virtualHost,
+      @Value("${app.websocket.broker.relay.client-login:guest}") String clientLogin,
+      @Value("${app.websocket.broker.relay.client-passcode:guest}") String clientPasscode,
+      @Value("${app.websocket.broker.relay.system-login:guest}") String systemLogin,
+      @Value("${app.websocket.broker.relay.system-passcode:guest}") String systemPasscode,
+      @Value("${app.websocket.broker.relay.heartbeat-ms:10000}") long heartbeatMs) {
+    this.host = host;
+    this.port = port;
+    this.virtualHost = virtualHost;
+    this.clientLogin = clientLogin;
+    this.clientPasscode = clientPasscode;
+    this.systemLogin = systemLogin;
+    this.systemPasscode = systemPasscode;
+    this.heartbeatMs = heartbeatMs;
+  }
+
+  @Override
+  public void configure(MessageBrokerRegistry registry) {
+    StompBrokerRelayRegistration relay = registry.enableStompBrokerRelay("/topic", "/queue")
+        .setRelayHost(host)
+        .setRelayPort(port)
+        .setClientLogin(clientLogin)
+        .setClientPasscode(clientPasscode)
+        .setSystemLogin(systemLogin)
+        .setSystemPasscode(systemPasscode)
+        .setSystemHeartbeatSendInterval(heartbeatMs)
+        .setSystemHeartbeatReceiveInterval(heartbeatMs)
+        .setUserRegistryBroadcast(USER_REGISTRY_BROADCAST)
+        .setUserDestinationBroadcast(USER_DESTINATION_BROADCAST);
+    if (StringUtils.hasText(virtualHost)) {
+      relay.setVirtualHost(virtualHost);
+    }
+    log.info("Relaying WebSocket destinations to STOMP broker at {}:{}", host, port);
+  }
+}
@@ -106,6 +106,12 @@ public class SecurityConfig {
                                                                 "/uploads/**",
                                                                 "/api/v1/internal/sudo/**",
                                                                 "/api/properties/search",
+                                                                "/api/properties/search/page",
+                                                                "/api/properties/search/stream",
+                                                                "/api/properties/search/facets",
+                                                                "/api/properties/suggest",
+                                                                "/api/properties/nearby",
+                                                                "/api/properties/within-bounds",
                                                                 "/api/properties/recommended",
                                                                 "/api/properties/{id:[0-9]+}", // Only allow numeric IDs
                                                                                                // publicly
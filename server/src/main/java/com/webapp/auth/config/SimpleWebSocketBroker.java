@@ -0,0 +1,42 @@
+package com.webapp.auth.config;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory broker: messages only reach users connected to this instance.
+ *
+ * Heartbeats are negotiated with clients so that a silent session can be
+ * told apart from an idle one; see {@code PresenceService}.
+ */
+@Component
+@ConditionalOnProperty(name = "app.websocket.broker.mode", havingValue = "simple", matchIfMissing = true)
+public class SimpleWebSocketBroker implements WebSocketBroker, DisposableBean {
+
+  private final long heartbeatMs;
+  private final ThreadPoolTaskScheduler heartbeatScheduler = new ThreadPoolTaskScheduler();
+
+  public SimpleWebSocketBroker(@Value("${app.websocket.heartbeat-ms:10000}") long heartbeatMs) {
+    this.heartbeatMs = heartbeatMs;
+    heartbeatScheduler.setPoolSize(1);
+    heartbeatScheduler.setThreadNamePrefix("ws-heartbeat-");
+  }
+
+  @Override
+  public void configure(MessageBrokerRegistry registry) {
+    heartbeatScheduler.initialize();
+    // Enable simple broker for both public topics and private queues
+    registry.enableSimpleBroker("/topic", "/queue", "/user")
+        .setHeartbeatValue(new long[] { heartbeatMs, heartbeatMs })
+        .setTaskScheduler(heartbeatScheduler);
+  }
+
+  @Override
+  public void destroy() {
+    heartbeatScheduler.shutdown();
+  }
+}
@@ -0,0 +1,175 @@
+package com.webapp.auth.config;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Applies the {@link SlowConsumerPolicy} on the client outbound channel.
+ *
+ * A session counts as slow while it has {@code max-pending} messages waiting
+ * in the outbound executor, or while a write to its socket has been running
+ * for more than {@code slow-send-ms}. Messages for a slow session are then
+ * dropped, coalesced to the latest per subscription, or the session is
+ * closed. Coalesced messages are sent once the backlog falls to half the
+ * limit. Frames other than MESSAGE (receipts, errors, heartbeats) always go
+ * through.
+ *
+ * Only destinations listed in {@code coalesce-destinations} carry state
+ * snapshots that a later message supersedes, such as the unread count.
+ * Under COALESCE every other message, including chat and presence changes
+ * on user queues, is queued as usual rather than replaced.
+ *
+ * This sits in front of the transport's own send buffer and time limits,
+ * which still close a session whose socket buffer overflows.
+ */
+@Component
+@Slf4j
+public class SlowConsumerInterceptor implements ExecutorChannelInterceptor {
+
+  private final WebSocketSessionRegistry sessionRegistry;
+  private final SlowConsumerPolicy policy;
+  private final int maxPending;
+  private final long slowSendMs;
+  private final List<String> coalesceDestinations;
+
+  private final Map<String, Backlog> backlogs = new ConcurrentHashMap<>();
+
+  private final Counter dropped;
+  private final Counter coalesced;
+  private final Counter disconnected;
+
+  public SlowConsumerInterceptor(WebSocketSessionRegistry sessionRegistry, MeterRegistry meterRegistry,
+      @Value("${app.websocket.slow-consumer.policy:COALESCE}") SlowConsumerPolicy policy,
+      @Value("${app.websocket.slow-consumer.max-pending:100}") int maxPending,
+      @Value("${app.websocket.slow-consumer.slow-send-ms:2000}") long slowSendMs,
+      @Value("${app.websocket.slow-consumer.coalesce-destinations:/user/queue/unread-count}")
+      String[] coalesceDestinations) {
+    this.sessionRegistry = sessionRegistry;
+    this.policy = policy;
+    this.maxPending = Math.max(1, maxPending);
+    this.slowSendMs = slowSendMs;
+    this.coalesceDestinations = List.of(coalesceDestinations);
+    this.dropped = slowConsumerCounter(meterRegistry, "dropped");
+    this.coalesced = slowConsumerCounter(meterRegistry, "coalesced");
+    this.disconnected = slowConsumerCounter(meterRegistry, "disconnected");
+  }
+
+  @Override
+  public Message<?> preSend(Message<?> message, MessageChannel channel) {
+    String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+    if (sessionId == null) {
+      return message;
+    }
+    Backlog backlog = backlogs.computeIfAbsent(sessionId, id -> new Backlog());
+    if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE
+        && isSlow(sessionId, backlog)
+        && (policy != SlowConsumerPolicy.COALESCE || isSnapshot(message))) {
+      switch (policy) {
+        case DROP -> dropped.increment();
+        case COALESCE -> backlog.park(message, coalesced);
+        case DISCONNECT -> {
+          backlogs.remove(sessionId);
+          if (sessionRegistry.close(sessionId, CloseStatus.SESSION_NOT_RELIABLE)) {
+            disconnected.increment();
+            log.info("Closed slow WebSocket session {}", sessionId);
+          }
+        }
+      }
+      return null;
+    }
+    backlog.pending.incrementAndGet();
+    return message;
+  }
+
+  @Override
+  public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler,
+      Exception ex) {
+    String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+    Backlog backlog = sessionId != null ? backlogs.get(sessionId) : null;
+    if (backlog == null) {
+      return;
+    }
+    if (backlog.pending.decrementAndGet() <= maxPending / 2) {
+      // Re-enters preSend, so a session that is still slow parks them again
+      for (Message<?> parked : backlog.drain()) {
+        channel.send(parked);
+      }
+    }
+  }
+
+  @EventListener
+  public void onDisconnect(SessionDisconnectEvent event) {
+    backlogs.remove(event.getSessionId());
+  }
+
+  /**
+   * Messages waiting in the outbound executor for a session.
+   */
+  public int pending(String sessionId) {
+    Backlog backlog = backlogs.get(sessionId);
+    return backlog != null ? backlog.pending.get() : 0;
+  }
+
+  private boolean isSlow(String sessionId, Backlog backlog) {
+    return backlog.pending.get() >= maxPending || sessionRegistry.sendInProgressMs(sessionId) > slowSendMs;
+  }
+
+  private boolean isSnapshot(Message<?> message) {
+    // User destinations reach this channel resolved per session; match on what the client subscribed to
+    Object original = message.getHeaders().get(SimpMessageHeaderAccessor.ORIGINAL_DESTINATION);
+    String destination = original instanceof String subscribed ? subscribed
+        : SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+    return destination != null && coalesceDestinations.stream().anyMatch(destination::startsWith);
+  }
+
+  private static Counter slowConsumerCounter(MeterRegistry meterRegistry, String action) {
+    return Counter.builder("websocket.outbound.slow_consumer")
+        .tag("action", action)
+        .description("Outbound messages held back from slow WebSocket sessions")
+        .register(meterRegistry);
+  }
+
+  private static final class Backlog {
+
+    private final AtomicInteger pending = new AtomicInteger();
+    // Latest parked message per destination and subscription
+    private final Map<String, Message<?>> parked = new LinkedHashMap<>();
+
+    synchronized void park(Message<?> message, Counter coalesced) {
+      String key = SimpMessageHeaderAccessor.getDestination(message.getHeaders()) + "|"
+          + SimpMessageHeaderAccessor.getSubscriptionId(message.getHeaders());
+      if (parked.put(key, message) != null) {
+        coalesced.increment();
+      }
+    }
+
+    synchronized List<Message<?>> drain() {
+      if (parked.isEmpty()) {
+        return List.of();
+      }
+      List<Message<?>> messages = new ArrayList<>(parked.values());
+      parked.clear();
+      return messages;
+    }
+  }
+}
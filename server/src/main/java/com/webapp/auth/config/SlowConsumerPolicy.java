@@ -0,0 +1,17 @@
+package com.webapp.auth.config;
+
+/**
+ * What to do with messages for a WebSocket session that cannot keep up.
+ */
+public enum SlowConsumerPolicy {
+  /** Drop new messages until the session catches up. */
+  DROP,
+  /**
+   * Keep only the latest message per subscription to a state-snapshot
+   * destination and send it once the session catches up; other messages
+   * queue as usual.
+   */
+  COALESCE,
+  /** Close the session; the client reconnects and resubscribes. */
+  DISCONNECT
+}
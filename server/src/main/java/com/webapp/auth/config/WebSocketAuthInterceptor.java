@@ -58,9 +58,9 @@ public class WebSocketAuthInterceptor implements ChannelInterceptor {
         accessor.setUser(authentication);
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        // Mark user as online
+        // Count the session towards the user's presence
         String email = userDetails.getUsername();
-        presenceService.setUserOnline(userId, email);
+        presenceService.sessionConnected(accessor.getSessionId(), userId, email);
 
         log.info("User {} ({}) connected via WebSocket", userId, email);
       } else {
@@ -68,19 +68,15 @@ public class WebSocketAuthInterceptor implements ChannelInterceptor {
         throw new IllegalArgumentException("Invalid Token");
       }
     } else if (StompCommand.DISCONNECT.equals(accessor.getCommand())) {
-      // Handle disconnect - mark user offline
-      if (accessor.getUser() != null) {
-        try {
-          UsernamePasswordAuthenticationToken auth = (UsernamePasswordAuthenticationToken) accessor.getUser();
-          if (auth.getPrincipal() instanceof UserPrincipal) {
-            UserPrincipal principal = (UserPrincipal) auth.getPrincipal();
-            presenceService.setUserOffline(principal.getId());
-            log.info("User {} disconnected from WebSocket", principal.getId());
-          }
-        } catch (Exception e) {
-          log.warn("Error handling WebSocket disconnect: {}", e.getMessage());
-        }
+      // Other tabs of the same user keep them online
+      presenceService.sessionDisconnected(accessor.getSessionId());
+      if (accessor.getUser() instanceof UsernamePasswordAuthenticationToken auth
+          && auth.getPrincipal() instanceof UserPrincipal principal) {
+        log.info("User {} disconnected from WebSocket", principal.getId());
       }
+    } else {
+      // Any other frame, heartbeats included, shows the session is alive
+      presenceService.heartbeat(accessor.getSessionId());
     }
 
     return message;
@@ -0,0 +1,17 @@
+package com.webapp.auth.config;
+
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+
+/**
+ * Message broker behind the STOMP endpoint, chosen with
+ * {@code app.websocket.broker.mode}: {@code simple} keeps subscriptions in
+ * this JVM, {@code relay} forwards them to an external STOMP broker so every
+ * API instance can reach every connected user.
+ */
+public interface WebSocketBroker {
+
+  /**
+   * Register the broker destinations ({@code /topic}, {@code /queue}).
+   */
+  void configure(MessageBrokerRegistry registry);
+}
@@ -1,6 +1,7 @@
 package com.webapp.auth.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
@@ -9,6 +10,7 @@ import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableWebSocketMessageBroker
@@ -17,6 +19,19 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
   private final WebSocketAuthInterceptor webSocketAuthInterceptor;
+  private final WebSocketBroker webSocketBroker;
+  private final WebSocketExecutors webSocketExecutors;
+  private final SlowConsumerInterceptor slowConsumerInterceptor;
+  private final WebSocketSessionRegistry webSocketSessionRegistry;
+
+  @Value("${app.websocket.transport.send-time-limit-ms:10000}")
+  private int sendTimeLimitMs;
+
+  @Value("${app.websocket.transport.send-buffer-size-limit:524288}")
+  private int sendBufferSizeLimit;
+
+  @Value("${app.websocket.transport.message-size-limit:65536}")
+  private int messageSizeLimit;
 
   @Override
   public void registerStompEndpoints(StompEndpointRegistry registry) {
@@ -27,8 +42,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
   @Override
   public void configureMessageBroker(MessageBrokerRegistry registry) {
-    // Enable simple broker for both public topics and private queues
-    registry.enableSimpleBroker("/topic", "/queue", "/user");
+    webSocketBroker.configure(registry);
     registry.setApplicationDestinationPrefixes("/app");
     registry.setUserDestinationPrefix("/user");
   }
@@ -36,5 +50,21 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
   @Override
   public void configureClientInboundChannel(ChannelRegistration registration) {
     registration.interceptors(webSocketAuthInterceptor);
+    registration.taskExecutor(webSocketExecutors.inbound());
+  }
+
+  @Override
+  public void configureClientOutboundChannel(ChannelRegistration registration) {
+    registration.interceptors(slowConsumerInterceptor);
+    registration.taskExecutor(webSocketExecutors.outbound());
+  }
+
+  @Override
+  public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+    // A session whose send buffer overflows or whose send stalls past the limit is closed
+    registration.setSendTimeLimit(sendTimeLimitMs)
+        .setSendBufferSizeLimit(sendBufferSizeLimit)
+        .setMessageSizeLimit(messageSizeLimit)
+        .addDecoratorFactory(webSocketSessionRegistry);
   }
 }
@@ -0,0 +1,92 @@
+package com.webapp.auth.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Bounded executors for the STOMP client inbound and outbound channels.
+ *
+ * When a pool is at its maximum size and its queue is full, the task runs
+ * on the submitting thread instead of being rejected: a burst of inbound
+ * frames slows down reading from the sockets that sent them, and a burst of
+ * broadcasts slows down the broker thread producing them. Queue depth,
+ * active threads and the number of such rejections are exported per channel.
+ *
+ * The executors are handed to Spring through {@link WebSocketConfig}, which
+ * registers, starts and shuts them down as the channel executor beans.
+ */
+@Component
+public class WebSocketExecutors {
+
+  private final ThreadPoolTaskExecutor inbound;
+  private final ThreadPoolTaskExecutor outbound;
+
+  public WebSocketExecutors(MeterRegistry meterRegistry,
+      @Value("${app.websocket.inbound.core-pool-size:8}") int inboundCoreSize,
+      @Value("${app.websocket.inbound.max-pool-size:16}") int inboundMaxSize,
+      @Value("${app.websocket.inbound.queue-capacity:1000}") int inboundQueueCapacity,
+      @Value("${app.websocket.outbound.core-pool-size:8}") int outboundCoreSize,
+      @Value("${app.websocket.outbound.max-pool-size:16}") int outboundMaxSize,
+      @Value("${app.websocket.outbound.queue-capacity:5000}") int outboundQueueCapacity,
+      @Value("${app.websocket.executor.keep-alive-seconds:60}") int keepAliveSeconds) {
+    this.inbound = create(meterRegistry, "inbound", inboundCoreSize, inboundMaxSize, inboundQueueCapacity,
+        keepAliveSeconds);
+    this.outbound = create(meterRegistry, "outbound", outboundCoreSize, outboundMaxSize, outboundQueueCapacity,
+        keepAliveSeconds);
+  }
+
+  public ThreadPoolTaskExecutor inbound() {
+    return inbound;
+  }
+
+  public ThreadPoolTaskExecutor outbound() {
+    return outbound;
+  }
+
+  private static ThreadPoolTaskExecutor create(MeterRegistry meterRegistry, String channel, int coreSize,
+      int maxSize, int queueCapacity, int keepAliveSeconds) {
+    Counter rejected = Counter.builder("websocket.executor.rejected")
+        .tag("channel", channel)
+        .description("Tasks run on the submitting thread because the pool and queue were full")
+        .register(meterRegistry);
+
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(Math.max(1, coreSize));
+    executor.setMaxPoolSize(Math.max(Math.max(1, coreSize), maxSize));
+    executor.setQueueCapacity(Math.max(0, queueCapacity));
+    executor.setKeepAliveSeconds(keepAliveSeconds);
+    executor.setAllowCoreThreadTimeOut(true);
+    executor.setRejectedExecutionHandler((task, pool) -> {
+      rejected.increment();
+      if (!pool.isShutdown()) {
+        task.run();
+      }
+    });
+
+    Gauge.builder("websocket.executor.queue.depth", executor, WebSocketExecutors::queueDepth)
+        .tag("channel", channel)
+        .description("Tasks waiting for a thread")
+        .register(meterRegistry);
+    Gauge.builder("websocket.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+        .tag("channel", channel)
+        .description("Threads running a task")
+        .register(meterRegistry);
+    return executor;
+  }
+
+  private static int queueDepth(ThreadPoolTaskExecutor executor) {
+    try {
+      ThreadPoolExecutor pool = executor.getThreadPoolExecutor();
+      return pool.getQueue().size();
+    } catch (IllegalStateException notInitialized) {
+      return 0;
+    }
+  }
+}
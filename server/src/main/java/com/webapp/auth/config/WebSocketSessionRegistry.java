@@ -0,0 +1,123 @@
+package com.webapp.auth.config;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Live WebSocket sessions by id, so slow consumers can be measured and
+ * closed from outside the transport.
+ *
+ * Each session is wrapped to record when the write in progress started.
+ * Writes are serialized per session, so a write that has been running for a
+ * long time means the client is not reading.
+ */
+@Component
+@Slf4j
+public class WebSocketSessionRegistry implements WebSocketHandlerDecoratorFactory {
+
+  private final Map<String, TimedSession> sessions = new ConcurrentHashMap<>();
+
+  public WebSocketSessionRegistry(MeterRegistry meterRegistry) {
+    Gauge.builder("websocket.sessions", sessions, Map::size)
+        .description("Open WebSocket sessions on this instance")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public WebSocketHandler decorate(WebSocketHandler handler) {
+    return new WebSocketHandlerDecorator(handler) {
+      @Override
+      public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        TimedSession timed = new TimedSession(session);
+        sessions.put(session.getId(), timed);
+        super.afterConnectionEstablished(timed);
+      }
+
+      @Override
+      public void handleMessage(WebSocketSession session, WebSocketMessage<?> message) throws Exception {
+        super.handleMessage(tracked(session), message);
+      }
+
+      @Override
+      public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
+        super.handleTransportError(tracked(session), exception);
+      }
+
+      @Override
+      public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+        TimedSession timed = sessions.remove(session.getId());
+        super.afterConnectionClosed(timed != null ? timed : session, closeStatus);
+      }
+    };
+  }
+
+  private WebSocketSession tracked(WebSocketSession session) {
+    TimedSession timed = sessions.get(session.getId());
+    return timed != null ? timed : session;
+  }
+
+  /**
+   * Milliseconds the write in progress on a session has been running, 0 when
+   * the session is idle or unknown.
+   */
+  public long sendInProgressMs(String sessionId) {
+    TimedSession session = sessions.get(sessionId);
+    if (session == null) {
+      return 0;
+    }
+    long startedAt = session.sendStartedAt;
+    return startedAt == 0 ? 0 : (System.nanoTime() - startedAt) / 1_000_000;
+  }
+
+  /**
+   * Close a session; the transport then runs the usual disconnect handling.
+   *
+   * @return false if the session is not open on this instance
+   */
+  public boolean close(String sessionId, CloseStatus status) {
+    TimedSession session = sessions.get(sessionId);
+    if (session == null) {
+      return false;
+    }
+    try {
+      session.close(status);
+    } catch (IOException e) {
+      log.warn("Failed to close WebSocket session {}: {}", sessionId, e.getMessage());
+    }
+    return true;
+  }
+
+  private static final class TimedSession extends WebSocketSessionDecorator {
+
+    // System.nanoTime() when the current write started, 0 while idle
+    private volatile long sendStartedAt;
+
+    TimedSession(WebSocketSession delegate) {
+      super(delegate);
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+      sendStartedAt = System.nanoTime() | 1;
+      try {
+        super.sendMessage(message);
+      } finally {
+        sendStartedAt = 0;
+      }
+    }
+  }
+}
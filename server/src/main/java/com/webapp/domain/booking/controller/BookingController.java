@@ -16,8 +16,11 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.webapp.auth.security.UserPrincipal;
+import com.webapp.domain.booking.dto.BookingCursorPage;
 import com.webapp.domain.booking.dto.BookingRequest;
 import com.webapp.domain.booking.dto.BookingResponse;
+import com.webapp.domain.booking.dto.BulkBookingStatusRequest;
+import com.webapp.domain.booking.dto.BulkBookingStatusResponse;
 import com.webapp.domain.booking.enums.BookingStatus;
 import com.webapp.domain.booking.service.BookingService;
 
@@ -52,6 +55,33 @@ public class BookingController {
         return ResponseEntity.ok(bookingService.getBookingsRequests(userPrincipal.getId(), pageable));
     }
 
+    /**
+     * Keyset-paginated tenant history, newest stay first. Pass the returned
+     * nextCursor to get the following page.
+     */
+    @GetMapping("/my-bookings/page")
+    public ResponseEntity<BookingCursorPage> getMyBookingHistory(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam(required = false) BookingStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(bookingService.getMyBookingHistory(userPrincipal.getId(), status, cursor,
+                Math.max(1, Math.min(size, 100))));
+    }
+
+    /**
+     * Keyset-paginated landlord history, newest stay first.
+     */
+    @GetMapping("/requests/page")
+    public ResponseEntity<BookingCursorPage> getLandlordBookingHistory(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam(required = false) BookingStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(bookingService.getLandlordBookingHistory(userPrincipal.getId(), status, cursor,
+                Math.max(1, Math.min(size, 100))));
+    }
+
     @PatchMapping("/{id}/status")
     public ResponseEntity<BookingResponse> updateStatus(
             @AuthenticationPrincipal UserPrincipal userPrincipal,
@@ -60,6 +90,13 @@ public class BookingController {
         return ResponseEntity.ok(bookingService.updateBookingStatus(userPrincipal.getId(), id, status));
     }
 
+    @PatchMapping("/bulk-status")
+    public ResponseEntity<BulkBookingStatusResponse> bulkUpdateStatus(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Valid @RequestBody BulkBookingStatusRequest request) {
+        return ResponseEntity.ok(bookingService.bulkUpdateBookingStatus(userPrincipal.getId(), request));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteBooking(
             @AuthenticationPrincipal UserPrincipal userPrincipal,
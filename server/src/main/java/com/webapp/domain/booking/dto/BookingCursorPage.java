@@ -0,0 +1,23 @@
+package com.webapp.domain.booking.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One keyset page of booking history. Pass nextCursor back to fetch the
+ * following page; it is null on the last page.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingCursorPage {
+    private List<BookingResponse> items;
+    private String nextCursor;
+    private boolean hasMore;
+    private int size;
+}
@@ -38,6 +38,8 @@ public class BookingResponse {
     private LocalDateTime checkOutTime;
 
     private BookingStatus status;
+    // Set while a PENDING booking holds a seat
+    private LocalDateTime holdExpiresAt;
     private String notes;
 
     private LocalDateTime createdAt;
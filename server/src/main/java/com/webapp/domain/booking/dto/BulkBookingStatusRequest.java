@@ -0,0 +1,27 @@
+package com.webapp.domain.booking.dto;
+
+import java.util.List;
+
+import com.webapp.domain.booking.enums.BookingStatus;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkBookingStatusRequest {
+
+    @NotEmpty(message = "At least one booking ID is required")
+    @Size(max = 200, message = "At most 200 bookings can be updated at once")
+    private List<Long> bookingIds;
+
+    @NotNull(message = "Status is required")
+    private BookingStatus status;
+}
@@ -0,0 +1,37 @@
+package com.webapp.domain.booking.dto;
+
+import java.util.List;
+
+import com.webapp.domain.booking.enums.BookingStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkBookingStatusResponse {
+
+    private BookingStatus status;
+    private int updated;
+    private int failed;
+    private List<Result> results;
+
+    /**
+     * Outcome for one requested booking, in request order.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Result {
+        private Long bookingId;
+        private boolean success;
+        private BookingStatus status;
+        private Long seatId;
+        private String error;
+    }
+}
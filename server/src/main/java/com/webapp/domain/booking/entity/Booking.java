@@ -18,6 +18,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -36,7 +37,15 @@ import lombok.NoArgsConstructor;
  * The seat field links this booking to a specific seat in the property.
  */
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = {
+        @Index(name = "idx_bookings_tenant_start", columnList = "tenant_id, start_date, id"),
+        @Index(name = "idx_bookings_landlord_start", columnList = "landlord_id, start_date, id"),
+        @Index(name = "idx_bookings_landlord_status_start", columnList = "landlord_id, status, start_date, id"),
+        @Index(name = "idx_bookings_tenant_status_end", columnList = "tenant_id, status, end_date"),
+        @Index(name = "idx_bookings_landlord_status_end", columnList = "landlord_id, status, end_date"),
+        @Index(name = "idx_bookings_property_status_end", columnList = "property_id, status, end_date"),
+        @Index(name = "idx_bookings_status_hold", columnList = "status, hold_expires_at")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -86,6 +95,13 @@ public class Booking {
     @Column(name = "check_out_time")
     private LocalDateTime checkOutTime;
 
+    /**
+     * When the seat held for this PENDING booking is released; null when no
+     * seat is held.
+     */
+    @Column(name = "hold_expires_at")
+    private LocalDateTime holdExpiresAt;
+
     @Column(name = "payment_method")
     private String paymentMethod;
 
@@ -0,0 +1,113 @@
+package com.webapp.domain.booking.entity;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import com.webapp.domain.booking.enums.BookingEventType;
+import com.webapp.domain.booking.enums.BookingStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Transactional outbox row for one booking change.
+ *
+ * Written in the same transaction as the change itself and consumed after
+ * commit by the outbox dispatcher. The names of consumers that have already
+ * handled the row are kept in {@code completedConsumers}, so a retry only
+ * re-runs the ones that failed. An instance dispatching the row holds a
+ * lease on it ({@code claimToken} until {@code claimedUntil}).
+ */
+@Entity
+@Table(name = "booking_outbox", indexes = {
+        @Index(name = "idx_booking_outbox_pending", columnList = "processed_at, next_attempt_at"),
+        @Index(name = "idx_booking_outbox_claim_token", columnList = "claim_token")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // No foreign key: DELETED events outlive their booking
+    @Column(name = "booking_id", nullable = false)
+    private Long bookingId;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "event_type", nullable = false, length = 30)
+    private BookingEventType type;
+
+    /**
+     * Booking status right after the change.
+     */
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "booking_status", length = 30)
+    private BookingStatus bookingStatus;
+
+    @Column(name = "actor_id")
+    private Long actorId;
+
+    @Column(name = "request_id", length = 50)
+    private String requestId;
+
+    @Column(name = "ip_address", length = 45)
+    private String ipAddress;
+
+    @Column(name = "user_agent", length = 500)
+    private String userAgent;
+
+    @Column(name = "completed_consumers")
+    private String completedConsumers;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private int attempts = 0;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    public boolean isCompletedBy(String consumer) {
+        return completedConsumers != null && Arrays.asList(completedConsumers.split(",")).contains(consumer);
+    }
+
+    public void markCompletedBy(String consumer) {
+        if (!isCompletedBy(consumer)) {
+            completedConsumers = completedConsumers == null ? consumer : completedConsumers + "," + consumer;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.webapp.domain.booking.enums;
+
+/**
+ * Booking changes recorded in the outbox for asynchronous side effects.
+ */
+public enum BookingEventType {
+    CREATED,
+    STATUS_CHANGED,
+    CHECKED_IN,
+    CHECKED_OUT,
+    DELETED
+}
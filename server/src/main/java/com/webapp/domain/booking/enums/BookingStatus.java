@@ -7,5 +7,7 @@ public enum BookingStatus {
     CHECKED_OUT,
     REJECTED,
     CANCELLED,
-    COMPLETED
+    COMPLETED,
+    /** PENDING request whose seat hold ran out before the landlord answered */
+    EXPIRED
 }
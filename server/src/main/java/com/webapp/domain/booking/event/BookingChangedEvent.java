@@ -0,0 +1,46 @@
+package com.webapp.domain.booking.event;
+
+import java.time.LocalDate;
+
+import com.webapp.domain.booking.entity.Booking;
+import com.webapp.domain.booking.enums.BookingStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published whenever a booking changes status or is deleted.
+ *
+ * Carries the booking's dates and status as of the change so after-commit
+ * listeners never touch the (by then detached) entity's lazy associations.
+ */
+@Getter
+@AllArgsConstructor
+public class BookingChangedEvent {
+
+    private final Long bookingId;
+
+    private final Long propertyId;
+
+    private final BookingStatus status;
+
+    private final LocalDate startDate;
+
+    private final LocalDate endDate;
+
+    private final boolean deleted;
+
+    public static BookingChangedEvent saved(Booking booking) {
+        return of(booking, false);
+    }
+
+    public static BookingChangedEvent deleted(Booking booking) {
+        return of(booking, true);
+    }
+
+    private static BookingChangedEvent of(Booking booking, boolean deleted) {
+        Long propertyId = booking.getProperty() != null ? booking.getProperty().getId() : null;
+        return new BookingChangedEvent(booking.getId(), propertyId, booking.getStatus(), booking.getStartDate(),
+                booking.getEndDate(), deleted);
+    }
+}
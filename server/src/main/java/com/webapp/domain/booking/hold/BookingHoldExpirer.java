@@ -0,0 +1,138 @@
+package com.webapp.domain.booking.hold;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.webapp.domain.booking.repository.BookingRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Expires seat holds on time without polling the bookings table.
+ *
+ * Every hold is scheduled on an in-memory {@link HierarchicalTimerWheel}
+ * when its booking commits, and the wheel is rebuilt from the database on
+ * startup, so the database is only read for holds that are actually due.
+ * Due bookings are expired through {@link BookingHolds#expire} in batches of
+ * {@code release-batch-size}; a failed batch is retried after
+ * {@code retry-delay-ms}.
+ *
+ * The wheel lives in this instance only: with several instances each one
+ * expires the holds it placed, and holds left by a stopped instance are
+ * picked up when an instance starts. As a safety net for an instance that
+ * stays down, every instance also sweeps the database every
+ * {@code sweep-ms} for holds still pending {@code sweep-grace-ms} after
+ * they expired. Expiry re-reads the bookings under a lock, so a hold is
+ * never expired twice or after it was confirmed, whichever instance gets
+ * to it.
+ */
+@Component
+@Slf4j
+public class BookingHoldExpirer {
+
+    // Overdue holds picked up per sweep; the rest wait for the next one
+    private static final int SWEEP_LIMIT = 1000;
+
+    private final BookingHolds holds;
+    private final BookingRepository bookingRepository;
+    private final HierarchicalTimerWheel<Long> wheel;
+    private final int batchSize;
+    private final long retryDelayMs;
+    private final long sweepGraceMs;
+
+    public BookingHoldExpirer(BookingHolds holds, BookingRepository bookingRepository,
+            @Value("${app.booking.hold.tick-ms:1000}") long tickMs,
+            @Value("${app.booking.hold.wheel-size:64}") int wheelSize,
+            @Value("${app.booking.hold.release-batch-size:100}") int batchSize,
+            @Value("${app.booking.hold.retry-delay-ms:30000}") long retryDelayMs,
+            @Value("${app.booking.hold.sweep-grace-ms:120000}") long sweepGraceMs) {
+        this.holds = holds;
+        this.bookingRepository = bookingRepository;
+        this.wheel = new HierarchicalTimerWheel<>(tickMs, wheelSize, System.currentTimeMillis());
+        this.batchSize = Math.max(1, batchSize);
+        this.retryDelayMs = Math.max(0, retryDelayMs);
+        this.sweepGraceMs = Math.max(0, sweepGraceMs);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rehydrate() {
+        List<Object[]> rows = bookingRepository.findHoldExpiries();
+        for (Object[] row : rows) {
+            schedule((Long) row[0], (LocalDateTime) row[1]);
+        }
+        if (!rows.isEmpty()) {
+            log.info("Scheduled {} outstanding booking holds", rows.size());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPlaced(BookingHolds.Placed event) {
+        schedule(event.bookingId(), event.expiresAt());
+    }
+
+    @Scheduled(fixedDelayString = "${app.booking.hold.tick-ms:1000}")
+    public void tick() {
+        List<Long> due;
+        synchronized (wheel) {
+            due = wheel.advance(System.currentTimeMillis());
+        }
+        for (int from = 0; from < due.size(); from += batchSize) {
+            List<Long> batch = due.subList(from, Math.min(from + batchSize, due.size()));
+            try {
+                Map<Long, LocalDateTime> notDue = holds.expire(batch);
+                notDue.forEach(this::schedule);
+            } catch (RuntimeException e) {
+                log.error("Expiring {} booking holds failed, retrying in {} ms", batch.size(), retryDelayMs, e);
+                long retryAt = System.currentTimeMillis() + retryDelayMs;
+                synchronized (wheel) {
+                    batch.forEach(bookingId -> wheel.schedule(bookingId, retryAt));
+                }
+            }
+        }
+    }
+
+    /**
+     * Put holds that no instance expired in time on this wheel, due now.
+     */
+    @Scheduled(fixedDelayString = "${app.booking.hold.sweep-ms:300000}",
+            initialDelayString = "${app.booking.hold.sweep-ms:300000}")
+    public void sweep() {
+        LocalDateTime before = LocalDateTime.now().minusNanos(sweepGraceMs * 1_000_000);
+        List<Long> overdue = bookingRepository.findHoldsExpiredBefore(before, PageRequest.of(0, SWEEP_LIMIT));
+        if (overdue.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        synchronized (wheel) {
+            overdue.forEach(bookingId -> wheel.schedule(bookingId, now));
+        }
+        log.warn("Picked up {} overdue booking holds", overdue.size());
+    }
+
+    /**
+     * Holds waiting on the wheel.
+     */
+    public int pending() {
+        synchronized (wheel) {
+            return wheel.size();
+        }
+    }
+
+    private void schedule(Long bookingId, LocalDateTime expiresAt) {
+        long deadlineMs = expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        synchronized (wheel) {
+            wheel.schedule(bookingId, deadlineMs);
+        }
+    }
+}
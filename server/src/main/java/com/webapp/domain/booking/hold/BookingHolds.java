@@ -0,0 +1,142 @@
+package com.webapp.domain.booking.hold;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.webapp.domain.booking.entity.Booking;
+import com.webapp.domain.booking.enums.BookingEventType;
+import com.webapp.domain.booking.enums.BookingStatus;
+import com.webapp.domain.booking.event.BookingChangedEvent;
+import com.webapp.domain.booking.outbox.BookingOutbox;
+import com.webapp.domain.booking.repository.BookingRepository;
+import com.webapp.domain.property.entity.Seat;
+import com.webapp.domain.property.enums.SeatStatus;
+import com.webapp.domain.property.service.SeatService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Seat holds for pending bookings.
+ *
+ * A new booking request takes a seat in HELD status for
+ * {@code app.booking.hold.minutes}, so a tenant who asked first cannot lose
+ * the bed while the landlord decides. Confirming moves the held seat to
+ * OCCUPIED; rejecting or cancelling gives it back. Holds nobody acted on are
+ * expired by {@link BookingHoldExpirer}, which learns about new holds from
+ * the {@link Placed} event once the booking has committed.
+ */
+@Component
+@Slf4j
+public class BookingHolds {
+
+    private final SeatService seatService;
+    private final BookingRepository bookingRepository;
+    private final BookingOutbox outbox;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long holdMinutes;
+
+    public BookingHolds(SeatService seatService, BookingRepository bookingRepository, BookingOutbox outbox,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${app.booking.hold.minutes:15}") long holdMinutes) {
+        this.seatService = seatService;
+        this.bookingRepository = bookingRepository;
+        this.outbox = outbox;
+        this.eventPublisher = eventPublisher;
+        this.holdMinutes = holdMinutes;
+    }
+
+    public boolean isEnabled() {
+        return holdMinutes > 0;
+    }
+
+    /**
+     * Hold a seat for a saved PENDING booking. Does nothing when holds are
+     * disabled.
+     *
+     * @throws IllegalStateException if the property has no available seat
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void place(Booking booking) {
+        if (!isEnabled()) {
+            return;
+        }
+        Seat seat = seatService.holdSeatForBooking(booking);
+        booking.setSeat(seat);
+        booking.setHoldExpiresAt(LocalDateTime.now().plusMinutes(holdMinutes));
+        eventPublisher.publishEvent(new Placed(booking.getId(), booking.getHoldExpiresAt()));
+
+        log.info("Booking {} holds seat {} until {}", booking.getId(), seat.getId(), booking.getHoldExpiresAt());
+    }
+
+    /**
+     * Give back the held seats of bookings leaving PENDING without a
+     * confirmation. Bookings without a held seat are left alone.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void release(List<Booking> bookings) {
+        List<Seat> seats = new ArrayList<>();
+        for (Booking booking : bookings) {
+            Seat seat = booking.getSeat();
+            if (seat == null || seat.getStatus() != SeatStatus.HELD) {
+                continue;
+            }
+            seats.add(seat);
+            booking.setSeat(null);
+            booking.setHoldExpiresAt(null);
+        }
+        seatService.releaseSeats(seats);
+    }
+
+    /**
+     * Expire the holds of the given bookings that are due.
+     *
+     * Bookings are re-read under a lock, so holds confirmed, rejected or
+     * cancelled since they were scheduled are skipped. Due bookings become
+     * EXPIRED and their seats are released in one batch.
+     *
+     * @return new expiry of bookings whose hold is not due yet
+     */
+    @Transactional
+    public Map<Long, LocalDateTime> expire(Collection<Long> bookingIds) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Booking> expired = new ArrayList<>();
+        Map<Long, LocalDateTime> notDue = new HashMap<>();
+        for (Booking booking : bookingRepository.findHeldByIdInForUpdate(bookingIds)) {
+            if (booking.getHoldExpiresAt().isAfter(now)) {
+                notDue.put(booking.getId(), booking.getHoldExpiresAt());
+            } else {
+                expired.add(booking);
+            }
+        }
+        if (expired.isEmpty()) {
+            return notDue;
+        }
+
+        release(expired);
+        for (Booking booking : expired) {
+            // Flushed with the transaction as batched UPDATEs
+            booking.setStatus(BookingStatus.EXPIRED);
+            eventPublisher.publishEvent(BookingChangedEvent.saved(booking));
+        }
+        outbox.recordAll(BookingEventType.STATUS_CHANGED, expired, null);
+
+        log.info("Expired {} booking holds", expired.size());
+        return notDue;
+    }
+
+    /**
+     * Published when a hold is placed; delivered after commit.
+     */
+    public record Placed(Long bookingId, LocalDateTime expiresAt) {
+    }
+}
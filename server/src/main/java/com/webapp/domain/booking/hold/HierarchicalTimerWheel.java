@@ -0,0 +1,125 @@
+package com.webapp.domain.booking.hold;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel for deadlines in the minutes-to-days range.
+ *
+ * Level 0 has {@code wheelSize} slots of one tick each; every further level
+ * has slots {@code wheelSize} times wider than the one below. An entry goes
+ * to the lowest level whose range reaches its deadline and cascades one level
+ * down each time the wheel reaches the start of its slot, so scheduling is
+ * O(1) and each tick only touches the slots that are due. Deadlines are
+ * rounded up to the next tick: entries never fire early, and at most one
+ * tick late.
+ *
+ * Not thread-safe; callers synchronize.
+ */
+public class HierarchicalTimerWheel<T> {
+
+    private static final int MAX_LEVELS = 8;
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final List<ArrayDeque<Entry<T>>[]> levels = new ArrayList<>();
+    private final List<T> overdue = new ArrayList<>();
+    private long currentTick;
+    private int size;
+
+    public HierarchicalTimerWheel(long tickMs, int wheelSize, long startMs) {
+        if (tickMs < 1 || wheelSize < 2) {
+            throw new IllegalArgumentException("tickMs must be >= 1 and wheelSize >= 2");
+        }
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.currentTick = startMs / tickMs;
+    }
+
+    /**
+     * Schedule {@code item} to fire at {@code deadlineMs}. A deadline that has
+     * already passed fires on the next {@link #advance}.
+     */
+    public void schedule(T item, long deadlineMs) {
+        size++;
+        insert(new Entry<>(item, Math.floorDiv(deadlineMs + tickMs - 1, tickMs)));
+    }
+
+    /**
+     * Move the wheel to {@code nowMs}, cascading higher levels as their slots
+     * come due.
+     *
+     * @return Items whose deadline is at or before {@code nowMs}
+     */
+    public List<T> advance(long nowMs) {
+        List<T> due = new ArrayList<>(overdue);
+        overdue.clear();
+        long targetTick = nowMs / tickMs;
+        while (currentTick < targetTick) {
+            currentTick++;
+            long span = 1;
+            for (int level = 1; level < levels.size(); level++) {
+                span *= wheelSize;
+            }
+            for (int level = levels.size() - 1; level > 0; level--) {
+                if (currentTick % span == 0) {
+                    ArrayDeque<Entry<T>> slot = levels.get(level)[(int) ((currentTick / span) % wheelSize)];
+                    List<Entry<T>> cascading = new ArrayList<>(slot);
+                    slot.clear();
+                    cascading.forEach(this::insert);
+                }
+                span /= wheelSize;
+            }
+            if (!levels.isEmpty()) {
+                ArrayDeque<Entry<T>> slot = levels.get(0)[(int) (currentTick % wheelSize)];
+                for (Entry<T> entry : slot) {
+                    due.add(entry.item());
+                }
+                slot.clear();
+            }
+            due.addAll(overdue);
+            overdue.clear();
+        }
+        size -= due.size();
+        return due;
+    }
+
+    /**
+     * Number of scheduled items that have not fired yet.
+     */
+    public int size() {
+        return size;
+    }
+
+    private void insert(Entry<T> entry) {
+        if (entry.tick() <= currentTick) {
+            overdue.add(entry.item());
+            return;
+        }
+        long span = 1;
+        for (int level = 0; level < MAX_LEVELS; level++) {
+            long slot = entry.tick() / span;
+            if (slot - currentTick / span < wheelSize || level == MAX_LEVELS - 1) {
+                slots(level)[(int) (slot % wheelSize)].add(entry);
+                return;
+            }
+            span *= wheelSize;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArrayDeque<Entry<T>>[] slots(int level) {
+        while (levels.size() <= level) {
+            ArrayDeque<Entry<T>>[] wheel = new ArrayDeque[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                wheel[i] = new ArrayDeque<>();
+            }
+            levels.add(wheel);
+        }
+        return levels.get(level);
+    }
+
+    private record Entry<T>(T item, long tick) {
+    }
+}
@@ -29,6 +29,7 @@ public class BookingMapper {
                 .checkInTime(booking.getCheckInTime())
                 .checkOutTime(booking.getCheckOutTime())
                 .status(booking.getStatus())
+                .holdExpiresAt(booking.getHoldExpiresAt())
                 .notes(booking.getNotes())
                 .createdAt(booking.getCreatedAt())
                 .updatedAt(booking.getUpdatedAt())
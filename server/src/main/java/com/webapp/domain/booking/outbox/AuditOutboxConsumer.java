@@ -0,0 +1,72 @@
+package com.webapp.domain.booking.outbox;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.webapp.domain.audit.service.AuditService.AuditAction;
+import com.webapp.domain.booking.entity.BookingOutboxEvent;
+import com.webapp.domain.booking.enums.BookingStatus;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Writes the audit log entries of booking changes in one JDBC batch.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuditOutboxConsumer implements BookingOutboxConsumer {
+
+    private final BookingBatchWriter batchWriter;
+
+    @Override
+    public String name() {
+        return "audit";
+    }
+
+    @Override
+    public void consume(List<BookingOutboxEvent> events) {
+        List<BookingBatchWriter.AuditRow> rows = new ArrayList<>(events.size());
+        for (BookingOutboxEvent event : events) {
+            rows.add(new BookingBatchWriter.AuditRow(
+                    event.getActorId(),
+                    action(event),
+                    entityType(event),
+                    event.getBookingId(),
+                    event.getIpAddress(),
+                    event.getUserAgent(),
+                    event.getRequestId()));
+        }
+        batchWriter.insertAuditLogs(rows);
+    }
+
+    private static AuditAction action(BookingOutboxEvent event) {
+        return switch (event.getType()) {
+            case CREATED -> AuditAction.BOOKING_CREATE;
+            case CHECKED_IN, CHECKED_OUT -> AuditAction.BOOKING_APPROVE;
+            case DELETED -> AuditAction.BOOKING_CANCEL;
+            case STATUS_CHANGED -> statusAction(event.getBookingStatus());
+        };
+    }
+
+    private static AuditAction statusAction(BookingStatus status) {
+        if (status == null) {
+            return AuditAction.ADMIN_ACTION;
+        }
+        return switch (status) {
+            case CONFIRMED -> AuditAction.BOOKING_APPROVE;
+            case REJECTED -> AuditAction.BOOKING_REJECT;
+            case CANCELLED -> AuditAction.BOOKING_CANCEL;
+            default -> AuditAction.ADMIN_ACTION;
+        };
+    }
+
+    private static String entityType(BookingOutboxEvent event) {
+        return switch (event.getType()) {
+            case CHECKED_IN -> "Booking CheckIn";
+            case CHECKED_OUT -> "Booking CheckOut";
+            default -> "Booking";
+        };
+    }
+}
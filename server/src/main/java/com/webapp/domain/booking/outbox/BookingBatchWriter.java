@@ -0,0 +1,145 @@
+package com.webapp.domain.booking.outbox;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.webapp.domain.audit.service.AuditService.AuditAction;
+import com.webapp.domain.booking.entity.Booking;
+import com.webapp.domain.finance.enums.EarningStatus;
+import com.webapp.domain.finance.enums.PaymentStatus;
+import com.webapp.domain.notification.enums.NotificationType;
+
+/**
+ * JDBC batch inserts for the side effects of booking changes, used by the
+ * outbox consumers.
+ *
+ * Earnings, payments, audit logs and notifications are keyed by IDENTITY
+ * columns, which keeps Hibernate from batching their inserts. These rows are
+ * written with {@link JdbcTemplate#batchUpdate} instead, in chunks of the
+ * configured {@code hibernate.jdbc.batch_size}, inside the caller's
+ * transaction.
+ */
+@Component
+public class BookingBatchWriter {
+
+    static final String INSERT_EARNING_SQL = "INSERT INTO earnings "
+            + "(user_id, booking_id, amount, commission, net_amount, status, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    static final String INSERT_PAYMENT_SQL = "INSERT INTO payments "
+            + "(user_id, booking_id, amount, status, payment_method, transaction_id, payment_date, created_at, "
+            + "updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    static final String INSERT_AUDIT_LOG_SQL = "INSERT INTO audit_logs "
+            + "(user_id, action, entity_type, entity_id, ip_address, user_agent, request_id, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    static final String INSERT_NOTIFICATION_SQL = "INSERT INTO notifications "
+            + "(user_id, type, title, message, is_read, action_url, icon, icon_color, booking_id, property_id, "
+            + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public BookingBatchWriter(JdbcTemplate jdbcTemplate,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * Pending landlord earnings for confirmed bookings, skipping those with
+     * nothing to earn as {@code FinanceService.recordEarning} does.
+     *
+     * @return number of earnings inserted
+     */
+    public int insertEarnings(List<Booking> bookings) {
+        List<Booking> earning = new ArrayList<>(bookings.size());
+        for (Booking booking : bookings) {
+            if (orZero(booking.getNetAmount()).compareTo(BigDecimal.ZERO) > 0) {
+                earning.add(booking);
+            }
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_EARNING_SQL, earning, batchSize, (ps, booking) -> {
+            ps.setLong(1, booking.getLandlord().getId());
+            ps.setLong(2, booking.getId());
+            ps.setBigDecimal(3, orZero(booking.getTotalPrice()));
+            ps.setBigDecimal(4, orZero(booking.getCommission()));
+            ps.setBigDecimal(5, booking.getNetAmount());
+            ps.setString(6, EarningStatus.PENDING.name());
+            ps.setTimestamp(7, now);
+            ps.setTimestamp(8, now);
+        });
+        return earning.size();
+    }
+
+    /**
+     * Completed tenant payments for confirmed bookings, matching
+     * {@code FinanceService.recordPayment}.
+     */
+    public void insertPayments(List<Booking> bookings) {
+        LocalDateTime paidAt = LocalDateTime.now();
+        Timestamp now = Timestamp.valueOf(paidAt);
+        long millis = System.currentTimeMillis();
+        jdbcTemplate.batchUpdate(INSERT_PAYMENT_SQL, bookings, batchSize, (ps, booking) -> {
+            ps.setLong(1, booking.getTenant().getId());
+            ps.setLong(2, booking.getId());
+            ps.setBigDecimal(3, orZero(booking.getTotalPrice()));
+            ps.setString(4, PaymentStatus.COMPLETED.name());
+            ps.setString(5, "CARD");
+            ps.setString(6, "TX-" + millis + "-" + booking.getId());
+            ps.setTimestamp(7, now);
+            ps.setTimestamp(8, now);
+            ps.setTimestamp(9, now);
+        });
+    }
+
+    public void insertAuditLogs(List<AuditRow> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_AUDIT_LOG_SQL, rows, batchSize, (ps, row) -> {
+            ps.setObject(1, row.userId());
+            ps.setString(2, row.action().name());
+            ps.setString(3, row.entityType());
+            ps.setLong(4, row.entityId());
+            ps.setString(5, row.ipAddress());
+            ps.setString(6, row.userAgent());
+            ps.setString(7, row.requestId());
+            ps.setTimestamp(8, now);
+        });
+    }
+
+    public void insertNotifications(List<NotificationRow> notifications) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_NOTIFICATION_SQL, notifications, batchSize, (ps, row) -> {
+            ps.setLong(1, row.userId());
+            ps.setString(2, row.type().name());
+            ps.setString(3, row.title());
+            ps.setString(4, row.message());
+            ps.setBoolean(5, false);
+            ps.setString(6, row.actionUrl());
+            ps.setString(7, row.type().getDefaultIcon());
+            ps.setString(8, row.type().getDefaultColor());
+            ps.setObject(9, row.bookingId());
+            ps.setObject(10, row.propertyId());
+            ps.setTimestamp(11, now);
+            ps.setTimestamp(12, now);
+        });
+    }
+
+    private static BigDecimal orZero(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+
+    public record AuditRow(Long userId, AuditAction action, String entityType, Long entityId, String ipAddress,
+            String userAgent, String requestId) {
+    }
+
+    public record NotificationRow(Long userId, NotificationType type, String title, String message,
+            String actionUrl, Long bookingId, Long propertyId) {
+    }
+}
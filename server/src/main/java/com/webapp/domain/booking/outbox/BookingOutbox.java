@@ -0,0 +1,110 @@
+package com.webapp.domain.booking.outbox;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.webapp.domain.booking.entity.Booking;
+import com.webapp.domain.booking.enums.BookingEventType;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Records booking changes in the {@code booking_outbox} table.
+ *
+ * Rows are inserted in the caller's transaction, so a change and its pending
+ * side effects commit or roll back together. Once the transaction commits, a
+ * {@link Recorded} event wakes the {@link BookingOutboxDispatcher}. The
+ * current request's id, client IP and user agent are stored with each row
+ * for the audit consumer, which runs outside the request.
+ */
+@Component
+public class BookingOutbox {
+
+    static final String INSERT_EVENT_SQL = "INSERT INTO booking_outbox "
+            + "(booking_id, event_type, booking_status, actor_id, request_id, ip_address, user_agent, attempts, "
+            + "created_at) VALUES (?, ?, ?, ?, ?, ?, ?, 0, ?)";
+
+    // Column lengths; client headers are cut to fit rather than failing the booking
+    private static final int MAX_REQUEST_ID_LENGTH = 50;
+    private static final int MAX_IP_ADDRESS_LENGTH = 45;
+    private static final int MAX_USER_AGENT_LENGTH = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+
+    public BookingOutbox(JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(BookingEventType type, Booking booking, Long actorId) {
+        recordAll(type, List.of(booking), actorId);
+    }
+
+    /**
+     * Record the same change for several bookings in JDBC batches.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(BookingEventType type, List<Booking> bookings, Long actorId) {
+        if (bookings.isEmpty()) {
+            return;
+        }
+        HttpServletRequest request = currentRequest();
+        String ipAddress = truncate(request != null ? clientIp(request) : null, MAX_IP_ADDRESS_LENGTH);
+        String userAgent = truncate(request != null ? request.getHeader("User-Agent") : null, MAX_USER_AGENT_LENGTH);
+        String requestId = truncate(MDC.get("requestId"), MAX_REQUEST_ID_LENGTH);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_EVENT_SQL, bookings, batchSize, (ps, booking) -> {
+            ps.setLong(1, booking.getId());
+            ps.setString(2, type.name());
+            ps.setString(3, booking.getStatus() != null ? booking.getStatus().name() : null);
+            ps.setObject(4, actorId);
+            ps.setString(5, requestId);
+            ps.setString(6, ipAddress);
+            ps.setString(7, userAgent);
+            ps.setTimestamp(8, now);
+        });
+        eventPublisher.publishEvent(new Recorded(type, bookings.size()));
+    }
+
+    private static HttpServletRequest currentRequest() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attrs) {
+            return attrs.getRequest();
+        }
+        return null;
+    }
+
+    private static String clientIp(HttpServletRequest request) {
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (forwardedFor != null && !forwardedFor.isEmpty()) {
+            return forwardedFor.split(",")[0].trim();
+        }
+        return request.getRemoteAddr();
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value == null || value.length() <= maxLength ? value : value.substring(0, maxLength);
+    }
+
+    /**
+     * Published when outbox rows are written; delivered after commit.
+     */
+    public record Recorded(BookingEventType type, int count) {
+    }
+}
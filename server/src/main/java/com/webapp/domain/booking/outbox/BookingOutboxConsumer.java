@@ -0,0 +1,26 @@
+package com.webapp.domain.booking.outbox;
+
+import java.util.List;
+
+import com.webapp.domain.booking.entity.BookingOutboxEvent;
+
+/**
+ * Side effect of booking changes, fed from the outbox in batches.
+ *
+ * Delivery is at-least-once: a batch can be handed over again after a
+ * failure or a crash before the dispatcher records completion, so
+ * implementations should tolerate seeing an event twice.
+ */
+public interface BookingOutboxConsumer {
+
+    /**
+     * Stable name stored with events this consumer has completed.
+     */
+    String name();
+
+    /**
+     * Handle a batch of events, ordered by id, in one transaction. Throwing
+     * rolls back the whole batch.
+     */
+    void consume(List<BookingOutboxEvent> events);
+}
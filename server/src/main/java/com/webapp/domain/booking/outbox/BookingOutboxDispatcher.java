@@ -0,0 +1,229 @@
+package com.webapp.domain.booking.outbox;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.webapp.domain.booking.entity.BookingOutboxEvent;
+import com.webapp.domain.booking.repository.BookingOutboxRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-process dispatcher for the booking outbox.
+ *
+ * A commit that recorded events wakes a single background thread, and a
+ * scheduled poll picks up anything left behind by failures or a restart.
+ * Each run takes due events in batches and hands every batch to each
+ * {@link BookingOutboxConsumer} in its own transaction. When a batch fails
+ * the consumer is retried per event, so one bad event does not hold back the
+ * rest; failed events are retried with exponential backoff until
+ * {@code max-attempts}, after which they stay in the table for inspection.
+ *
+ * An event is marked processed only after every consumer has completed it,
+ * in a transaction that commits after the consumers', which gives
+ * at-least-once delivery. Runs are serialized within an instance. Across
+ * instances, a batch is first leased with a conditional UPDATE in its own
+ * transaction, so each event is dispatched by one instance only; a lease
+ * left by a crashed instance expires after {@code lease-ms}, which must be
+ * longer than a batch takes to dispatch.
+ */
+@Component
+@Slf4j
+public class BookingOutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final BookingOutboxRepository outboxRepository;
+    private final List<BookingOutboxConsumer> consumers;
+    private final TransactionTemplate batchTransaction;
+    private final TransactionTemplate consumerTransaction;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+    private final long leaseMs;
+    private final int retentionDays;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "booking-outbox");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+
+    public BookingOutboxDispatcher(BookingOutboxRepository outboxRepository,
+            List<BookingOutboxConsumer> consumers,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.booking.outbox.batch-size:100}") int batchSize,
+            @Value("${app.booking.outbox.max-attempts:10}") int maxAttempts,
+            @Value("${app.booking.outbox.retry-backoff-ms:1000}") long retryBackoffMs,
+            @Value("${app.booking.outbox.lease-ms:300000}") long leaseMs,
+            @Value("${app.booking.outbox.retention-days:7}") int retentionDays) {
+        this.outboxRepository = outboxRepository;
+        this.consumers = consumers;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.consumerTransaction = new TransactionTemplate(transactionManager);
+        this.consumerTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMs = Math.max(0, retryBackoffMs);
+        this.leaseMs = Math.max(1, leaseMs);
+        this.retentionDays = retentionDays;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecorded(BookingOutbox.Recorded event) {
+        // Coalesce wake-ups: one queued run picks up everything committed so far
+        if (wakeUpPending.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                wakeUpPending.set(false);
+                dispatchSafely();
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.booking.outbox.poll-interval-ms:5000}")
+    public void poll() {
+        dispatchSafely();
+    }
+
+    @Scheduled(cron = "${app.booking.outbox.cleanup-cron:0 30 3 * * *}")
+    public void purgeProcessed() {
+        int deleted = batchTransaction.execute(
+                status -> outboxRepository.deleteProcessedBefore(LocalDateTime.now().minusDays(retentionDays)));
+        if (deleted > 0) {
+            log.info("Purged {} processed booking outbox events", deleted);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Dispatch due events until none are left or a batch makes no progress.
+     *
+     * @return number of events fully processed
+     */
+    public synchronized int dispatch() {
+        int processed = 0;
+        while (true) {
+            String token = UUID.randomUUID().toString();
+            int[] claim = batchTransaction.execute(status -> claimBatch(token));
+            int done = claim[1] == 0 ? 0 : batchTransaction.execute(status -> dispatchBatch(token));
+            processed += done;
+            if (claim[0] < batchSize || (claim[1] > 0 && done == 0)) {
+                return processed;
+            }
+        }
+    }
+
+    private void dispatchSafely() {
+        try {
+            int processed = dispatch();
+            if (processed > 0) {
+                log.debug("Dispatched {} booking outbox events", processed);
+            }
+        } catch (RuntimeException e) {
+            log.error("Booking outbox dispatch failed, will retry on next poll", e);
+        }
+    }
+
+    /**
+     * Lease the next due events to {@code token}. Events another instance
+     * leased in the meantime are left out.
+     *
+     * @return {events due, events claimed}
+     */
+    private int[] claimBatch(String token) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> due = outboxRepository.findDueIds(maxAttempts, now, PageRequest.of(0, batchSize));
+        if (due.isEmpty()) {
+            return new int[] { 0, 0 };
+        }
+        int claimed = outboxRepository.claim(due, token, now, now.plusNanos(leaseMs * 1_000_000));
+        return new int[] { due.size(), claimed };
+    }
+
+    /**
+     * @return number of events fully processed
+     */
+    private int dispatchBatch(String token) {
+        LocalDateTime now = LocalDateTime.now();
+        List<BookingOutboxEvent> batch = outboxRepository.findByClaimTokenOrderByIdAsc(token);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> failed = new HashSet<>();
+        for (BookingOutboxConsumer consumer : consumers) {
+            List<BookingOutboxEvent> pending = batch.stream()
+                    .filter(event -> !event.isCompletedBy(consumer.name()))
+                    .toList();
+            if (pending.isEmpty()) {
+                continue;
+            }
+            try {
+                consumerTransaction.executeWithoutResult(status -> consumer.consume(pending));
+                pending.forEach(event -> event.markCompletedBy(consumer.name()));
+            } catch (RuntimeException batchFailure) {
+                log.warn("Outbox consumer {} failed on a batch of {}, retrying per event: {}",
+                        consumer.name(), pending.size(), batchFailure.getMessage());
+                for (BookingOutboxEvent event : pending) {
+                    try {
+                        consumerTransaction.executeWithoutResult(status -> consumer.consume(List.of(event)));
+                        event.markCompletedBy(consumer.name());
+                    } catch (RuntimeException e) {
+                        failed.add(event.getId());
+                        event.setLastError(truncate(consumer.name() + ": " + e.getMessage()));
+                    }
+                }
+            }
+        }
+
+        int processed = 0;
+        for (BookingOutboxEvent event : batch) {
+            event.setClaimToken(null);
+            event.setClaimedUntil(null);
+            if (!failed.contains(event.getId())) {
+                event.setProcessedAt(now);
+                processed++;
+                continue;
+            }
+            event.setAttempts(event.getAttempts() + 1);
+            event.setNextAttemptAt(now.plusNanos(backoffMs(event.getAttempts()) * 1_000_000));
+            if (event.getAttempts() >= maxAttempts) {
+                log.error("Booking outbox event {} ({} for booking {}) gave up after {} attempts: {}",
+                        event.getId(), event.getType(), event.getBookingId(), event.getAttempts(),
+                        event.getLastError());
+            }
+        }
+        // Dirty events, leases released, flush as batched UPDATEs when this transaction commits
+        return processed;
+    }
+
+    private long backoffMs(int attempts) {
+        return retryBackoffMs << Math.min(attempts - 1, 16);
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,120 @@
+package com.webapp.domain.booking.outbox;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.webapp.domain.booking.entity.Booking;
+import com.webapp.domain.booking.entity.BookingOutboxEvent;
+import com.webapp.domain.booking.enums.BookingEventType;
+import com.webapp.domain.booking.enums.BookingStatus;
+import com.webapp.domain.booking.repository.BookingRepository;
+import com.webapp.domain.finance.repository.EarningRepository;
+import com.webapp.domain.finance.repository.PaymentRepository;
+import com.webapp.domain.finance.service.FinanceService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Finance records for booking changes.
+ *
+ * Confirmations get a pending earning and a completed payment, inserted in
+ * JDBC batches and skipped for bookings that already have them, so a
+ * redelivered event records nothing twice. The event only carries the status
+ * at the time it was written, so the booking is re-read and nothing is
+ * recorded unless it is still confirmed, or checked in or out since; a
+ * retry that runs after a cancellation books no money. Cancellations are refunded and
+ * check-outs release the earning afterwards, in event order, through
+ * {@link FinanceService}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FinanceOutboxConsumer implements BookingOutboxConsumer {
+
+    // Statuses a booking can have once its confirmation still stands
+    private static final Set<BookingStatus> CONFIRMED_STATUSES = EnumSet.of(BookingStatus.CONFIRMED,
+            BookingStatus.CHECKED_IN, BookingStatus.CHECKED_OUT, BookingStatus.COMPLETED);
+
+    private final BookingRepository bookingRepository;
+    private final EarningRepository earningRepository;
+    private final PaymentRepository paymentRepository;
+    private final FinanceService financeService;
+    private final BookingBatchWriter batchWriter;
+
+    @Override
+    public String name() {
+        return "finance";
+    }
+
+    @Override
+    public void consume(List<BookingOutboxEvent> events) {
+        Set<Long> bookingIds = new LinkedHashSet<>();
+        Set<Long> confirmedIds = new LinkedHashSet<>();
+        for (BookingOutboxEvent event : events) {
+            if (isConfirmation(event)) {
+                confirmedIds.add(event.getBookingId());
+                bookingIds.add(event.getBookingId());
+            } else if (isCancellation(event) || event.getType() == BookingEventType.CHECKED_OUT) {
+                bookingIds.add(event.getBookingId());
+            }
+        }
+        if (bookingIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Booking> bookings = new HashMap<>();
+        for (Booking booking : bookingRepository.findAllByIdIn(bookingIds)) {
+            bookings.put(booking.getId(), booking);
+        }
+
+        if (!confirmedIds.isEmpty()) {
+            Set<Long> withEarning = new HashSet<>(earningRepository.findBookingIdsIn(confirmedIds));
+            Set<Long> withPayment = new HashSet<>(paymentRepository.findBookingIdsIn(confirmedIds));
+            List<Booking> confirmed = confirmedIds.stream()
+                    .map(bookings::get)
+                    .filter(Objects::nonNull)
+                    .filter(booking -> CONFIRMED_STATUSES.contains(booking.getStatus()))
+                    .toList();
+            int earnings = batchWriter.insertEarnings(confirmed.stream()
+                    .filter(booking -> !withEarning.contains(booking.getId()))
+                    .toList());
+            List<Booking> unpaid = confirmed.stream()
+                    .filter(booking -> !withPayment.contains(booking.getId()))
+                    .toList();
+            batchWriter.insertPayments(unpaid);
+            log.debug("Recorded {} earnings and {} payments for {} confirmations", earnings, unpaid.size(),
+                    confirmed.size());
+        }
+
+        for (BookingOutboxEvent event : events) {
+            Booking booking = bookings.get(event.getBookingId());
+            if (booking == null) {
+                continue;
+            }
+            if (isCancellation(event)) {
+                financeService.refundBooking(booking);
+            } else if (event.getType() == BookingEventType.CHECKED_OUT) {
+                financeService.markEarningAvailable(booking);
+            }
+        }
+    }
+
+    private static boolean isConfirmation(BookingOutboxEvent event) {
+        return event.getType() == BookingEventType.STATUS_CHANGED
+                && event.getBookingStatus() == BookingStatus.CONFIRMED;
+    }
+
+    private static boolean isCancellation(BookingOutboxEvent event) {
+        return event.getType() == BookingEventType.STATUS_CHANGED
+                && event.getBookingStatus() == BookingStatus.CANCELLED;
+    }
+}
@@ -0,0 +1,114 @@
+package com.webapp.domain.booking.outbox;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.webapp.domain.booking.entity.Booking;
+import com.webapp.domain.booking.entity.BookingOutboxEvent;
+import com.webapp.domain.booking.enums.BookingEventType;
+import com.webapp.domain.booking.enums.BookingStatus;
+import com.webapp.domain.booking.repository.BookingRepository;
+import com.webapp.domain.notification.enums.NotificationType;
+import com.webapp.domain.user.entity.User;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Notifies the other party of booking changes: the landlord of a new
+ * request, the counterpart of the actor for status changes and check-in/out.
+ * Bookings are loaded in one query and notifications inserted in one JDBC
+ * batch; events whose booking no longer exists are skipped.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxConsumer implements BookingOutboxConsumer {
+
+    private final BookingRepository bookingRepository;
+    private final BookingBatchWriter batchWriter;
+
+    @Override
+    public String name() {
+        return "notification";
+    }
+
+    @Override
+    public void consume(List<BookingOutboxEvent> events) {
+        List<Long> bookingIds = events.stream()
+                .filter(event -> event.getType() != BookingEventType.DELETED)
+                .map(BookingOutboxEvent::getBookingId)
+                .distinct()
+                .toList();
+        if (bookingIds.isEmpty()) {
+            return;
+        }
+        Map<Long, Booking> bookings = new HashMap<>();
+        for (Booking booking : bookingRepository.findAllByIdIn(bookingIds)) {
+            bookings.put(booking.getId(), booking);
+        }
+
+        List<BookingBatchWriter.NotificationRow> rows = new ArrayList<>(events.size());
+        for (BookingOutboxEvent event : events) {
+            Booking booking = bookings.get(event.getBookingId());
+            if (booking != null && event.getType() != BookingEventType.DELETED) {
+                rows.add(notification(event, booking));
+            }
+        }
+        batchWriter.insertNotifications(rows);
+    }
+
+    private static BookingBatchWriter.NotificationRow notification(BookingOutboxEvent event, Booking booking) {
+        Long bookingId = booking.getId();
+        Long propertyId = booking.getProperty().getId();
+        String propertyTitle = booking.getProperty().getTitle();
+        Long otherParty = booking.getTenant().getId().equals(event.getActorId())
+                ? booking.getLandlord().getId()
+                : booking.getTenant().getId();
+
+        return switch (event.getType()) {
+            case CREATED -> {
+                User tenant = booking.getTenant();
+                yield new BookingBatchWriter.NotificationRow(
+                        booking.getLandlord().getId(),
+                        NotificationType.BOOKING_REQUEST,
+                        "New Booking Request",
+                        tenant.getFirstName() + " " + tenant.getLastName() + " wants to book your property: "
+                                + propertyTitle,
+                        "/dashboard/bookings",
+                        bookingId,
+                        propertyId);
+            }
+            case STATUS_CHANGED -> {
+                BookingStatus status = event.getBookingStatus();
+                yield new BookingBatchWriter.NotificationRow(
+                        otherParty,
+                        NotificationType.GENERAL,
+                        "Booking " + status.name(),
+                        "Your booking for " + propertyTitle + " has been " + status.name().toLowerCase(),
+                        "/dashboard/bookings",
+                        bookingId,
+                        propertyId);
+            }
+            case CHECKED_IN -> new BookingBatchWriter.NotificationRow(
+                    otherParty,
+                    NotificationType.GENERAL,
+                    "Check-in Confirmed",
+                    "Booking #" + bookingId + " status updated to CHECKED_IN",
+                    "/bookings/" + bookingId,
+                    bookingId,
+                    propertyId);
+            case CHECKED_OUT -> new BookingBatchWriter.NotificationRow(
+                    otherParty,
+                    NotificationType.GENERAL,
+                    "Check-out Confirmed",
+                    "Booking #" + bookingId + " status updated to CHECKED_OUT",
+                    "/bookings/" + bookingId,
+                    bookingId,
+                    propertyId);
+            case DELETED -> throw new IllegalArgumentException("Deleted bookings are not notified");
+        };
+    }
+}
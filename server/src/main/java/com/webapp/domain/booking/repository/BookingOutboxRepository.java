@@ -0,0 +1,48 @@
+package com.webapp.domain.booking.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.webapp.domain.booking.entity.BookingOutboxEvent;
+
+@Repository
+public interface BookingOutboxRepository extends JpaRepository<BookingOutboxEvent, Long> {
+
+        /**
+         * Ids of unprocessed, unleased events that are due and have attempts
+         * left, oldest first.
+         */
+        @Query("SELECT e.id FROM BookingOutboxEvent e WHERE e.processedAt IS NULL AND e.attempts < :maxAttempts "
+                        + "AND (e.nextAttemptAt IS NULL OR e.nextAttemptAt <= :now) "
+                        + "AND (e.claimedUntil IS NULL OR e.claimedUntil <= :now) ORDER BY e.id ASC")
+        List<Long> findDueIds(@Param("maxAttempts") int maxAttempts, @Param("now") LocalDateTime now,
+                        Pageable pageable);
+
+        /**
+         * Lease the given events to {@code token} until {@code until}. Only
+         * rows that are still unprocessed and unleased are taken, so of two
+         * instances racing for the same row exactly one updates it.
+         */
+        @Modifying
+        @Query("UPDATE BookingOutboxEvent e SET e.claimToken = :token, e.claimedUntil = :until "
+                        + "WHERE e.id IN :ids AND e.processedAt IS NULL "
+                        + "AND (e.claimedUntil IS NULL OR e.claimedUntil <= :now)")
+        int claim(@Param("ids") Collection<Long> ids, @Param("token") String token,
+                        @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+        List<BookingOutboxEvent> findByClaimTokenOrderByIdAsc(String claimToken);
+
+        long countByProcessedAtIsNull();
+
+        @Modifying
+        @Query("DELETE FROM BookingOutboxEvent e WHERE e.processedAt < :before")
+        int deleteProcessedBefore(@Param("before") LocalDateTime before);
+}
@@ -2,12 +2,14 @@ package com.webapp.domain.booking.repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -17,6 +19,8 @@ import com.webapp.domain.booking.entity.Booking;
 import com.webapp.domain.booking.enums.BookingStatus;
 import com.webapp.domain.user.entity.User;
 
+import jakarta.persistence.LockModeType;
+
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
 
@@ -32,6 +36,9 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
         @EntityGraph(attributePaths = { "property", "tenant", "landlord" })
         Page<Booking> findByLandlordAndStatus(User landlord, BookingStatus status, Pageable pageable);
 
+        @EntityGraph(attributePaths = { "property", "tenant", "landlord" })
+        List<Booking> findAllByIdIn(Collection<Long> ids);
+
         @Query("SELECT COUNT(b) FROM Booking b WHERE b.tenant.id = :tenantId AND b.status = :status")
         long countByTenantIdAndStatus(
                         @Param("tenantId") Long tenantId,
@@ -52,8 +59,37 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
         @Query("DELETE FROM Booking b WHERE b.tenant.id = :userId OR b.landlord.id = :userId")
         void deleteByUserId(@Param("userId") Long userId);
 
-        @org.springframework.data.jpa.repository.EntityGraph(attributePaths = { "property", "tenant", "landlord" })
-        List<Booking> findAllByTenantIdOrLandlordId(Long tenantId, Long landlordId);
+        /**
+         * Keyset page of a tenant's bookings ordered by (startDate DESC, id DESC),
+         * optionally in one status. Pass a null cursor for the first page and
+         * request size + 1 rows to detect a following page.
+         */
+        @EntityGraph(attributePaths = { "property", "tenant", "landlord" })
+        @Query("SELECT b FROM Booking b WHERE b.tenant.id = :tenantId AND "
+                        + "(:status IS NULL OR b.status = :status) AND "
+                        + "(:cursorId IS NULL OR b.startDate < :cursorStartDate OR "
+                        + "(b.startDate = :cursorStartDate AND b.id < :cursorId)) "
+                        + "ORDER BY b.startDate DESC, b.id DESC")
+        List<Booking> findTenantHistoryAfter(@Param("tenantId") Long tenantId,
+                        @Param("status") BookingStatus status,
+                        @Param("cursorStartDate") LocalDate cursorStartDate,
+                        @Param("cursorId") Long cursorId,
+                        Pageable pageable);
+
+        /**
+         * Landlord counterpart of {@link #findTenantHistoryAfter}.
+         */
+        @EntityGraph(attributePaths = { "property", "tenant", "landlord" })
+        @Query("SELECT b FROM Booking b WHERE b.landlord.id = :landlordId AND "
+                        + "(:status IS NULL OR b.status = :status) AND "
+                        + "(:cursorId IS NULL OR b.startDate < :cursorStartDate OR "
+                        + "(b.startDate = :cursorStartDate AND b.id < :cursorId)) "
+                        + "ORDER BY b.startDate DESC, b.id DESC")
+        List<Booking> findLandlordHistoryAfter(@Param("landlordId") Long landlordId,
+                        @Param("status") BookingStatus status,
+                        @Param("cursorStartDate") LocalDate cursorStartDate,
+                        @Param("cursorId") Long cursorId,
+                        Pageable pageable);
 
         @Query("SELECT COUNT(b) FROM Booking b WHERE b.landlord.id = :landlordId AND b.status = :status AND b.createdAt < :date")
         long countByLandlordIdAndStatusAndCreatedAtBefore(@Param("landlordId") Long landlordId,
@@ -102,6 +138,16 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
         boolean existsOverlapping(@Param("propertyId") Long propertyId, @Param("statuses") List<BookingStatus> statuses,
                         @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 
+        /**
+         * (property id, booking id, start date, end date) of bookings in the
+         * given statuses that have not ended before {@code from}, for the
+         * availability calendar index.
+         */
+        @Query("SELECT b.property.id, b.id, b.startDate, b.endDate FROM Booking b WHERE b.property IS NOT NULL "
+                        + "AND b.status IN :statuses AND b.endDate >= :from")
+        List<Object[]> findCalendarRows(@Param("statuses") List<BookingStatus> statuses,
+                        @Param("from") LocalDate from);
+
         @Query("SELECT b FROM Booking b LEFT JOIN FETCH b.tenant LEFT JOIN FETCH b.property WHERE b.landlord.id = :landlordId AND b.status = 'PENDING' ORDER BY b.createdAt DESC")
         List<Booking> findIncomingRequests(@Param("landlordId") Long landlordId, Pageable pageable);
 
@@ -139,4 +185,27 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
 
         @Query("SELECT b FROM Booking b WHERE b.landlord.id = :landlordId AND b.endDate >= CURRENT_DATE AND b.status IN (com.webapp.domain.booking.enums.BookingStatus.PENDING, com.webapp.domain.booking.enums.BookingStatus.CONFIRMED)")
         List<Booking> findFutureBookingsByLandlordId(@Param("landlordId") Long landlordId);
+
+        // Seat holds
+
+        /**
+         * Pending bookings among {@code ids} that still hold a seat, locked
+         * together with their seats so a concurrent confirmation cannot take
+         * a hold that is being expired.
+         */
+        @Lock(LockModeType.PESSIMISTIC_WRITE)
+        @Query("SELECT b FROM Booking b JOIN FETCH b.seat WHERE b.id IN :ids AND b.status = com.webapp.domain.booking.enums.BookingStatus.PENDING AND b.holdExpiresAt IS NOT NULL ORDER BY b.id")
+        List<Booking> findHeldByIdInForUpdate(@Param("ids") Collection<Long> ids);
+
+        /**
+         * {bookingId, holdExpiresAt} for every pending booking holding a seat.
+         */
+        @Query("SELECT b.id, b.holdExpiresAt FROM Booking b WHERE b.status = com.webapp.domain.booking.enums.BookingStatus.PENDING AND b.holdExpiresAt IS NOT NULL")
+        List<Object[]> findHoldExpiries();
+
+        /**
+         * Ids of pending bookings whose hold ran out before {@code before}.
+         */
+        @Query("SELECT b.id FROM Booking b WHERE b.status = com.webapp.domain.booking.enums.BookingStatus.PENDING AND b.holdExpiresAt < :before ORDER BY b.id")
+        List<Long> findHoldsExpiredBefore(@Param("before") LocalDateTime before, Pageable pageable);
 }
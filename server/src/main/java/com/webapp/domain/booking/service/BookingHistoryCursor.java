@@ -0,0 +1,57 @@
+package com.webapp.domain.booking.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import com.webapp.auth.exception.BadRequestException;
+import com.webapp.domain.booking.entity.Booking;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Opaque keyset cursor for booking history pages, ordered by
+ * (startDate DESC, id DESC).
+ *
+ * Encodes the start date and id of the last booking returned, so the next
+ * page is a single index range seek on (tenant or landlord, startDate, id)
+ * however deep the caller has paged.
+ */
+@Getter
+@AllArgsConstructor
+public class BookingHistoryCursor {
+
+    private final LocalDate startDate;
+    private final Long id;
+
+    public static BookingHistoryCursor after(Booking last) {
+        return new BookingHistoryCursor(last.getStartDate(), last.getId());
+    }
+
+    public String encode() {
+        String raw = startDate + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor produced by {@link #encode()}; null means "first page".
+     */
+    public static BookingHistoryCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            return new BookingHistoryCursor(LocalDate.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (BadRequestException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid cursor", e);
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package com.webapp.domain.booking.service;
 
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import com.webapp.domain.booking.dto.BookingCursorPage;
 import com.webapp.domain.booking.dto.BookingRequest;
 import com.webapp.domain.booking.dto.BookingResponse;
+import com.webapp.domain.booking.dto.BulkBookingStatusRequest;
+import com.webapp.domain.booking.dto.BulkBookingStatusResponse;
+import com.webapp.domain.booking.entity.Booking;
 import com.webapp.domain.booking.enums.BookingStatus;
 
 public interface BookingService {
@@ -15,10 +21,18 @@ public interface BookingService {
 
     BookingResponse updateBookingStatus(Long userId, Long bookingId, BookingStatus status);
 
+    BulkBookingStatusResponse bulkUpdateBookingStatus(Long userId, BulkBookingStatusRequest request); // As Landlord
+
+    void cancelBookings(Long actorId, List<Booking> bookings); // On behalf of the platform, e.g. account deletion
+
     Page<BookingResponse> getMyBookings(Long userId, Pageable pageable); // As Tenant
 
     Page<BookingResponse> getBookingsRequests(Long userId, Pageable pageable); // As Landlord
 
+    BookingCursorPage getMyBookingHistory(Long userId, BookingStatus status, String cursor, int size); // As Tenant
+
+    BookingCursorPage getLandlordBookingHistory(Long userId, BookingStatus status, String cursor, int size); // As Landlord
+
     void deleteBooking(Long userId, Long bookingId);
 
     BookingResponse checkIn(Long userId, Long bookingId);
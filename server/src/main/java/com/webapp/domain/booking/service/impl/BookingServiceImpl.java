@@ -1,25 +1,38 @@
 package com.webapp.domain.booking.service.impl;
 
 import java.time.LocalDateTime;
-
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.webapp.domain.audit.service.AuditService;
-import com.webapp.domain.audit.service.AuditService.AuditAction;
+import com.webapp.domain.booking.dto.BookingCursorPage;
 import com.webapp.domain.booking.dto.BookingRequest;
 import com.webapp.domain.booking.dto.BookingResponse;
+import com.webapp.domain.booking.dto.BulkBookingStatusRequest;
+import com.webapp.domain.booking.dto.BulkBookingStatusResponse;
 import com.webapp.domain.booking.entity.Booking;
+import com.webapp.domain.booking.enums.BookingEventType;
 import com.webapp.domain.booking.enums.BookingStatus;
+import com.webapp.domain.booking.event.BookingChangedEvent;
+import com.webapp.domain.booking.hold.BookingHolds;
 import com.webapp.domain.booking.mapper.BookingMapper;
+import com.webapp.domain.booking.outbox.BookingOutbox;
 import com.webapp.domain.booking.repository.BookingRepository;
+import com.webapp.domain.booking.service.BookingHistoryCursor;
 import com.webapp.domain.booking.service.BookingService;
-import com.webapp.domain.finance.service.FinanceService;
-import com.webapp.domain.notification.enums.NotificationType;
-import com.webapp.domain.notification.service.NotificationService;
+import com.webapp.domain.property.availability.PropertyCalendarIndex;
 import com.webapp.domain.property.entity.Seat;
+import com.webapp.domain.property.event.PropertyChangedEvent;
 import com.webapp.domain.property.repository.PropertyRepository;
 import com.webapp.domain.property.service.SeatService;
 import com.webapp.domain.user.entity.User;
@@ -35,6 +48,10 @@ import lombok.extern.slf4j.Slf4j;
  * CRITICAL: When a booking is CONFIRMED, a seat is atomically blocked.
  * When a booking is CANCELLED, the seat is released.
  * This prevents overbooking and race conditions.
+ *
+ * Audit logs, notifications and finance records are not written here: each
+ * change records a {@link BookingOutbox} event in the same transaction, and
+ * the outbox consumers apply them in batches after commit.
  */
 @Service
 @RequiredArgsConstructor
@@ -45,11 +62,12 @@ public class BookingServiceImpl implements BookingService {
     private final UserService userService;
     private final PropertyRepository propertyRepository;
     private final BookingMapper bookingMapper;
-    private final AuditService auditService;
-    private final NotificationService notificationService;
     private final VerificationService verificationService;
-    private final FinanceService financeService;
     private final SeatService seatService;
+    private final PropertyCalendarIndex calendarIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BookingOutbox outbox;
+    private final BookingHolds holds;
 
     @Override
     @Transactional
@@ -69,10 +87,16 @@ public class BookingServiceImpl implements BookingService {
             throw new IllegalArgumentException("You cannot book your own property");
         }
 
-        // Check for overlapping bookings
+        // Fast reject from the calendar index (confirmed bookings and blocked periods);
+        // it is updated after commit, so it can lag behind the database
+        if (!calendarIndex.isFree(property.getId(), request.getStartDate(), request.getEndDate())) {
+            throw new IllegalStateException("Property is already booked for these dates");
+        }
+
+        // Authoritative check against the database, inside this transaction
         boolean hasOverlap = bookingRepository.existsOverlapping(
                 property.getId(),
-                java.util.List.of(BookingStatus.CONFIRMED),
+                List.of(BookingStatus.CONFIRMED),
                 request.getStartDate(),
                 request.getEndDate());
 
@@ -107,22 +131,14 @@ public class BookingServiceImpl implements BookingService {
                 .totalPrice(totalPrice)
                 .commission(commission)
                 .netAmount(netAmount)
-                // seat is NULL at creation - assigned on approval
+                // seat is NULL at creation - held below when holds are enabled, else assigned on approval
                 .build();
 
         Booking savedBooking = bookingRepository.save(booking);
+        holds.place(savedBooking);
 
-        // Audit log
-        auditService.log(userId, AuditAction.BOOKING_CREATE, "Booking", savedBooking.getId());
-
-        // Notify landlord about new booking request
-        notificationService.createNotificationForUser(
-                landlord.getId(),
-                NotificationType.BOOKING_REQUEST,
-                "New Booking Request",
-                tenant.getFirstName() + " " + tenant.getLastName() + " wants to book your property: "
-                        + property.getTitle(),
-                "/dashboard/bookings");
+        // Audit log and landlord notification are written from the outbox after commit
+        outbox.record(BookingEventType.CREATED, savedBooking, userId);
 
         return bookingMapper.toResponse(savedBooking);
     }
@@ -138,9 +154,10 @@ public class BookingServiceImpl implements BookingService {
     /**
      * Update booking status with atomic seat management.
      *
-     * CONFIRMED: Block a seat atomically (prevents overbooking)
-     * CANCELLED: Release the seat if one was assigned
-     * REJECTED: No seat changes (seat was never assigned)
+     * CONFIRMED: Block a seat atomically (prevents overbooking), or occupy the held one
+     * CANCELLED: Release the seat if one was assigned or held
+     * REJECTED: Release the held seat, if any
+     * EXPIRED bookings cannot change status.
      */
     @Override
     @Transactional
@@ -162,6 +179,15 @@ public class BookingServiceImpl implements BookingService {
             }
         }
 
+        if (booking.getStatus() == BookingStatus.EXPIRED) {
+            throw new IllegalStateException("Booking hold has expired");
+        }
+
+        // A held seat goes back unless the booking is confirmed
+        if (status != BookingStatus.CONFIRMED) {
+            holds.release(List.of(booking));
+        }
+
         // Handle status-specific logic
         if (status == BookingStatus.CONFIRMED) {
             handleBookingConfirmation(booking);
@@ -171,27 +197,156 @@ public class BookingServiceImpl implements BookingService {
 
         booking.setStatus(status);
         Booking savedBooking = bookingRepository.save(booking);
+        eventPublisher.publishEvent(BookingChangedEvent.saved(savedBooking));
 
-        // Audit log based on status
-        AuditAction action = switch (status) {
-            case CONFIRMED -> AuditAction.BOOKING_APPROVE;
-            case REJECTED -> AuditAction.BOOKING_REJECT;
-            case CANCELLED -> AuditAction.BOOKING_CANCEL;
-            default -> AuditAction.ADMIN_ACTION;
-        };
-        auditService.log(userId, action, "Booking", bookingId);
-
-        // Notify relevant party
-        notifyStatusChange(booking, status, userId);
+        // Audit log, notification and finance records follow from the outbox
+        outbox.record(BookingEventType.STATUS_CHANGED, savedBooking, userId);
 
         return bookingMapper.toResponse(savedBooking);
     }
 
+    /**
+     * Confirm or reject many of a landlord's bookings in one transaction.
+     *
+     * Bookings that are missing, owned by another landlord, no longer PENDING
+     * or (on confirmation) left without a free seat are reported as failed
+     * and left untouched; the rest are updated together. Seats for every
+     * confirmation come from one locked read, and the outbox rows for the
+     * audit, notification and finance consumers are inserted in JDBC batches.
+     */
+    @Override
+    @Transactional
+    public BulkBookingStatusResponse bulkUpdateBookingStatus(Long userId, BulkBookingStatusRequest request) {
+        BookingStatus status = request.getStatus();
+        if (status != BookingStatus.CONFIRMED && status != BookingStatus.REJECTED) {
+            throw new IllegalArgumentException("Bulk updates only support CONFIRMED or REJECTED");
+        }
+
+        List<Long> bookingIds = request.getBookingIds().stream().filter(Objects::nonNull).distinct().toList();
+        Map<Long, Booking> bookings = new HashMap<>();
+        for (Booking booking : bookingRepository.findAllByIdIn(bookingIds)) {
+            bookings.put(booking.getId(), booking);
+        }
+
+        log.info("Bulk updating {} bookings to {} by user {}", bookingIds.size(), status, userId);
+
+        Map<Long, String> errors = new LinkedHashMap<>();
+        List<Booking> eligible = new ArrayList<>();
+        for (Long bookingId : bookingIds) {
+            Booking booking = bookings.get(bookingId);
+            if (booking == null) {
+                errors.put(bookingId, "Booking not found");
+            } else if (!booking.getLandlord().getId().equals(userId)) {
+                errors.put(bookingId, "Only landlord can confirm/reject booking");
+            } else if (booking.getStatus() != BookingStatus.PENDING) {
+                errors.put(bookingId, "Booking is " + booking.getStatus() + ", not PENDING");
+            } else {
+                eligible.add(booking);
+            }
+        }
+
+        List<Booking> updated = eligible;
+        if (status == BookingStatus.CONFIRMED) {
+            updated = handleBulkConfirmation(eligible, errors);
+        } else {
+            holds.release(eligible);
+        }
+
+        for (Booking booking : updated) {
+            // Flushed with the transaction as batched UPDATEs
+            booking.setStatus(status);
+            eventPublisher.publishEvent(BookingChangedEvent.saved(booking));
+        }
+        outbox.recordAll(BookingEventType.STATUS_CHANGED, updated, userId);
+
+        List<BulkBookingStatusResponse.Result> results = new ArrayList<>(bookingIds.size());
+        for (Long bookingId : bookingIds) {
+            String error = errors.get(bookingId);
+            Booking booking = bookings.get(bookingId);
+            results.add(BulkBookingStatusResponse.Result.builder()
+                    .bookingId(bookingId)
+                    .success(error == null)
+                    .status(booking != null ? booking.getStatus() : null)
+                    .seatId(error == null && booking.getSeat() != null ? booking.getSeat().getId() : null)
+                    .error(error)
+                    .build());
+        }
+
+        log.info("Bulk {} by user {}: {} updated, {} failed", status, userId, updated.size(), errors.size());
+
+        return BulkBookingStatusResponse.builder()
+                .status(status)
+                .updated(updated.size())
+                .failed(errors.size())
+                .results(results)
+                .build();
+    }
+
+    /**
+     * Cancel bookings without an authorization check, for changes the
+     * platform makes itself such as deleting an account. Held and assigned
+     * seats are released exactly as in {@link #updateBookingStatus}.
+     */
+    @Override
+    @Transactional
+    public void cancelBookings(Long actorId, List<Booking> bookings) {
+        List<Booking> cancellable = bookings.stream()
+                .filter(booking -> booking.getStatus() == BookingStatus.PENDING
+                        || booking.getStatus() == BookingStatus.CONFIRMED)
+                .toList();
+        if (cancellable.isEmpty()) {
+            return;
+        }
+
+        holds.release(cancellable);
+        for (Booking booking : cancellable) {
+            handleBookingCancellation(booking);
+            // Flushed with the transaction as batched UPDATEs
+            booking.setStatus(BookingStatus.CANCELLED);
+            eventPublisher.publishEvent(BookingChangedEvent.saved(booking));
+        }
+        outbox.recordAll(BookingEventType.STATUS_CHANGED, cancellable, actorId);
+
+        log.info("Cancelled {} bookings on behalf of user {}", cancellable.size(), actorId);
+    }
+
+    /**
+     * Bulk counterpart of {@link #handleBookingConfirmation}: seats for all
+     * bookings in one pass and each property marked RENTED. Bookings that get
+     * no seat are added to {@code errors}.
+     *
+     * @return the bookings that were given a seat
+     */
+    private List<Booking> handleBulkConfirmation(List<Booking> bookings, Map<Long, String> errors) {
+        Map<Long, Seat> seats = seatService.blockSeatsForBookings(bookings);
+
+        List<Booking> confirmed = new ArrayList<>(seats.size());
+        for (Booking booking : bookings) {
+            Seat seat = seats.get(booking.getId());
+            if (seat == null) {
+                errors.put(booking.getId(), "No seats available for this property. Cannot approve booking.");
+                continue;
+            }
+            booking.setSeat(seat);
+            booking.setHoldExpiresAt(null);
+            confirmed.add(booking);
+
+            com.webapp.domain.property.entity.Property property = booking.getProperty();
+            if (property.getStatus() != com.webapp.domain.property.enums.PropertyStatus.RENTED) {
+                property.setStatus(com.webapp.domain.property.enums.PropertyStatus.RENTED);
+                eventPublisher.publishEvent(PropertyChangedEvent.saved(property));
+                log.info("Property {} status set to RENTED (Booking Confirmed)", property.getId());
+            }
+        }
+
+        return confirmed;
+    }
+
     /**
      * Handle booking confirmation: block seat atomically.
      *
      * CRITICAL TRANSACTION:
-     * 1. Acquire pessimistic lock on available seat
+     * 1. Acquire pessimistic lock on the held seat, or else an available one
      * 2. Set seat status to OCCUPIED
      * 3. Link seat to booking
      * 4. Update property status
@@ -204,6 +359,7 @@ public class BookingServiceImpl implements BookingService {
         // Atomically block a seat (throws if none available)
         Seat seat = seatService.blockSeatForBooking(booking);
         booking.setSeat(seat);
+        booking.setHoldExpiresAt(null);
 
         // Update property status
         com.webapp.domain.property.entity.Property property = booking.getProperty();
@@ -215,13 +371,11 @@ public class BookingServiceImpl implements BookingService {
         // Assuming search filters by 'availableBeds > 0' rather than just status.
         if (property.getStatus() != com.webapp.domain.property.enums.PropertyStatus.RENTED) {
             property.setStatus(com.webapp.domain.property.enums.PropertyStatus.RENTED);
-            propertyRepository.save(property);
+            eventPublisher.publishEvent(PropertyChangedEvent.saved(propertyRepository.save(property)));
             log.info("Property {} status set to RENTED (Booking Confirmed)", property.getId());
         }
 
-        // Record financial transactions
-        financeService.recordEarning(booking);
-        financeService.recordPayment(booking);
+        // Earning and payment are recorded by the outbox finance consumer
 
         log.info("Booking {} confirmed with seat {} (label: {})",
                 booking.getId(), seat.getId(), seat.getLabel());
@@ -242,7 +396,7 @@ public class BookingServiceImpl implements BookingService {
             com.webapp.domain.property.entity.Property property = booking.getProperty();
             if (property.getStatus() == com.webapp.domain.property.enums.PropertyStatus.RENTED) {
                 property.setStatus(com.webapp.domain.property.enums.PropertyStatus.APPROVED);
-                propertyRepository.save(property);
+                eventPublisher.publishEvent(PropertyChangedEvent.saved(propertyRepository.save(property)));
                 log.info("Property {} status restored to APPROVED after seat release", property.getId());
             }
 
@@ -251,26 +405,7 @@ public class BookingServiceImpl implements BookingService {
             log.debug("Booking {} had no seat assigned, nothing to release", booking.getId());
         }
 
-        // Trigger Financial Refund Logic
-        financeService.refundBooking(booking);
-        log.info("Financial refund processed for booking {}", booking.getId());
-    }
-
-    private void notifyStatusChange(Booking booking, BookingStatus status, Long actorUserId) {
-        Long notifyUserId = booking.getTenant().getId().equals(actorUserId)
-                ? booking.getLandlord().getId()
-                : booking.getTenant().getId();
-
-        String title = "Booking " + status.name();
-        String message = "Your booking for " + booking.getProperty().getTitle() + " has been "
-                + status.name().toLowerCase();
-
-        notificationService.createNotificationForUser(
-                notifyUserId,
-                NotificationType.GENERAL,
-                title,
-                message,
-                "/dashboard/bookings");
+        // The refund is processed by the outbox finance consumer
     }
 
     @Override
@@ -287,6 +422,38 @@ public class BookingServiceImpl implements BookingService {
         return bookingRepository.findByLandlord(landlord, pageable).map(bookingMapper::toResponse);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public BookingCursorPage getMyBookingHistory(Long userId, BookingStatus status, String cursor, int size) {
+        BookingHistoryCursor after = BookingHistoryCursor.decode(cursor);
+        return toCursorPage(bookingRepository.findTenantHistoryAfter(userId, status,
+                after != null ? after.getStartDate() : null, after != null ? after.getId() : null,
+                PageRequest.of(0, size + 1)), size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BookingCursorPage getLandlordBookingHistory(Long userId, BookingStatus status, String cursor, int size) {
+        BookingHistoryCursor after = BookingHistoryCursor.decode(cursor);
+        return toCursorPage(bookingRepository.findLandlordHistoryAfter(userId, status,
+                after != null ? after.getStartDate() : null, after != null ? after.getId() : null,
+                PageRequest.of(0, size + 1)), size);
+    }
+
+    /**
+     * Trim the extra row fetched to detect a following page.
+     */
+    private BookingCursorPage toCursorPage(List<Booking> rows, int size) {
+        boolean hasMore = rows.size() > size;
+        List<Booking> page = hasMore ? rows.subList(0, size) : rows;
+        return BookingCursorPage.builder()
+                .items(page.stream().map(bookingMapper::toResponse).toList())
+                .nextCursor(hasMore ? BookingHistoryCursor.after(page.get(size - 1)).encode() : null)
+                .hasMore(hasMore)
+                .size(page.size())
+                .build();
+    }
+
     @Override
     @Transactional
     public void deleteBooking(Long userId, Long bookingId) {
@@ -303,9 +470,10 @@ public class BookingServiceImpl implements BookingService {
         }
 
         bookingRepository.delete(booking);
+        eventPublisher.publishEvent(BookingChangedEvent.deleted(booking));
 
         // Audit log
-        auditService.log(userId, AuditAction.BOOKING_CANCEL, "Booking", bookingId);
+        outbox.record(BookingEventType.DELETED, booking, userId);
     }
 
     @Override
@@ -326,19 +494,10 @@ public class BookingServiceImpl implements BookingService {
         booking.setCheckInTime(LocalDateTime.now());
 
         Booking saved = bookingRepository.save(booking);
+        eventPublisher.publishEvent(BookingChangedEvent.saved(saved));
 
-        auditService.log(userId, AuditAction.BOOKING_APPROVE, "Booking CheckIn", bookingId);
-
-        // Notify other party
-        Long notifyUserId = booking.getTenant().getId().equals(userId) ? booking.getLandlord().getId()
-                : booking.getTenant().getId();
-
-        notificationService.createNotificationForUser(
-                notifyUserId,
-                NotificationType.GENERAL,
-                "Check-in Confirmed",
-                "Booking #" + bookingId + " status updated to CHECKED_IN",
-                "/bookings/" + bookingId);
+        // Audit log and other party's notification
+        outbox.record(BookingEventType.CHECKED_IN, saved, userId);
 
         return bookingMapper.toResponse(saved);
     }
@@ -369,27 +528,15 @@ public class BookingServiceImpl implements BookingService {
             com.webapp.domain.property.entity.Property property = booking.getProperty();
             if (property.getStatus() == com.webapp.domain.property.enums.PropertyStatus.RENTED) {
                 property.setStatus(com.webapp.domain.property.enums.PropertyStatus.APPROVED);
-                propertyRepository.save(property);
+                eventPublisher.publishEvent(PropertyChangedEvent.saved(propertyRepository.save(property)));
             }
         }
 
         Booking saved = bookingRepository.save(booking);
+        eventPublisher.publishEvent(BookingChangedEvent.saved(saved));
 
-        auditService.log(userId, AuditAction.BOOKING_APPROVE, "Booking CheckOut", bookingId);
-
-        // Funds become available
-        financeService.markEarningAvailable(booking);
-
-        // Notify other party
-        Long notifyUserId = booking.getTenant().getId().equals(userId) ? booking.getLandlord().getId()
-                : booking.getTenant().getId();
-
-        notificationService.createNotificationForUser(
-                notifyUserId,
-                NotificationType.GENERAL,
-                "Check-out Confirmed",
-                "Booking #" + bookingId + " status updated to CHECKED_OUT",
-                "/bookings/" + bookingId);
+        // Audit log, notification and release of the earning
+        outbox.record(BookingEventType.CHECKED_OUT, saved, userId);
 
         return bookingMapper.toResponse(saved);
     }
@@ -1,14 +1,18 @@
 package com.webapp.domain.dashboard.controller;
 
+import java.util.List;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.webapp.auth.security.UserPrincipal;
 import com.webapp.domain.dashboard.dto.AdminDashboardDTO;
+import com.webapp.domain.dashboard.dto.DailyViewCount;
 import com.webapp.domain.dashboard.dto.DashboardStats;
 import com.webapp.domain.dashboard.dto.LandlordDashboardDTO;
 import com.webapp.domain.dashboard.dto.UserDashboardDTO;
@@ -47,6 +51,15 @@ public class DashboardController {
         return ResponseEntity.ok(dashboardService.getLandlordDashboard(user));
     }
 
+    @GetMapping("/landlord/views")
+    @PreAuthorize("hasRole('HOUSE_OWNER')")
+    public ResponseEntity<List<DailyViewCount>> getLandlordDailyViews(
+            @AuthenticationPrincipal UserPrincipal currentUser,
+            @RequestParam(defaultValue = "30") int days) {
+        User user = userService.getUserById(currentUser.getId());
+        return ResponseEntity.ok(dashboardService.getLandlordDailyViews(user, Math.min(days, 365)));
+    }
+
     @GetMapping("/user")
     @PreAuthorize("hasRole('USER')")
     public ResponseEntity<UserDashboardDTO> getUserDashboard(@AuthenticationPrincipal UserPrincipal currentUser) {
@@ -0,0 +1,17 @@
+package com.webapp.domain.dashboard.dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyViewCount {
+    private LocalDate date;
+    private long views;
+}
@@ -1,6 +1,9 @@
 package com.webapp.domain.dashboard.service;
 
+import java.util.List;
+
 import com.webapp.domain.dashboard.dto.AdminDashboardDTO;
+import com.webapp.domain.dashboard.dto.DailyViewCount;
 import com.webapp.domain.dashboard.dto.DashboardStats;
 import com.webapp.domain.dashboard.dto.LandlordDashboardDTO;
 import com.webapp.domain.dashboard.dto.UserDashboardDTO;
@@ -13,5 +16,7 @@ public interface DashboardService {
 
     LandlordDashboardDTO getLandlordDashboard(User user);
 
+    List<DailyViewCount> getLandlordDailyViews(User user, int days);
+
     UserDashboardDTO getUserDashboard(User user);
 }
@@ -49,6 +49,7 @@ public class DashboardServiceImpl implements DashboardService {
         private final com.webapp.domain.roommate.RoommateService roommateService;
         private final com.webapp.domain.verification.repository.VerificationRequestRepository verificationRequestRepository;
         private final com.webapp.domain.dashboard.repository.ExpenseRepository expenseRepository;
+        private final com.webapp.domain.property.repository.PropertyViewDailyRepository propertyViewDailyRepository;
 
         // Existing strategies (keeping for legacy support)
         private final List<DashboardStrategy> strategies;
@@ -220,6 +221,30 @@ public class DashboardServiceImpl implements DashboardService {
                                 .build();
         }
 
+        /**
+         * Daily detail-page views across the landlord's listings for the last
+         * {@code days} days (today included), zero-filled for days without views.
+         */
+        @Override
+        public List<com.webapp.domain.dashboard.dto.DailyViewCount> getLandlordDailyViews(User user, int days) {
+                java.time.LocalDate today = java.time.LocalDate.now();
+                java.time.LocalDate from = today.minusDays(Math.max(days, 1) - 1L);
+
+                Map<java.time.LocalDate, Long> byDate = new java.util.HashMap<>();
+                for (Object[] row : propertyViewDailyRepository.sumDailyViewsByOwnerId(user.getId(), from)) {
+                        byDate.put((java.time.LocalDate) row[0], ((Number) row[1]).longValue());
+                }
+
+                List<com.webapp.domain.dashboard.dto.DailyViewCount> series = new java.util.ArrayList<>();
+                for (java.time.LocalDate date = from; !date.isAfter(today); date = date.plusDays(1)) {
+                        series.add(com.webapp.domain.dashboard.dto.DailyViewCount.builder()
+                                        .date(date)
+                                        .views(byDate.getOrDefault(date, 0L))
+                                        .build());
+                }
+                return series;
+        }
+
         @Override
         public LandlordDashboardDTO getLandlordDashboard(User user) {
                 // Use CompletableFuture to run independent queries in parallel
@@ -309,9 +334,7 @@ public class DashboardServiceImpl implements DashboardService {
                                 .searchProperties(null, null, null, null, null, null,
                                                 java.util.List.of(
                                                                 com.webapp.domain.property.enums.PropertyStatus.APPROVED,
-                                                                com.webapp.domain.property.enums.PropertyStatus.ACTIVE),
-                                                java.util.Collections.emptyList(),
-                                                0L)
+                                                                com.webapp.domain.property.enums.PropertyStatus.ACTIVE))
                                 .stream().limit(3)
                                 .map(p -> com.webapp.domain.property.dto.PropertyResponse.builder()
                                                 .id(p.getId())
@@ -19,6 +19,9 @@ public interface EarningRepository extends JpaRepository<Earning, Long> {
 
         Optional<Earning> findByBooking(com.webapp.domain.booking.entity.Booking booking);
 
+        @Query("SELECT e.booking.id FROM Earning e WHERE e.booking.id IN :bookingIds")
+        List<Long> findBookingIdsIn(@org.springframework.data.repository.query.Param("bookingIds") java.util.Collection<Long> bookingIds);
+
         List<Earning> findByUserIdAndStatus(Long userId, EarningStatus status);
 
         @Query("SELECT SUM(e.netAmount) FROM Earning e WHERE e.user.id = :userId AND e.status = :status")
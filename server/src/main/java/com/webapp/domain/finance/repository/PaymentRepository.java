@@ -15,6 +15,9 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
   Optional<Payment> findByBookingId(Long bookingId);
 
+  @org.springframework.data.jpa.repository.Query("SELECT p.booking.id FROM Payment p WHERE p.booking.id IN :bookingIds")
+  java.util.List<Long> findBookingIdsIn(@org.springframework.data.repository.query.Param("bookingIds") java.util.Collection<Long> bookingIds);
+
   @org.springframework.data.jpa.repository.Query("SELECT SUM(p.amount) FROM Payment p WHERE p.user.id = :userId AND p.status = 'COMPLETED'")
   java.math.BigDecimal sumTotalSpentByUserId(Long userId);
 }
@@ -16,6 +16,7 @@ public class PropertySeatSummaryDto {
   private int totalBeds;
   private int occupiedBeds;
   private int availableBeds;
+  private int blockedBeds;
   private List<SeatDto> seats;
   private String imageUrl;
   private String status; // "Vacant" or "Booked"
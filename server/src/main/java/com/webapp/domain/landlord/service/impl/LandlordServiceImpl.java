@@ -1,7 +1,9 @@
 package com.webapp.domain.landlord.service.impl;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
@@ -17,11 +19,13 @@ import com.webapp.domain.landlord.dto.LandlordOverviewDto;
 import com.webapp.domain.landlord.dto.PropertySeatSummaryDto;
 import com.webapp.domain.landlord.service.LandlordService;
 import com.webapp.domain.property.dto.SeatDto;
+import com.webapp.domain.property.dto.SeatOccupancyDto;
 import com.webapp.domain.property.entity.Property;
 import com.webapp.domain.property.entity.Seat;
 import com.webapp.domain.property.enums.SeatStatus;
 import com.webapp.domain.property.repository.PropertyRepository;
 import com.webapp.domain.property.repository.SeatRepository;
+import com.webapp.domain.property.service.SeatService;
 import com.webapp.domain.review.repository.ReviewRepository;
 import com.webapp.domain.user.entity.User;
 
@@ -34,6 +38,7 @@ public class LandlordServiceImpl implements LandlordService {
   private final PropertyRepository propertyRepository;
   private final BookingRepository bookingRepository;
   private final SeatRepository seatRepository;
+  private final SeatService seatService;
   private final ReviewRepository reviewRepository;
   private final EarningRepository earningRepository;
   private final PayoutRequestRepository payoutRequestRepository;
@@ -86,67 +91,48 @@ public class LandlordServiceImpl implements LandlordService {
   }
 
   @Override
-  @Transactional
+  @Transactional(readOnly = true)
   public List<PropertySeatSummaryDto> getPropertySummaries(User landlord) {
     List<Property> properties = propertyRepository.findAllByOwnerId(landlord.getId());
     List<PropertySeatSummaryDto> summaries = new ArrayList<>();
 
-    for (Property p : properties) {
-      // Lazy Seat Creation
-      List<Seat> seats = seatRepository.findByPropertyId(p.getId());
-      if (seats.isEmpty() && p.getBeds() > 0) {
-        for (int i = 1; i <= p.getBeds(); i++) {
-          Seat s = Seat.builder()
-              .property(p)
-              .label("Bed " + i)
-              .status(SeatStatus.AVAILABLE)
-              .build();
-          seats.add(seatRepository.save(s));
-        }
-      } else if (seats.size() < p.getBeds()) {
-        // Sync if beds increased
-        for (int i = seats.size() + 1; i <= p.getBeds(); i++) {
-          Seat s = Seat.builder()
-              .property(p)
-              .label("Bed " + i)
-              .status(SeatStatus.AVAILABLE)
-              .build();
-          seats.add(seatRepository.save(s));
-        }
+    List<Long> propertyIds = properties.stream().map(Property::getId).collect(Collectors.toList());
+
+    // Optimization: one seat query and one counter lookup for the whole
+    // portfolio instead of seats and active bookings per property
+    Map<Long, List<Seat>> seatsByProperty = new HashMap<>();
+    if (!propertyIds.isEmpty()) {
+      for (Seat s : seatRepository.findByPropertyIdInOrderByIdAsc(propertyIds)) {
+        seatsByProperty.computeIfAbsent(s.getProperty().getId(), k -> new ArrayList<>()).add(s);
       }
+    }
 
-      // Calculate Status
-      List<Booking> activeBookings = bookingRepository.findActiveBookingsByPropertyId(p.getId());
-      int occupiedCount = activeBookings.size();
+    // Seats are provisioned when a property is saved and by SeatProvisioningJob,
+    // never here
+    Map<Long, SeatOccupancyDto> occupancy = seatService.getOccupancyByOwner(landlord.getId());
 
+    for (Property p : properties) {
       List<SeatDto> seatDtos = new ArrayList<>();
-      for (int i = 0; i < seats.size(); i++) {
-        Seat s = seats.get(i);
-        boolean isVirtualOccupied = (i < occupiedCount);
-
+      for (Seat s : seatsByProperty.getOrDefault(p.getId(), List.of())) {
         seatDtos.add(SeatDto.builder()
             .id(s.getId())
             .label(s.getLabel())
             .status(s.getStatus())
-            .isOccupiedByBooking(isVirtualOccupied)
+            .isOccupiedByBooking(s.getStatus() == SeatStatus.OCCUPIED)
             .build());
       }
 
-      // Count effective available
-      long availableBeds = seatDtos.stream()
-          .filter(sd -> !sd.isOccupiedByBooking() && sd.getStatus() == SeatStatus.AVAILABLE)
-          .count();
-
+      SeatOccupancyDto counts = occupancy.getOrDefault(p.getId(),
+          SeatOccupancyDto.builder().propertyId(p.getId()).build());
       summaries.add(PropertySeatSummaryDto.builder()
           .id(p.getId())
           .title(p.getTitle())
           .address(p.getLocation())
           .totalBeds(p.getBeds())
-          .occupiedBeds(occupiedCount)
-          // If seat is BLOCKED, it is not available.
-          // If seat is OCCUPIED (virtual), it is not available.
-          // available = total - occupied - blocked
-          .availableBeds((int) availableBeds)
+          .occupiedBeds(counts.getOccupied())
+          // BLOCKED and MAINTENANCE seats are neither occupied nor available
+          .availableBeds(counts.getAvailable())
+          .blockedBeds(counts.getBlocked())
           .seats(seatDtos)
           .imageUrl(p.getImageUrl())
           .averageRating(p.getRating())
@@ -154,7 +140,6 @@ public class LandlordServiceImpl implements LandlordService {
     }
 
     // Optimization: Bulk fetch reviews to avoid N+1
-    List<Long> propertyIds = properties.stream().map(Property::getId).collect(Collectors.toList());
     java.util.Map<Long, List<com.webapp.domain.review.dto.ReviewResponse>> reviewsByProperty = new java.util.HashMap<>();
 
     if (!propertyIds.isEmpty()) {
@@ -209,11 +194,10 @@ public class LandlordServiceImpl implements LandlordService {
     }
 
     if (seat.getStatus() == SeatStatus.AVAILABLE) {
-      seat.setStatus(SeatStatus.BLOCKED);
+      seatService.changeSeatStatus(seat, SeatStatus.BLOCKED);
     } else if (seat.getStatus() == SeatStatus.BLOCKED) {
-      seat.setStatus(SeatStatus.AVAILABLE);
+      seatService.changeSeatStatus(seat, SeatStatus.AVAILABLE);
     }
-    seatRepository.save(seat);
   }
 
   @Override
@@ -183,6 +183,16 @@ public class MessageController {
                 return ResponseEntity.ok(conversations);
         }
 
+        /**
+         * Get presence of everyone the user has a conversation with; later
+         * changes arrive on /user/queue/presence
+         */
+        @GetMapping("/presence")
+        public ResponseEntity<List<PresenceService.PresenceUpdate>> getPartnerPresence(
+                        @AuthenticationPrincipal UserPrincipal userPrincipal) {
+                return ResponseEntity.ok(presenceService.getPartnerPresence(userPrincipal.getId()));
+        }
+
         /**
          * Get presence status for a specific user
          */
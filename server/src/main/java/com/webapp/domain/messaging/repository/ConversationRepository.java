@@ -10,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import org.springframework.data.jpa.repository.Modifying;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -56,6 +57,17 @@ public interface ConversationRepository extends JpaRepository<Conversation, Long
                      "OR (c.participantTwo.id = :userId AND c.participantTwoDeleted = false))")
        int getTotalUnreadCount(@Param("userId") Long userId);
 
+       /**
+        * {conversationId, unreadCount} of the user's visible conversations
+        * with unread messages, from the per-participant counters.
+        */
+       @Query("SELECT c.id, CASE WHEN c.participantOne.id = :userId THEN c.participantOneUnreadCount " +
+                     "ELSE c.participantTwoUnreadCount END FROM Conversation c WHERE " +
+                     "((c.participantOne.id = :userId AND c.participantOneUnreadCount > 0 AND c.participantOneDeleted = false) "
+                     +
+                     "OR (c.participantTwo.id = :userId AND c.participantTwoUnreadCount > 0 AND c.participantTwoDeleted = false))")
+       List<Object[]> findUnreadCounts(@Param("userId") Long userId);
+
        @Query("SELECT c FROM Conversation c WHERE c.id = :conversationId " +
                      "AND ((c.participantOne.id = :userId AND c.participantOneDeleted = false) " +
                      "OR (c.participantTwo.id = :userId AND c.participantTwoDeleted = false))")
@@ -82,5 +94,13 @@ public interface ConversationRepository extends JpaRepository<Conversation, Long
        @Query("DELETE FROM Conversation c WHERE c.participantOne.id = :userId OR c.participantTwo.id = :userId")
        void deleteByParticipantId(@Param("userId") Long userId);
 
+       /**
+        * {participantOneId, participantTwoId} of every conversation involving
+        * one of the users, for presence fan-out.
+        */
+       @Query("SELECT c.participantOne.id, c.participantTwo.id FROM Conversation c WHERE " +
+                     "c.participantOne.id IN :userIds OR c.participantTwo.id IN :userIds")
+       List<Object[]> findParticipantPairs(@Param("userIds") Collection<Long> userIds);
+
        boolean existsByParticipantOneAndParticipantTwo(User participantOne, User participantTwo);
 }
@@ -62,11 +62,6 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
                      "ORDER BY m.createdAt DESC")
        List<Message> findUnreadByRecipientId(@Param("userId") Long userId);
 
-       @Query("SELECT m.conversation.id, COUNT(m) FROM Message m " +
-                     "WHERE m.recipient.id = :userId AND m.read = false " +
-                     "AND m.deletedByRecipient = false GROUP BY m.conversation.id")
-       List<Object[]> countUnreadGroupedByConversation(@Param("userId") Long userId);
-
        @Query("SELECT m FROM Message m WHERE m.conversation.id = :conversationId " +
                      "ORDER BY m.createdAt DESC LIMIT 1")
        Message findLastMessageByConversationId(@Param("conversationId") Long conversationId);
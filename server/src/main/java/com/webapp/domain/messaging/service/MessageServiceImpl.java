@@ -3,6 +3,8 @@ package com.webapp.domain.messaging.service;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
@@ -62,11 +64,8 @@ public class MessageServiceImpl implements MessageService {
                         conversationPage = conversationRepository.findByUserId(userId, pageable);
                 }
 
-                List<ConversationResponse> conversations = conversationPage
-                                .getContent()
-                                .stream()
-                                .map(c -> mapToConversationResponse(c, userId))
-                                .collect(Collectors.toList());
+                List<ConversationResponse> conversations = mapToConversationResponses(
+                                conversationPage.getContent(), userId);
 
                 int totalUnreadCount = conversationRepository.getTotalUnreadCount(userId);
 
@@ -448,14 +447,14 @@ public class MessageServiceImpl implements MessageService {
 
         @Transactional(readOnly = true)
         public UnreadCountResponse getUnreadCount(Long userId) {
-                int totalUnread = conversationRepository.getTotalUnreadCount(userId);
-
-                List<Object[]> unreadByConversation = messageRepository.countUnreadGroupedByConversation(userId);
+                // One query; the total is the sum of the per-conversation counters
+                int totalUnread = 0;
                 Map<Long, Integer> unreadMap = new HashMap<>();
-                for (Object[] row : unreadByConversation) {
+                for (Object[] row : conversationRepository.findUnreadCounts(userId)) {
                         Long conversationId = (Long) row[0];
-                        Long count = (Long) row[1];
-                        unreadMap.put(conversationId, count.intValue());
+                        int count = ((Number) row[1]).intValue();
+                        unreadMap.put(conversationId, count);
+                        totalUnread += count;
                 }
 
                 return UnreadCountResponse.builder()
@@ -467,9 +466,41 @@ public class MessageServiceImpl implements MessageService {
         @Transactional(readOnly = true)
         public List<ConversationResponse> getAllConversations(Long userId) {
                 List<Conversation> conversations = conversationRepository.findAllByUserId(userId);
+                return mapToConversationResponses(conversations, userId);
+        }
+
+        /**
+         * Maps a page of conversations with one query for the other
+         * participants and one presence lookup, however long the page is.
+         */
+        private List<ConversationResponse> mapToConversationResponses(
+                        List<Conversation> conversations,
+                        Long userId) {
+                if (conversations.isEmpty()) {
+                        return List.of();
+                }
+
+                // The ids come from the foreign keys, without loading the users
+                Set<Long> participantIds = conversations
+                                .stream()
+                                .map(c -> c.getOtherParticipant(userId).getId())
+                                .collect(Collectors.toSet());
+                Map<Long, User> participants = userRepository
+                                .findAllByIdIn(participantIds)
+                                .stream()
+                                .collect(Collectors.toMap(User::getId, Function.identity()));
+                Set<Long> online = presenceService.onlineAmong(participantIds);
+
                 return conversations
                                 .stream()
-                                .map(c -> mapToConversationResponse(c, userId))
+                                .map(c -> {
+                                        Long otherParticipantId = c.getOtherParticipant(userId).getId();
+                                        return mapToConversationResponse(
+                                                        c,
+                                                        participants.get(otherParticipantId),
+                                                        online.contains(otherParticipantId),
+                                                        userId);
+                                })
                                 .collect(Collectors.toList());
         }
 
@@ -477,7 +508,18 @@ public class MessageServiceImpl implements MessageService {
                         Conversation conversation,
                         Long userId) {
                 User otherParticipant = conversation.getOtherParticipant(userId);
+                return mapToConversationResponse(
+                                conversation,
+                                otherParticipant,
+                                presenceService.isUserOnline(otherParticipant.getId()),
+                                userId);
+        }
 
+        private ConversationResponse mapToConversationResponse(
+                        Conversation conversation,
+                        User otherParticipant,
+                        boolean otherParticipantOnline,
+                        Long userId) {
                 return ConversationResponse.builder()
                                 .id(conversation.getId())
                                 .otherParticipantId(otherParticipant.getId())
@@ -487,7 +529,7 @@ public class MessageServiceImpl implements MessageService {
                                                                 : otherParticipant.getEmail())
                                 .otherParticipantProfilePicture(
                                                 otherParticipant.getProfilePictureUrl())
-                                .otherParticipantOnline(presenceService.isUserOnline(otherParticipant.getId()))
+                                .otherParticipantOnline(otherParticipantOnline)
                                 .subject(conversation.getSubject())
                                 .propertyId(conversation.getPropertyId())
                                 .propertyTitle(conversation.getPropertyTitle())
@@ -1,86 +1,485 @@
 package com.webapp.domain.messaging.service;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import com.webapp.auth.config.WebSocketSessionRegistry;
+import com.webapp.domain.messaging.repository.ConversationRepository;
+import com.webapp.domain.user.repository.UserRepository;
 
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Service for tracking user presence (online/offline status).
  * Uses in-memory storage for real-time presence tracking.
+ *
+ * Presence changes are not pushed as they happen. Flips are collected in a
+ * {@link PresenceTable} and announced every {@code broadcast-window-ms},
+ * once per user whose state actually changed, and only to online users who
+ * share a conversation with them. Each recipient gets one message on
+ * {@code /user/queue/presence} with all of its partners' changes in the
+ * window. Clients load the initial state from {@link #getPartnerPresence}.
+ *
+ * A user is online while at least one of their STOMP sessions is alive, so
+ * closing one of two tabs keeps them online. Every inbound frame of a
+ * session, heartbeats included, refreshes its last heartbeat without taking
+ * the table lock; the sweeper copies those into the users' last seen time
+ * and closes sessions that have been silent for {@code session-timeout-ms},
+ * in batches. Offline users are dropped from memory after
+ * {@code offline-retention-minutes}, or earlier once more than
+ * {@code max-tracked-users} are known; their last seen time is then unknown.
+ *
+ * The table only knows the sessions of this instance. In relay mode a user
+ * it has as offline is also looked up in the {@link SimpUserRegistry}, which
+ * the relay shares between instances, so partners connected to another
+ * instance show as online and receive this instance's announcements. That
+ * view of other instances lags by up to the registry broadcast period (10
+ * seconds). A user who goes offline here while still listed elsewhere is
+ * rechecked for {@code remote-settle-ms}, and announced offline once the
+ * other instances no longer list them. Their last seen time is only known
+ * to the instance that held the session.
  */
 @Service
 @Slf4j
 public class PresenceService {
 
+  private static final String PRESENCE_QUEUE = "/queue/presence";
+
   private final SimpMessagingTemplate messagingTemplate;
+  private final ConversationRepository conversationRepository;
+  private final WebSocketSessionRegistry sessionRegistry;
+  private final SimpUserRegistry userRegistry;
+  private final UserRepository userRepository;
+  // Relay mode: other instances hold sessions too
+  private final boolean clustered;
+  private final long remoteSettleMs;
+  private final int lookupBatchSize;
+  private final long sessionTimeoutMs;
+  private final int sweepBatchSize;
+  private final long offlineRetentionMs;
+  private final int maxTrackedUsers;
+
+  // Guarded by itself
+  private final PresenceTable table;
 
-  // In-memory map of userId -> presence info
-  private final Map<Long, UserPresence> userPresenceMap = new ConcurrentHashMap<>();
+  // Live STOMP sessions by session id
+  private final Map<String, Session> sessions = new ConcurrentHashMap<>();
 
-  public PresenceService(SimpMessagingTemplate messagingTemplate) {
+  // Offline here but listed on another instance, until when to recheck; broadcast thread only
+  private final Map<Long, Long> offlineHereUntil = new HashMap<>();
+
+  public PresenceService(SimpMessagingTemplate messagingTemplate, ConversationRepository conversationRepository,
+      WebSocketSessionRegistry sessionRegistry, SimpUserRegistry userRegistry, UserRepository userRepository,
+      @Value("${app.websocket.broker.mode:simple}") String brokerMode,
+      @Value("${app.presence.remote-settle-ms:30000}") long remoteSettleMs,
+      @Value("${app.presence.expected-users:1024}") int expectedUsers,
+      @Value("${app.presence.lookup-batch-size:500}") int lookupBatchSize,
+      @Value("${app.presence.session-timeout-ms:45000}") long sessionTimeoutMs,
+      @Value("${app.presence.sweep-batch-size:1000}") int sweepBatchSize,
+      @Value("${app.presence.offline-retention-minutes:1440}") long offlineRetentionMinutes,
+      @Value("${app.presence.max-tracked-users:1000000}") int maxTrackedUsers) {
     this.messagingTemplate = messagingTemplate;
+    this.conversationRepository = conversationRepository;
+    this.sessionRegistry = sessionRegistry;
+    this.userRegistry = userRegistry;
+    this.userRepository = userRepository;
+    this.clustered = "relay".equals(brokerMode);
+    this.remoteSettleMs = remoteSettleMs;
+    this.table = new PresenceTable(expectedUsers);
+    this.lookupBatchSize = Math.max(1, lookupBatchSize);
+    this.sessionTimeoutMs = sessionTimeoutMs;
+    this.sweepBatchSize = Math.max(1, sweepBatchSize);
+    this.offlineRetentionMs = offlineRetentionMinutes * 60_000;
+    this.maxTrackedUsers = Math.max(0, maxTrackedUsers);
+  }
+
+  /**
+   * Count a new STOMP session for the user; the first one brings them online.
+   */
+  public void sessionConnected(String sessionId, Long userId, String email) {
+    long now = System.currentTimeMillis();
+    Session previous = sessions.put(sessionId, new Session(userId, now));
+    boolean changed;
+    synchronized (table) {
+      if (previous != null) {
+        // CONNECT repeated on the same session
+        table.disconnect(previous.userId, now);
+      }
+      changed = table.connect(userId, email, now);
+    }
+    if (changed) {
+      log.info("User {} is now ONLINE", userId);
+    }
   }
 
   /**
-   * Mark user as online when they connect to WebSocket
+   * Count a closed STOMP session; the last one takes the user offline.
+   * Sessions already closed, or expired by the sweeper, are ignored.
    */
-  public void setUserOnline(Long userId, String email) {
-    UserPresence presence = new UserPresence(userId, email, true, LocalDateTime.now());
-    userPresenceMap.put(userId, presence);
-    log.info("User {} is now ONLINE", userId);
-    broadcastPresenceChange(userId, true);
+  public void sessionDisconnected(String sessionId) {
+    Session session = sessionId != null ? sessions.remove(sessionId) : null;
+    if (session == null) {
+      return;
+    }
+    boolean changed;
+    synchronized (table) {
+      changed = table.disconnect(session.userId, System.currentTimeMillis());
+    }
+    if (changed) {
+      log.info("User {} is now OFFLINE", session.userId);
+    }
   }
 
   /**
-   * Mark user as offline when they disconnect from WebSocket
+   * Record a frame received on a session.
    */
-  public void setUserOffline(Long userId) {
-    UserPresence presence = userPresenceMap.get(userId);
-    if (presence != null) {
-      presence.setOnline(false);
-      presence.setLastSeenAt(LocalDateTime.now());
-      log.info("User {} is now OFFLINE", userId);
-      broadcastPresenceChange(userId, false);
+  public void heartbeat(String sessionId) {
+    Session session = sessionId != null ? sessions.get(sessionId) : null;
+    if (session != null) {
+      session.lastHeartbeatMs = System.currentTimeMillis();
     }
   }
 
+  /**
+   * Sessions whose transport closed without a DISCONNECT frame.
+   */
+  @EventListener
+  public void onSessionDisconnect(SessionDisconnectEvent event) {
+    sessionDisconnected(event.getSessionId());
+  }
+
   /**
    * Check if a user is currently online
    */
   public boolean isUserOnline(Long userId) {
-    UserPresence presence = userPresenceMap.get(userId);
-    return presence != null && presence.isOnline();
+    return !onlineAmong(List.of(userId)).isEmpty();
+  }
+
+  /**
+   * The users among the given ones who are online, under one lock
+   * acquisition and, in relay mode, one lookup for the rest.
+   */
+  public Set<Long> onlineAmong(Collection<Long> userIds) {
+    Set<Long> online = new HashSet<>();
+    List<Long> offlineHere = new ArrayList<>();
+    synchronized (table) {
+      for (Long userId : userIds) {
+        if (table.isOnline(userId)) {
+          online.add(userId);
+        } else {
+          offlineHere.add(userId);
+        }
+      }
+    }
+    online.addAll(onlineElsewhere(offlineHere).keySet());
+    return online;
   }
 
   /**
    * Get last seen timestamp for a user
    */
   public LocalDateTime getLastSeenAt(Long userId) {
-    UserPresence presence = userPresenceMap.get(userId);
-    return presence != null ? presence.getLastSeenAt() : null;
+    long lastSeenMs;
+    synchronized (table) {
+      lastSeenMs = table.lastSeenMs(userId);
+    }
+    return lastSeenMs == 0 ? null : toLocalDateTime(lastSeenMs);
   }
 
   /**
    * Get full presence info for a user
    */
   public UserPresence getUserPresence(Long userId) {
-    return userPresenceMap.get(userId);
+    long lastSeenMs;
+    boolean online;
+    String email;
+    synchronized (table) {
+      lastSeenMs = table.lastSeenMs(userId);
+      online = table.isOnline(userId);
+      email = table.email(userId);
+    }
+    LocalDateTime lastSeenAt = lastSeenMs == 0 ? null : toLocalDateTime(lastSeenMs);
+    if (!online) {
+      String elsewhere = onlineElsewhere(List.of(userId)).get(userId);
+      if (elsewhere != null) {
+        return new UserPresence(userId, elsewhere, true, lastSeenAt);
+      }
+    }
+    return lastSeenAt == null ? null : new UserPresence(userId, email, online, lastSeenAt);
+  }
+
+  /**
+   * Current presence of everyone the user shares a conversation with, for
+   * clients to start from before applying queued updates.
+   */
+  public List<PresenceUpdate> getPartnerPresence(Long userId) {
+    Set<Long> partnerIds = new HashSet<>();
+    for (Object[] pair : conversationRepository.findParticipantPairs(List.of(userId))) {
+      Long one = (Long) pair[0];
+      Long two = (Long) pair[1];
+      partnerIds.add(userId.equals(one) ? two : one);
+    }
+    List<PresenceUpdate> snapshot = new ArrayList<>(partnerIds.size());
+    List<Long> offlineHere = new ArrayList<>();
+    synchronized (table) {
+      for (Long partnerId : partnerIds) {
+        long lastSeenMs = table.lastSeenMs(partnerId);
+        boolean online = table.isOnline(partnerId);
+        snapshot.add(new PresenceUpdate(partnerId, online, lastSeenMs == 0 ? null : toLocalDateTime(lastSeenMs)));
+        if (!online) {
+          offlineHere.add(partnerId);
+        }
+      }
+    }
+    Set<Long> elsewhere = onlineElsewhere(offlineHere).keySet();
+    for (PresenceUpdate update : snapshot) {
+      if (elsewhere.contains(update.getUserId())) {
+        update.setOnline(true);
+      }
+    }
+    return snapshot;
+  }
+
+  /**
+   * Announce the presence changes of the last window to online
+   * conversation partners.
+   */
+  @Scheduled(fixedDelayString = "${app.presence.broadcast-window-ms:1000}")
+  public void broadcastChanges() {
+    long now = System.currentTimeMillis();
+    Set<Long> changed = new HashSet<>();
+    synchronized (table) {
+      for (long userId : table.drainChanged()) {
+        changed.add(userId);
+      }
+    }
+    offlineHereUntil.values().removeIf(until -> until < now);
+    Set<Long> candidates = new LinkedHashSet<>(changed);
+    candidates.addAll(offlineHereUntil.keySet());
+    if (candidates.isEmpty()) {
+      return;
+    }
+
+    Map<Long, PresenceUpdate> updates = new HashMap<>();
+    List<Long> offlineHere = new ArrayList<>();
+    synchronized (table) {
+      for (Long userId : candidates) {
+        boolean online = table.isOnline(userId);
+        if (online) {
+          offlineHereUntil.remove(userId);
+        } else {
+          offlineHere.add(userId);
+        }
+        if (!online || changed.contains(userId)) {
+          updates.put(userId, new PresenceUpdate(userId, online, toLocalDateTime(table.lastSeenMs(userId))));
+        }
+      }
+    }
+    Set<Long> elsewhere = onlineElsewhere(offlineHere).keySet();
+    for (Long userId : offlineHere) {
+      if (!elsewhere.contains(userId)) {
+        offlineHereUntil.remove(userId);
+      } else if (offlineHereUntil.putIfAbsent(userId, now + remoteSettleMs) == null || changed.contains(userId)) {
+        // Still online elsewhere: announced once, then rechecked until the other instances' view settles
+        updates.get(userId).setOnline(true);
+      } else {
+        updates.remove(userId);
+      }
+    }
+    if (updates.isEmpty()) {
+      return;
+    }
+
+    // Updates each recipient should get, looked up in batches
+    Map<Long, Set<PresenceUpdate>> byRecipient = new HashMap<>();
+    List<Long> ids = new ArrayList<>(updates.keySet());
+    for (int from = 0; from < ids.size(); from += lookupBatchSize) {
+      List<Long> batch = ids.subList(from, Math.min(from + lookupBatchSize, ids.size()));
+      for (Object[] pair : conversationRepository.findParticipantPairs(batch)) {
+        addUpdate(byRecipient, (Long) pair[1], updates.get((Long) pair[0]));
+        addUpdate(byRecipient, (Long) pair[0], updates.get((Long) pair[1]));
+      }
+    }
+
+    Map<Long, String> emails = new HashMap<>();
+    List<Long> recipientsElsewhere = new ArrayList<>();
+    synchronized (table) {
+      for (Long recipientId : byRecipient.keySet()) {
+        if (table.isOnline(recipientId)) {
+          emails.put(recipientId, table.email(recipientId));
+        } else {
+          recipientsElsewhere.add(recipientId);
+        }
+      }
+    }
+    // Delivered through the relay to the instance holding the session
+    emails.putAll(onlineElsewhere(recipientsElsewhere));
+
+    int sent = 0;
+    for (Map.Entry<Long, Set<PresenceUpdate>> entry : byRecipient.entrySet()) {
+      String email = emails.get(entry.getKey());
+      if (email == null) {
+        continue;
+      }
+      try {
+        messagingTemplate.convertAndSendToUser(email, PRESENCE_QUEUE, new ArrayList<>(entry.getValue()));
+        sent++;
+      } catch (Exception e) {
+        log.warn("Failed to send presence updates to user {}: {}", entry.getKey(), e.getMessage());
+      }
+    }
+    log.debug("Announced {} presence changes to {} users", updates.size(), sent);
+  }
+
+  /**
+   * Refresh the last seen time of online users from their sessions' last
+   * heartbeat and close sessions that have gone silent.
+   */
+  @Scheduled(fixedDelayString = "${app.presence.sweep-interval-ms:15000}")
+  public void sweepSessions() {
+    long now = System.currentTimeMillis();
+    long cutoff = now - sessionTimeoutMs;
+    List<String> stale = new ArrayList<>();
+    List<Session> batch = new ArrayList<>(Math.min(sweepBatchSize, sessions.size()));
+    for (Map.Entry<String, Session> entry : sessions.entrySet()) {
+      if (entry.getValue().lastHeartbeatMs < cutoff) {
+        stale.add(entry.getKey());
+      } else {
+        batch.add(entry.getValue());
+        if (batch.size() == sweepBatchSize) {
+          touchAll(batch);
+        }
+      }
+    }
+    touchAll(batch);
+
+    int closed = 0;
+    int offline = 0;
+    for (int from = 0; from < stale.size(); from += sweepBatchSize) {
+      List<String> ids = stale.subList(from, Math.min(from + sweepBatchSize, stale.size()));
+      List<String> expiredIds = new ArrayList<>(ids.size());
+      List<Session> expired = new ArrayList<>(ids.size());
+      for (String sessionId : ids) {
+        Session session = sessions.get(sessionId);
+        // A frame may have arrived since the scan
+        if (session != null && session.lastHeartbeatMs < cutoff && sessions.remove(sessionId, session)) {
+          expiredIds.add(sessionId);
+          expired.add(session);
+        }
+      }
+      closed += expired.size();
+      synchronized (table) {
+        for (Session session : expired) {
+          if (table.disconnect(session.userId, session.lastHeartbeatMs)) {
+            offline++;
+          }
+        }
+      }
+      // The transport may still be open on our side; its disconnect event is ignored
+      for (String sessionId : expiredIds) {
+        sessionRegistry.close(sessionId, CloseStatus.SESSION_NOT_RELIABLE);
+      }
+    }
+    if (closed > 0) {
+      log.info("Expired {} silent WebSocket sessions, {} users went offline", closed, offline);
+    }
+  }
+
+  /**
+   * Forget offline users past the retention, and the oldest ones beyond the
+   * size limit.
+   */
+  @Scheduled(fixedDelayString = "${app.presence.evict-interval-ms:300000}")
+  public void evictOfflineUsers() {
+    int evicted;
+    synchronized (table) {
+      evicted = table.evictOffline(System.currentTimeMillis() - offlineRetentionMs, maxTrackedUsers);
+    }
+    if (evicted > 0) {
+      log.info("Evicted {} offline users from presence tracking", evicted);
+    }
+  }
+
+  /**
+   * Number of live STOMP sessions.
+   */
+  public int sessionCount() {
+    return sessions.size();
   }
 
   /**
-   * Broadcast presence change to all subscribers
+   * Emails of the given users that have a session on any instance according
+   * to the user registry. Always empty outside relay mode, where the table
+   * already knows every session.
    */
-  private void broadcastPresenceChange(Long userId, boolean isOnline) {
-    try {
-      PresenceUpdate update = new PresenceUpdate(userId, isOnline, LocalDateTime.now());
-      messagingTemplate.convertAndSend("/topic/presence", update);
-    } catch (Exception e) {
-      log.warn("Failed to broadcast presence change for user {}: {}", userId, e.getMessage());
+  private Map<Long, String> onlineElsewhere(Collection<Long> userIds) {
+    if (!clustered || userIds.isEmpty()) {
+      return Map.of();
+    }
+    Map<Long, String> online = new HashMap<>();
+    List<Long> ids = new ArrayList<>(userIds);
+    for (int from = 0; from < ids.size(); from += lookupBatchSize) {
+      List<Long> batch = ids.subList(from, Math.min(from + lookupBatchSize, ids.size()));
+      for (Object[] row : userRepository.findEmailsByIdIn(batch)) {
+        String email = (String) row[1];
+        // Principals are named by email
+        if (email != null && userRegistry.getUser(email) != null) {
+          online.put((Long) row[0], email);
+        }
+      }
+    }
+    return online;
+  }
+
+  private void touchAll(List<Session> batch) {
+    synchronized (table) {
+      for (Session session : batch) {
+        table.touch(session.userId, session.lastHeartbeatMs);
+      }
+    }
+    batch.clear();
+  }
+
+  private static void addUpdate(Map<Long, Set<PresenceUpdate>> byRecipient, Long recipientId,
+      PresenceUpdate update) {
+    if (update == null || recipientId.equals(update.getUserId())) {
+      return;
+    }
+    // A set, since a pair can share several conversations
+    byRecipient.computeIfAbsent(recipientId, id -> new LinkedHashSet<>()).add(update);
+  }
+
+  private static LocalDateTime toLocalDateTime(long epochMs) {
+    return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMs), ZoneId.systemDefault());
+  }
+
+  private static final class Session {
+
+    private final long userId;
+    private volatile long lastHeartbeatMs;
+
+    Session(long userId, long lastHeartbeatMs) {
+      this.userId = userId;
+      this.lastHeartbeatMs = lastHeartbeatMs;
     }
   }
 
@@ -0,0 +1,331 @@
+package com.webapp.domain.messaging.service;
+
+import java.util.Arrays;
+
+/**
+ * Presence state keyed by primitive user id.
+ *
+ * Open addressing with linear probing over parallel arrays: per user a long
+ * key, a last-seen epoch millisecond, an open session count, an email
+ * reference and a flag byte, with no boxed keys, entry objects or
+ * {@code LocalDateTime}s. Id 0 marks an empty slot, so user ids must be
+ * positive. A user is online while they have at least one session; the
+ * email is only kept while online.
+ *
+ * Besides the current state each user carries the state last announced to
+ * other users. Flips are collected until {@link #drainChanged()}, which only
+ * returns users whose state now differs from the announced one, so a
+ * disconnect and reconnect between two drains announces nothing.
+ *
+ * Offline users are dropped by {@link #evictOffline}, which keeps the table
+ * bounded however many users have ever connected, and the arrays shrink
+ * again after a large eviction.
+ *
+ * Not thread-safe; {@link PresenceService} synchronizes.
+ */
+class PresenceTable {
+
+  private static final byte ANNOUNCED_ONLINE = 1;
+  private static final byte CHANGED = 2;
+
+  private static final float MAX_LOAD = 0.6f;
+
+  private final int minCapacity;
+
+  private long[] keys;
+  private long[] lastSeenMs;
+  private int[] sessions;
+  private String[] emails;
+  private byte[] flags;
+  private int mask;
+  private int size;
+
+  private long[] changed = new long[16];
+  private int changedCount;
+
+  PresenceTable(int expectedUsers) {
+    this.minCapacity = capacityFor(Math.max(16, expectedUsers));
+    allocate(minCapacity);
+  }
+
+  /**
+   * Count a new session for the user.
+   *
+   * @return true if the user was offline before
+   */
+  boolean connect(long userId, String email, long nowMs) {
+    int slot = slotFor(userId);
+    emails[slot] = email;
+    lastSeenMs[slot] = Math.max(lastSeenMs[slot], nowMs);
+    if (sessions[slot]++ > 0) {
+      return false;
+    }
+    markChanged(slot);
+    return true;
+  }
+
+  /**
+   * Count a closed session for the user.
+   *
+   * @return true if it was the user's last session
+   */
+  boolean disconnect(long userId, long nowMs) {
+    int slot = find(userId);
+    if (slot < 0 || sessions[slot] == 0) {
+      return false;
+    }
+    lastSeenMs[slot] = Math.max(lastSeenMs[slot], nowMs);
+    if (--sessions[slot] > 0) {
+      return false;
+    }
+    emails[slot] = null;
+    markChanged(slot);
+    return true;
+  }
+
+  /**
+   * Record activity of an online user.
+   */
+  void touch(long userId, long nowMs) {
+    int slot = find(userId);
+    if (slot >= 0 && sessions[slot] > 0) {
+      lastSeenMs[slot] = Math.max(lastSeenMs[slot], nowMs);
+    }
+  }
+
+  boolean isOnline(long userId) {
+    int slot = find(userId);
+    return slot >= 0 && sessions[slot] > 0;
+  }
+
+  int sessionCount(long userId) {
+    int slot = find(userId);
+    return slot >= 0 ? sessions[slot] : 0;
+  }
+
+  /**
+   * Epoch millis of the last activity, 0 for unknown users.
+   */
+  long lastSeenMs(long userId) {
+    int slot = find(userId);
+    return slot >= 0 ? lastSeenMs[slot] : 0;
+  }
+
+  String email(long userId) {
+    int slot = find(userId);
+    return slot >= 0 ? emails[slot] : null;
+  }
+
+  int size() {
+    return size;
+  }
+
+  int capacity() {
+    return keys.length;
+  }
+
+  /**
+   * Users whose state differs from the one last announced, which becomes
+   * their announced state.
+   */
+  long[] drainChanged() {
+    long[] result = new long[changedCount];
+    int count = 0;
+    for (int i = 0; i < changedCount; i++) {
+      int slot = find(changed[i]);
+      if (slot < 0) {
+        continue;
+      }
+      flags[slot] &= ~CHANGED;
+      boolean online = sessions[slot] > 0;
+      boolean announced = (flags[slot] & ANNOUNCED_ONLINE) != 0;
+      if (online != announced) {
+        flags[slot] ^= ANNOUNCED_ONLINE;
+        result[count++] = changed[i];
+      }
+    }
+    changedCount = 0;
+    if (changed.length > 1024) {
+      changed = new long[16];
+    }
+    return count == result.length ? result : Arrays.copyOf(result, count);
+  }
+
+  /**
+   * Drop offline users last seen before {@code cutoffMs}, then, while more
+   * than {@code maxUsers} remain, the offline users seen longest ago. Online
+   * users and users with an unannounced change are never dropped.
+   *
+   * @return number of users dropped
+   */
+  int evictOffline(long cutoffMs, int maxUsers) {
+    int before = size;
+    removeAll(collectOffline(cutoffMs, Integer.MAX_VALUE));
+
+    int excess = size - maxUsers;
+    if (excess > 0) {
+      long[] seen = new long[size];
+      int count = 0;
+      for (int slot = 0; slot < keys.length; slot++) {
+        if (isEvictable(slot)) {
+          seen[count++] = lastSeenMs[slot];
+        }
+      }
+      if (count > 0) {
+        Arrays.sort(seen, 0, count);
+        long threshold = seen[Math.min(excess, count) - 1];
+        removeAll(collectOffline(threshold + 1, excess));
+      }
+    }
+
+    if (keys.length > minCapacity && size < keys.length * MAX_LOAD / 4) {
+      rehash(Math.max(minCapacity, capacityFor(size)));
+    }
+    return before - size;
+  }
+
+  private long[] collectOffline(long beforeMs, int limit) {
+    long[] victims = new long[16];
+    int count = 0;
+    for (int slot = 0; slot < keys.length && count < limit; slot++) {
+      if (isEvictable(slot) && lastSeenMs[slot] < beforeMs) {
+        if (count == victims.length) {
+          victims = Arrays.copyOf(victims, count * 2);
+        }
+        victims[count++] = keys[slot];
+      }
+    }
+    return Arrays.copyOf(victims, count);
+  }
+
+  private boolean isEvictable(int slot) {
+    return keys[slot] != 0 && sessions[slot] == 0 && (flags[slot] & CHANGED) == 0;
+  }
+
+  private void removeAll(long[] userIds) {
+    for (long userId : userIds) {
+      int slot = find(userId);
+      if (slot >= 0) {
+        removeSlot(slot);
+      }
+    }
+  }
+
+  /**
+   * Backward-shift deletion: entries after the gap that may live there are
+   * moved up, so lookups never need tombstones.
+   */
+  private void removeSlot(int slot) {
+    int gap = slot;
+    for (int next = (gap + 1) & mask; keys[next] != 0; next = (next + 1) & mask) {
+      int home = hash(keys[next]) & mask;
+      if (((next - home) & mask) >= ((next - gap) & mask)) {
+        copySlot(next, gap);
+        gap = next;
+      }
+    }
+    keys[gap] = 0;
+    lastSeenMs[gap] = 0;
+    sessions[gap] = 0;
+    emails[gap] = null;
+    flags[gap] = 0;
+    size--;
+  }
+
+  private void copySlot(int from, int to) {
+    keys[to] = keys[from];
+    lastSeenMs[to] = lastSeenMs[from];
+    sessions[to] = sessions[from];
+    emails[to] = emails[from];
+    flags[to] = flags[from];
+  }
+
+  private void markChanged(int slot) {
+    if ((flags[slot] & CHANGED) != 0) {
+      return;
+    }
+    flags[slot] |= CHANGED;
+    if (changedCount == changed.length) {
+      changed = Arrays.copyOf(changed, changedCount * 2);
+    }
+    changed[changedCount++] = keys[slot];
+  }
+
+  private int find(long userId) {
+    if (userId <= 0) {
+      return -1;
+    }
+    for (int slot = hash(userId) & mask;; slot = (slot + 1) & mask) {
+      if (keys[slot] == userId) {
+        return slot;
+      }
+      if (keys[slot] == 0) {
+        return -1;
+      }
+    }
+  }
+
+  private int slotFor(long userId) {
+    if (userId <= 0) {
+      throw new IllegalArgumentException("User id must be positive: " + userId);
+    }
+    int slot = hash(userId) & mask;
+    while (keys[slot] != 0) {
+      if (keys[slot] == userId) {
+        return slot;
+      }
+      slot = (slot + 1) & mask;
+    }
+    if (size + 1 > keys.length * MAX_LOAD) {
+      rehash(keys.length * 2);
+      return slotFor(userId);
+    }
+    keys[slot] = userId;
+    size++;
+    return slot;
+  }
+
+  private void rehash(int capacity) {
+    long[] oldKeys = keys;
+    long[] oldLastSeen = lastSeenMs;
+    int[] oldSessions = sessions;
+    String[] oldEmails = emails;
+    byte[] oldFlags = flags;
+    allocate(capacity);
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldKeys[i] == 0) {
+        continue;
+      }
+      int slot = hash(oldKeys[i]) & mask;
+      while (keys[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      keys[slot] = oldKeys[i];
+      lastSeenMs[slot] = oldLastSeen[i];
+      sessions[slot] = oldSessions[i];
+      emails[slot] = oldEmails[i];
+      flags[slot] = oldFlags[i];
+    }
+  }
+
+  private void allocate(int capacity) {
+    keys = new long[capacity];
+    lastSeenMs = new long[capacity];
+    sessions = new int[capacity];
+    emails = new String[capacity];
+    flags = new byte[capacity];
+    mask = capacity - 1;
+  }
+
+  private static int capacityFor(int users) {
+    return Integer.highestOneBit(Math.max(16, (int) (users / MAX_LOAD)) - 1) << 1;
+  }
+
+  private static int hash(long key) {
+    // Murmur3 finalizer: sequential ids spread over the table
+    key ^= key >>> 33;
+    key *= 0xff51afd7ed558ccdL;
+    key ^= key >>> 33;
+    return (int) key;
+  }
+}
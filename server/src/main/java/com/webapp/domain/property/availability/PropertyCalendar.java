@@ -0,0 +1,135 @@
+package com.webapp.domain.property.availability;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable snapshot of one property's occupied nights.
+ *
+ * Every range is held as a half-open night interval [start, end): a booking
+ * checking out on the 5th leaves the 5th free, while an owner block ending on
+ * the 5th covers it. The ranges are merged into disjoint, non-adjacent
+ * intervals keyed by start date, so an overlap test is a single
+ * {@code lowerEntry} lookup and each step of a free-window search is one
+ * more.
+ */
+final class PropertyCalendar {
+
+  static final PropertyCalendar EMPTY = new PropertyCalendar(Map.of());
+
+  private final Map<String, Range> ranges;
+
+  // merged occupied intervals, start -> end (exclusive)
+  private final TreeMap<LocalDate, LocalDate> occupied = new TreeMap<>();
+
+  private PropertyCalendar(Map<String, Range> ranges) {
+    this.ranges = ranges;
+
+    List<Range> blocking = ranges.values().stream()
+        .filter(Range::blocking)
+        .sorted(Comparator.comparing(Range::start))
+        .toList();
+    LocalDate start = null;
+    LocalDate end = null;
+    for (Range range : blocking) {
+      if (start != null && !range.start().isAfter(end)) {
+        end = range.end().isAfter(end) ? range.end() : end;
+        continue;
+      }
+      if (start != null) {
+        occupied.put(start, end);
+      }
+      start = range.start();
+      end = range.end();
+    }
+    if (start != null) {
+      occupied.put(start, end);
+    }
+  }
+
+  static PropertyCalendar of(List<Range> ranges) {
+    Map<String, Range> byKey = new HashMap<>();
+    for (Range range : ranges) {
+      byKey.put(range.key(), range);
+    }
+    return new PropertyCalendar(byKey);
+  }
+
+  PropertyCalendar with(Range range) {
+    Map<String, Range> next = new HashMap<>(ranges);
+    next.put(range.key(), range);
+    return new PropertyCalendar(next);
+  }
+
+  PropertyCalendar without(String key) {
+    if (!ranges.containsKey(key)) {
+      return this;
+    }
+    Map<String, Range> next = new HashMap<>(ranges);
+    next.remove(key);
+    return new PropertyCalendar(next);
+  }
+
+  boolean isEmpty() {
+    return ranges.isEmpty();
+  }
+
+  /**
+   * True when any occupied night falls in [start, end).
+   */
+  boolean overlaps(LocalDate start, LocalDate end) {
+    Map.Entry<LocalDate, LocalDate> before = occupied.lowerEntry(end);
+    return before != null && before.getValue().isAfter(start);
+  }
+
+  /**
+   * First check-in date on or after {@code from} with {@code nights}
+   * consecutive free nights.
+   */
+  LocalDate nextFreeWindow(LocalDate from, int nights) {
+    LocalDate cursor = from;
+    Map.Entry<LocalDate, LocalDate> covering = occupied.floorEntry(cursor);
+    if (covering != null && covering.getValue().isAfter(cursor)) {
+      cursor = covering.getValue();
+    }
+    while (true) {
+      Map.Entry<LocalDate, LocalDate> next = occupied.higherEntry(cursor);
+      if (next == null || !cursor.plusDays(nights).isAfter(next.getKey())) {
+        return cursor;
+      }
+      cursor = next.getValue();
+    }
+  }
+
+  /**
+   * Owner-maintained availability ranges, ordered by start date.
+   */
+  List<Range> availabilityRanges() {
+    List<Range> result = new ArrayList<>();
+    for (Range range : ranges.values()) {
+      if (range.availabilityId() != null) {
+        result.add(range);
+      }
+    }
+    result.sort(Comparator.comparing(Range::start).thenComparing(Range::availabilityId));
+    return result;
+  }
+
+  /**
+   * One source interval: a booking or a {@code PropertyAvailability} row.
+   *
+   * @param start          first night
+   * @param end            night after the last one
+   * @param blocking       whether the range makes its nights unbookable
+   * @param availabilityId availability row id, null for bookings
+   * @param status         availability status name, null for bookings
+   */
+  record Range(String key, LocalDate start, LocalDate end, boolean blocking, Long availabilityId,
+      String status, String notes) {
+  }
+}
@@ -0,0 +1,201 @@
+package com.webapp.domain.property.availability;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.webapp.domain.booking.enums.BookingStatus;
+import com.webapp.domain.booking.event.BookingChangedEvent;
+import com.webapp.domain.booking.repository.BookingRepository;
+import com.webapp.domain.property.availability.PropertyCalendar.Range;
+import com.webapp.domain.property.entity.PropertyAvailability;
+import com.webapp.domain.property.entity.PropertyAvailability.AvailabilityStatus;
+import com.webapp.domain.property.event.AvailabilityChangedEvent;
+import com.webapp.domain.property.event.PropertyChangedEvent;
+import com.webapp.domain.property.repository.PropertyAvailabilityRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory availability calendar of every property.
+ *
+ * Merges bookings that hold a stay (CONFIRMED, CHECKED_IN) with
+ * BOOKED/BLOCKED/MAINTENANCE {@link PropertyAvailability} ranges into one
+ * sorted interval set per property, so booking attempts and the availability
+ * endpoints answer overlap and free-window questions without a range query.
+ * Each property's calendar is an immutable snapshot swapped atomically; it is
+ * kept coherent by {@link BookingChangedEvent}s and
+ * {@link AvailabilityChangedEvent}s after they commit.
+ *
+ * Bookings that ended before startup are not loaded, so queries about past
+ * nights may report them free.
+ */
+@Component
+@Slf4j
+public class PropertyCalendarIndex {
+
+  public static final List<BookingStatus> OCCUPYING_STATUSES = List.of(BookingStatus.CONFIRMED,
+      BookingStatus.CHECKED_IN);
+
+  public static final List<AvailabilityStatus> BLOCKING_STATUSES = List.of(AvailabilityStatus.BOOKED,
+      AvailabilityStatus.BLOCKED, AvailabilityStatus.MAINTENANCE);
+
+  private final BookingRepository bookingRepository;
+  private final PropertyAvailabilityRepository availabilityRepository;
+
+  private final Map<Long, PropertyCalendar> calendars = new ConcurrentHashMap<>();
+
+  public PropertyCalendarIndex(BookingRepository bookingRepository,
+      PropertyAvailabilityRepository availabilityRepository) {
+    this.bookingRepository = bookingRepository;
+    this.availabilityRepository = availabilityRepository;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional(readOnly = true)
+  public void rebuild() {
+    Map<Long, List<Range>> ranges = new HashMap<>();
+    for (Object[] row : bookingRepository.findCalendarRows(OCCUPYING_STATUSES, LocalDate.now())) {
+      ranges.computeIfAbsent((Long) row[0], id -> new ArrayList<>())
+          .add(bookingRange((Long) row[1], (LocalDate) row[2], (LocalDate) row[3]));
+    }
+    for (Object[] row : availabilityRepository.findCalendarRows()) {
+      ranges.computeIfAbsent((Long) row[0], id -> new ArrayList<>())
+          .add(availabilityRange((Long) row[1], (LocalDate) row[2], (LocalDate) row[3], (AvailabilityStatus) row[4],
+              (String) row[5]));
+    }
+    Map<Long, PropertyCalendar> built = new HashMap<>();
+    ranges.forEach((propertyId, list) -> built.put(propertyId, PropertyCalendar.of(list)));
+    calendars.clear();
+    calendars.putAll(built);
+    log.info("Property calendar index built for {} properties", built.size());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onBookingChanged(BookingChangedEvent event) {
+    if (event.getPropertyId() == null) {
+      return;
+    }
+    String key = bookingKey(event.getBookingId());
+    if (!event.isDeleted() && OCCUPYING_STATUSES.contains(event.getStatus())) {
+      update(event.getPropertyId(), calendar -> calendar.with(
+          bookingRange(event.getBookingId(), event.getStartDate(), event.getEndDate())));
+    } else {
+      update(event.getPropertyId(), calendar -> calendar.without(key));
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onAvailabilityChanged(AvailabilityChangedEvent event) {
+    update(event.getPropertyId(), calendar -> {
+      PropertyCalendar next = calendar;
+      for (Long id : event.getRemovedIds()) {
+        next = next.without(availabilityKey(id));
+      }
+      for (PropertyAvailability availability : event.getSaved()) {
+        next = next.with(availabilityRange(availability.getId(), availability.getStartDate(),
+            availability.getEndDate(), availability.getStatus(), availability.getNotes()));
+      }
+      return next;
+    });
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onPropertyChanged(PropertyChangedEvent event) {
+    if (event.isDeleted()) {
+      calendars.remove(event.getPropertyId());
+    }
+  }
+
+  /**
+   * True when no occupied night falls in the stay from {@code startDate}
+   * (check-in) to {@code endDate} (check-out). A same-day stay counts as one
+   * night.
+   */
+  public boolean isFree(Long propertyId, LocalDate startDate, LocalDate endDate) {
+    return !calendar(propertyId).overlaps(startDate, checkOut(startDate, endDate));
+  }
+
+  /**
+   * Properties with at least one occupied night in the stay, found in one
+   * pass over every calendar. Properties absent from the result are free.
+   */
+  public Set<Long> findOccupied(LocalDate startDate, LocalDate endDate) {
+    LocalDate end = checkOut(startDate, endDate);
+    Set<Long> occupied = new HashSet<>();
+    calendars.forEach((propertyId, calendar) -> {
+      if (calendar.overlaps(startDate, end)) {
+        occupied.add(propertyId);
+      }
+    });
+    return occupied;
+  }
+
+  /**
+   * Earliest check-in on or after {@code from} with {@code nights} free
+   * consecutive nights.
+   */
+  public LocalDate nextFreeWindow(Long propertyId, LocalDate from, int nights) {
+    return calendar(propertyId).nextFreeWindow(from, Math.max(nights, 1));
+  }
+
+  /**
+   * Owner-maintained availability ranges of a property, ordered by start
+   * date, with their original inclusive end dates.
+   */
+  public List<AvailabilityRange> availability(Long propertyId) {
+    return calendar(propertyId).availabilityRanges().stream()
+        .map(r -> new AvailabilityRange(r.availabilityId(), r.start(), r.end().minusDays(1), r.status(), r.notes()))
+        .toList();
+  }
+
+  private PropertyCalendar calendar(Long propertyId) {
+    return calendars.getOrDefault(propertyId, PropertyCalendar.EMPTY);
+  }
+
+  private void update(Long propertyId, UnaryOperator<PropertyCalendar> change) {
+    calendars.compute(propertyId, (id, current) -> {
+      PropertyCalendar next = change.apply(current != null ? current : PropertyCalendar.EMPTY);
+      return next.isEmpty() ? null : next;
+    });
+  }
+
+  private static Range bookingRange(Long bookingId, LocalDate startDate, LocalDate endDate) {
+    return new Range(bookingKey(bookingId), startDate, checkOut(startDate, endDate), true, null, null, null);
+  }
+
+  private static Range availabilityRange(Long id, LocalDate startDate, LocalDate endDate, AvailabilityStatus status,
+      String notes) {
+    // Availability end dates are inclusive
+    LocalDate end = endDate.isBefore(startDate) ? startDate.plusDays(1) : endDate.plusDays(1);
+    return new Range(availabilityKey(id), startDate, end, BLOCKING_STATUSES.contains(status), id, status.name(),
+        notes);
+  }
+
+  private static LocalDate checkOut(LocalDate startDate, LocalDate endDate) {
+    return endDate.isAfter(startDate) ? endDate : startDate.plusDays(1);
+  }
+
+  private static String bookingKey(Long bookingId) {
+    return "booking:" + bookingId;
+  }
+
+  private static String availabilityKey(Long availabilityId) {
+    return "availability:" + availabilityId;
+  }
+
+  public record AvailabilityRange(Long id, LocalDate startDate, LocalDate endDate, String status, String notes) {
+  }
+}
@@ -0,0 +1,130 @@
+package com.webapp.domain.property.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.webapp.domain.property.dto.PropertyResponse;
+import com.webapp.domain.property.event.PropertyChangedEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Bounded read-through cache of fully built property detail responses.
+ *
+ * Entries expire after a TTL and the least recently used entry is evicted once
+ * the size limit is reached. Writes invalidate by id after they commit (via
+ * {@link PropertyChangedEvent}). A load that started before an invalidation is
+ * not stored, so a slow reader can't put back a response that was already
+ * stale. Cached responses are shared and must be treated as read-only.
+ */
+@Component
+public class PropertyDetailCache {
+
+  private final int maxEntries;
+  private final long ttlMillis;
+
+  private final Map<Long, Entry> entries;
+
+  // Bumped on every invalidation; a load only stores its result if no
+  // invalidation happened while it ran
+  private long generation;
+
+  private final Counter hits;
+  private final Counter misses;
+  private final Counter evictions;
+
+  public PropertyDetailCache(MeterRegistry meterRegistry,
+      @Value("${app.cache.property-detail.max-entries:5000}") int maxEntries,
+      @Value("${app.cache.property-detail.ttl-seconds:300}") long ttlSeconds) {
+    this.maxEntries = maxEntries;
+    this.ttlMillis = ttlSeconds * 1000;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+        if (size() > PropertyDetailCache.this.maxEntries) {
+          evictions.increment();
+          return true;
+        }
+        return false;
+      }
+    };
+
+    this.hits = Counter.builder("property.detail.cache")
+        .tag("result", "hit")
+        .description("Property detail cache lookups")
+        .register(meterRegistry);
+    this.misses = Counter.builder("property.detail.cache")
+        .tag("result", "miss")
+        .description("Property detail cache lookups")
+        .register(meterRegistry);
+    this.evictions = Counter.builder("property.detail.cache.evictions")
+        .description("Entries evicted to stay within the size limit")
+        .register(meterRegistry);
+    Gauge.builder("property.detail.cache.size", this, PropertyDetailCache::size)
+        .register(meterRegistry);
+  }
+
+  /**
+   * Return the cached response for a property, loading it on a miss.
+   *
+   * The loader runs outside the cache lock; exceptions propagate and nothing
+   * is cached.
+   */
+  public PropertyResponse get(Long propertyId, Supplier<PropertyResponse> loader) {
+    long loadGeneration;
+    synchronized (this) {
+      Entry entry = entries.get(propertyId);
+      if (entry != null && entry.expiresAt() > System.currentTimeMillis()) {
+        hits.increment();
+        return entry.response();
+      }
+      if (entry != null) {
+        entries.remove(propertyId);
+      }
+      loadGeneration = generation;
+    }
+
+    misses.increment();
+    PropertyResponse response = loader.get();
+
+    synchronized (this) {
+      if (generation == loadGeneration && response != null) {
+        entries.put(propertyId, new Entry(response, System.currentTimeMillis() + ttlMillis));
+      }
+    }
+    return response;
+  }
+
+  public synchronized void invalidate(Long propertyId) {
+    generation++;
+    entries.remove(propertyId);
+  }
+
+  public synchronized void clear() {
+    generation++;
+    entries.clear();
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /**
+   * Drop the cached response once a property write (update, status change,
+   * delete, rating change) commits.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onPropertyChanged(PropertyChangedEvent event) {
+    invalidate(event.getPropertyId());
+  }
+
+  private record Entry(PropertyResponse response, long expiresAt) {
+  }
+}
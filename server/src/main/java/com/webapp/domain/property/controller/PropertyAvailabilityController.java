@@ -64,6 +64,20 @@ public class PropertyAvailabilityController {
         "available", available));
   }
 
+  @GetMapping("/next-free")
+  @Operation(summary = "Find the earliest check-in date with enough free nights")
+  public ResponseEntity<Map<String, Object>> findNextFreeDate(
+      @PathVariable Long propertyId,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam(defaultValue = "1") int nights) {
+
+    LocalDate startDate = availabilityService.findNextFreeDate(propertyId, from, nights);
+    return ResponseEntity.ok(Map.of(
+        "propertyId", propertyId,
+        "startDate", startDate.toString(),
+        "endDate", startDate.plusDays(Math.max(nights, 1)).toString()));
+  }
+
   @PostMapping
   @PreAuthorize("hasAnyRole('HOUSE_OWNER', 'ADMIN')")
   @Operation(summary = "Set availability for a property (owners only)")
@@ -1,7 +1,9 @@
 package com.webapp.domain.property.controller;
 
+import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -17,11 +19,18 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.webapp.auth.security.UserPrincipal;
+import com.webapp.domain.property.dto.LocationSuggestion;
+import com.webapp.domain.property.dto.PropertyCursorPage;
+import com.webapp.domain.property.dto.PropertyFacetsResponse;
 import com.webapp.domain.property.dto.PropertyRequest;
 import com.webapp.domain.property.dto.PropertyResponse;
+import com.webapp.domain.property.dto.PropertySearchCriteria;
+import com.webapp.domain.property.search.PropertySearchCursor;
 import com.webapp.domain.property.service.PropertyService;
+import com.webapp.domain.property.view.PropertyViewCounter;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -32,6 +41,7 @@ import lombok.RequiredArgsConstructor;
 public class PropertyController {
 
     private final PropertyService propertyService;
+    private final PropertyViewCounter propertyViewCounter;
 
     @GetMapping("/my-properties")
     public ResponseEntity<List<PropertyResponse>> getMyProperties(
@@ -56,8 +66,9 @@ public class PropertyController {
     }
 
     @GetMapping("/recommended")
-    public ResponseEntity<List<PropertyResponse>> getRecommended(@AuthenticationPrincipal UserPrincipal userPrincipal) {
-        return ResponseEntity.ok(propertyService.getRecommendedProperties(userPrincipal.getId()));
+    public ResponseEntity<List<PropertyResponse>> getRecommended(@AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam(required = false) java.math.BigDecimal maxBudget) {
+        return ResponseEntity.ok(propertyService.getRecommendedProperties(userPrincipal.getId(), maxBudget));
     }
 
     @GetMapping("/search")
@@ -68,15 +79,101 @@ public class PropertyController {
             @RequestParam(required = false) Integer minBeds,
             @RequestParam(required = false) Integer minBaths,
             @RequestParam(required = false) String propertyType,
-            @RequestParam(required = false) List<Long> amenityIds) {
+            @RequestParam(required = false) List<Long> amenityIds,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkIn,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOut) {
         return ResponseEntity
                 .ok(propertyService.searchProperties(query, minPrice, maxPrice, minBeds, minBaths, propertyType,
-                        amenityIds));
+                        amenityIds, checkIn, checkOut));
+    }
+
+    @GetMapping("/search/page")
+    public ResponseEntity<PropertyCursorPage> searchPropertiesPage(
+            @RequestParam(required = false) String query,
+            @RequestParam(required = false) Double minPrice,
+            @RequestParam(required = false) Double maxPrice,
+            @RequestParam(required = false) Integer minBeds,
+            @RequestParam(required = false) Integer minBaths,
+            @RequestParam(required = false) String propertyType,
+            @RequestParam(required = false) List<Long> amenityIds,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkIn,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOut,
+            @RequestParam(defaultValue = "PRICE") PropertySearchCursor.Sort sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        PropertySearchCriteria criteria = toCriteria(query, minPrice, maxPrice, minBeds, minBaths, propertyType,
+                amenityIds, checkIn, checkOut);
+        return ResponseEntity.ok(propertyService.searchPropertiesPage(criteria, sort, cursor,
+                Math.max(1, Math.min(size, 100))));
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<List<LocationSuggestion>> suggest(
+            @RequestParam("q") String prefix,
+            @RequestParam(defaultValue = "8") int limit) {
+        return ResponseEntity.ok(propertyService.suggestLocations(prefix, Math.max(1, Math.min(limit, 20))));
+    }
+
+    @GetMapping("/search/facets")
+    public ResponseEntity<PropertyFacetsResponse> searchFacets(
+            @RequestParam(required = false) String query,
+            @RequestParam(required = false) Double minPrice,
+            @RequestParam(required = false) Double maxPrice,
+            @RequestParam(required = false) Integer minBeds,
+            @RequestParam(required = false) Integer minBaths,
+            @RequestParam(required = false) String propertyType,
+            @RequestParam(required = false) List<Long> amenityIds,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkIn,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOut) {
+        return ResponseEntity.ok(propertyService.getSearchFacets(
+                toCriteria(query, minPrice, maxPrice, minBeds, minBaths, propertyType, amenityIds,
+                        checkIn, checkOut)));
+    }
+
+    @GetMapping(value = "/search/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamSearch(
+            @RequestParam(required = false) String query,
+            @RequestParam(required = false) Double minPrice,
+            @RequestParam(required = false) Double maxPrice,
+            @RequestParam(required = false) Integer minBeds,
+            @RequestParam(required = false) Integer minBaths,
+            @RequestParam(required = false) String propertyType,
+            @RequestParam(required = false) List<Long> amenityIds,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkIn,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOut,
+            @RequestParam(defaultValue = "PRICE") PropertySearchCursor.Sort sort) {
+        PropertySearchCriteria criteria = toCriteria(query, minPrice, maxPrice, minBeds, minBaths, propertyType,
+                amenityIds, checkIn, checkOut);
+        StreamingResponseBody body = out -> propertyService.streamSearch(criteria, sort, out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    @GetMapping("/nearby")
+    public ResponseEntity<List<PropertyResponse>> searchNearby(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(defaultValue = "5") double radiusKm,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(propertyService.searchNearby(lat, lng, Math.min(radiusKm, 100),
+                Math.min(limit, 200)));
+    }
+
+    @GetMapping("/within-bounds")
+    public ResponseEntity<List<PropertyResponse>> searchWithinBounds(
+            @RequestParam double minLat,
+            @RequestParam double minLng,
+            @RequestParam double maxLat,
+            @RequestParam double maxLng,
+            @RequestParam(defaultValue = "200") int limit) {
+        return ResponseEntity.ok(propertyService.searchWithinBounds(minLat, minLng, maxLat, maxLng,
+                Math.min(limit, 500)));
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<PropertyResponse> getProperty(@org.springframework.web.bind.annotation.PathVariable Long id) {
-        return ResponseEntity.ok(propertyService.getPropertyById(id));
+        PropertyResponse property = propertyService.getPropertyById(id);
+        propertyViewCounter.record(id);
+        return ResponseEntity.ok(property);
     }
 
     @PatchMapping("/{id}/status")
@@ -106,4 +203,20 @@ public class PropertyController {
         return ResponseEntity.noContent().build();
     }
 
+    private static PropertySearchCriteria toCriteria(String query, Double minPrice, Double maxPrice,
+            Integer minBeds, Integer minBaths, String propertyType, List<Long> amenityIds, LocalDate checkIn,
+            LocalDate checkOut) {
+        return PropertySearchCriteria.builder()
+                .query(query)
+                .minPrice(minPrice != null ? java.math.BigDecimal.valueOf(minPrice) : null)
+                .maxPrice(maxPrice != null ? java.math.BigDecimal.valueOf(maxPrice) : null)
+                .minBeds(minBeds)
+                .minBaths(minBaths)
+                .propertyType(propertyType)
+                .amenityIds(amenityIds)
+                .checkIn(checkIn)
+                .checkOut(checkOut)
+                .build();
+    }
+
 }
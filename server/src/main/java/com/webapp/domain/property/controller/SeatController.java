@@ -23,6 +23,7 @@ import com.webapp.domain.property.entity.Seat;
 import com.webapp.domain.property.enums.SeatStatus;
 import com.webapp.domain.property.repository.PropertyRepository;
 import com.webapp.domain.property.repository.SeatRepository;
+import com.webapp.domain.property.service.SeatService;
 import com.webapp.domain.user.entity.User;
 import com.webapp.domain.user.repository.UserRepository;
 
@@ -39,6 +40,7 @@ import lombok.extern.slf4j.Slf4j;
 public class SeatController {
 
   private final SeatRepository seatRepository;
+  private final SeatService seatService;
   private final PropertyRepository propertyRepository;
   private final UserRepository userRepository;
 
@@ -70,13 +72,8 @@ public class SeatController {
       throw new SecurityException("Not authorized to modify this property");
     }
 
-    Seat seat = Seat.builder()
-        .property(property)
-        .label(request.getLabel())
-        .status(request.getStatus() != null ? request.getStatus() : SeatStatus.AVAILABLE)
-        .build();
-
-    Seat saved = seatRepository.save(seat);
+    Seat saved = seatService.addSeat(property, request.getLabel(),
+        request.getStatus() != null ? request.getStatus() : SeatStatus.AVAILABLE);
     log.info("Added seat {} to property {}", saved.getId(), propertyId);
 
     return ResponseEntity.ok(toDto(saved));
@@ -105,8 +102,7 @@ public class SeatController {
       throw new SecurityException("Not authorized to modify this seat");
     }
 
-    seat.setStatus(status);
-    Seat updated = seatRepository.save(seat);
+    Seat updated = seatService.changeSeatStatus(seat, status);
     log.info("Updated seat {} status to {}", seatId, status);
 
     return ResponseEntity.ok(toDto(updated));
@@ -0,0 +1,21 @@
+package com.webapp.domain.property.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LocationSuggestion {
+    private String text;
+    private Type type;
+    private int count; // searchable listings with this location
+
+    public enum Type {
+        CITY,
+        AREA
+    }
+}
@@ -0,0 +1,63 @@
+package com.webapp.domain.property.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.webapp.domain.property.enums.PropertyStatus;
+import com.webapp.domain.property.enums.PropertyType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * List-card columns of a property, selected with a JPQL constructor
+ * expression so list endpoints never hydrate (or dirty-track) full entities.
+ * The description text and amenities are not part of the row.
+ */
+@Getter
+@AllArgsConstructor
+public class PropertyCardRow {
+
+    /**
+     * Select list matching the constructor, for use in repository queries.
+     */
+    public static final String SELECT = "SELECT new com.webapp.domain.property.dto.PropertyCardRow("
+            + "p.id, p.title, p.location, p.price, p.priceAmount, p.beds, p.baths, p.sqft, p.imageUrl, "
+            + "p.rating, p.reviewsCount, p.verified, p.views, p.inquiries, p.status, p.propertyType, "
+            + "p.latitude, p.longitude, p.createdAt, o.id, o.firstName, o.lastName) "
+            + "FROM Property p JOIN p.owner o ";
+
+    private Long id;
+    private String title;
+    private String location;
+    private String price;
+    private BigDecimal priceAmount;
+    private Integer beds;
+    private Integer baths;
+    private Integer sqft;
+    private String imageUrl;
+    private Double rating;
+    private Integer reviewsCount;
+    private Boolean verified;
+    private Integer views;
+    private Integer inquiries;
+    private PropertyStatus status;
+    private PropertyType propertyType;
+    private Double latitude;
+    private Double longitude;
+    private LocalDateTime createdAt;
+    private Long ownerId;
+    private String ownerFirstName;
+    private String ownerLastName;
+
+    /**
+     * Same formatting as {@code User#getFullName()}.
+     */
+    public String getOwnerName() {
+        if (ownerFirstName == null && ownerLastName == null) {
+            return null;
+        }
+        return ((ownerFirstName != null ? ownerFirstName : "") + " "
+                + (ownerLastName != null ? ownerLastName : "")).trim();
+    }
+}
@@ -0,0 +1,23 @@
+package com.webapp.domain.property.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One keyset page of property search results. Pass nextCursor back to fetch
+ * the following page; it is null on the last page.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyCursorPage {
+    private List<PropertyResponse> items;
+    private String nextCursor;
+    private boolean hasMore;
+    private int size;
+}
@@ -0,0 +1,46 @@
+package com.webapp.domain.property.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Facet counts over the current search result set.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyFacetsResponse {
+    private long total;
+    private List<PriceBucket> priceBuckets;
+    private Map<Integer, Long> beds;
+    private Map<Integer, Long> baths;
+    private Map<String, Long> propertyTypes;
+    private List<AmenityFacet> amenities;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PriceBucket {
+        private BigDecimal min; // inclusive
+        private BigDecimal max; // exclusive, null for the open-ended last bucket
+        private long count;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AmenityFacet {
+        private Long id;
+        private String name;
+        private long count;
+    }
+}
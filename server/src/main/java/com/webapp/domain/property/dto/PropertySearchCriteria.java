@@ -0,0 +1,44 @@
+package com.webapp.domain.property.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Filters shared by the paged, streaming and faceted property search modes.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertySearchCriteria {
+    private String query;
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+    private Integer minBeds;
+    private Integer minBaths;
+    private String propertyType;
+    private List<Long> amenityIds;
+    private LocalDate checkIn;
+    private LocalDate checkOut;
+
+    public boolean hasQuery() {
+        return query != null && !query.isBlank();
+    }
+
+    /**
+     * True when the search is restricted to listings free for a stay.
+     */
+    public boolean hasStayDates() {
+        return checkIn != null && checkOut != null;
+    }
+
+    public List<Long> safeAmenityIds() {
+        return amenityIds != null ? amenityIds : List.of();
+    }
+}
@@ -0,0 +1,25 @@
+package com.webapp.domain.property.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Seat counts of one property. {@code blocked} includes seats under
+ * maintenance and seats held for pending bookings.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatOccupancyDto {
+  private Long propertyId;
+  private int available;
+  private int occupied;
+  private int blocked;
+
+  public int getTotal() {
+    return available + occupied + blocked;
+  }
+}
@@ -0,0 +1,68 @@
+package com.webapp.domain.property.entity;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One stripe of a property's seat occupancy, kept in step with its seats.
+ * Rows are changed only through the delta UPDATEs of
+ * {@link com.webapp.domain.property.repository.PropertySeatCounterRepository},
+ * in the same transaction as the seat transition they count. A transition
+ * updates one stripe, so a single stripe can go negative; the property's
+ * occupancy is the sum of its stripes.
+ *
+ * MAINTENANCE and HELD seats are counted as blocked.
+ */
+@Entity
+@Table(name = "property_seat_counters")
+@IdClass(PropertySeatCounter.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PropertySeatCounter {
+
+  @Id
+  @Column(name = "property_id")
+  private Long propertyId;
+
+  @Id
+  @Column(nullable = false)
+  private int stripe;
+
+  @Column(nullable = false)
+  private int available;
+
+  @Column(nullable = false)
+  private int occupied;
+
+  @Column(nullable = false)
+  private int blocked;
+
+  @Column(name = "updated_at")
+  private LocalDateTime updatedAt;
+
+  @EqualsAndHashCode
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Key implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long propertyId;
+    private int stripe;
+  }
+}
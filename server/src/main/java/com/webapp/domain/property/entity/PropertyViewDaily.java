@@ -0,0 +1,45 @@
+package com.webapp.domain.property.entity;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Detail-page views of one property on one day. Rows are written only by the
+ * batched flush of {@link com.webapp.domain.property.view.PropertyViewCounter}.
+ */
+@Entity
+@Table(name = "property_view_daily", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_view_daily_property_date", columnNames = { "property_id", "view_date" })
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PropertyViewDaily {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "property_id", nullable = false)
+  private Long propertyId;
+
+  @Column(name = "view_date", nullable = false)
+  private LocalDate viewDate;
+
+  @Column(nullable = false)
+  private long views;
+}
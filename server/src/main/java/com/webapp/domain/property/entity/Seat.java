@@ -17,16 +17,20 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "seats")
+@Table(name = "seats", indexes = {
+    @Index(name = "idx_seat_claim_token", columnList = "claim_token")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -37,6 +41,12 @@ public class Seat {
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long id;
 
+  /**
+   * Bumped on every status change; the optimistic allocator compares it.
+   */
+  @Version
+  private Long version;
+
   @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "property_id", nullable = false)
   private Property property;
@@ -49,6 +59,13 @@ public class Seat {
   @Column(nullable = false)
   private SeatStatus status;
 
+  /**
+   * Random token written by the atomic claim UPDATE so the claimer can find
+   * the row it won.
+   */
+  @Column(name = "claim_token", length = 36)
+  private String claimToken;
+
   @Column(name = "last_vacated_at")
   private LocalDateTime lastVacatedAt;
 
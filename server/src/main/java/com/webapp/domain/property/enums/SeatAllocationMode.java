@@ -0,0 +1,13 @@
+package com.webapp.domain.property.enums;
+
+/**
+ * How SeatService claims an available seat when a booking is confirmed.
+ */
+public enum SeatAllocationMode {
+  /** SELECT ... FOR UPDATE on the first available seat */
+  PESSIMISTIC,
+  /** Version compare-and-set on an unlocked candidate, with bounded retry */
+  OPTIMISTIC,
+  /** Single conditional UPDATE ... LIMIT 1 that claims any available seat */
+  ATOMIC_UPDATE
+}
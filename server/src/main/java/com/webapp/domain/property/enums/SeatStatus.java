@@ -4,5 +4,7 @@ public enum SeatStatus {
   AVAILABLE,
   OCCUPIED,
   BLOCKED,
-  MAINTENANCE
+  MAINTENANCE,
+  /** Reserved for a PENDING booking until it is answered or its hold expires */
+  HELD
 }
@@ -0,0 +1,32 @@
+package com.webapp.domain.property.event;
+
+import java.util.List;
+
+import com.webapp.domain.property.entity.PropertyAvailability;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published by PropertyAvailabilityService when availability ranges of a
+ * property are saved or removed.
+ */
+@Getter
+@AllArgsConstructor
+public class AvailabilityChangedEvent {
+
+  private final Long propertyId;
+
+  private final List<PropertyAvailability> saved;
+
+  private final List<Long> removedIds;
+
+  public static AvailabilityChangedEvent saved(Long propertyId, PropertyAvailability availability,
+      List<Long> replacedIds) {
+    return new AvailabilityChangedEvent(propertyId, List.of(availability), replacedIds);
+  }
+
+  public static AvailabilityChangedEvent removed(Long propertyId, Long availabilityId) {
+    return new AvailabilityChangedEvent(propertyId, List.of(), List.of(availabilityId));
+  }
+}
@@ -0,0 +1,50 @@
+package com.webapp.domain.property.event;
+
+import java.util.List;
+
+import com.webapp.domain.property.entity.Property;
+import com.webapp.domain.property.enums.PropertyStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published by PropertyService whenever a listing is created, edited,
+ * changes status or is deleted.
+ *
+ * In-memory search structures subscribe to this event (after commit) to keep
+ * themselves coherent with the properties table without polling it.
+ */
+@Getter
+@AllArgsConstructor
+public class PropertyChangedEvent {
+
+  /**
+   * Statuses that make a listing visible to public search.
+   */
+  public static final List<PropertyStatus> SEARCHABLE_STATUSES = List.of(PropertyStatus.APPROVED,
+      PropertyStatus.ACTIVE);
+
+  private final Property property;
+
+  private final boolean deleted;
+
+  public static PropertyChangedEvent saved(Property property) {
+    return new PropertyChangedEvent(property, false);
+  }
+
+  public static PropertyChangedEvent deleted(Property property) {
+    return new PropertyChangedEvent(property, true);
+  }
+
+  public Long getPropertyId() {
+    return property.getId();
+  }
+
+  /**
+   * True when the listing should be present in public search indexes.
+   */
+  public boolean isSearchable() {
+    return !deleted && SEARCHABLE_STATUSES.contains(property.getStatus());
+  }
+}
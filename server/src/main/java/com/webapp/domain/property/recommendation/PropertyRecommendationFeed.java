@@ -0,0 +1,193 @@
+package com.webapp.domain.property.recommendation;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.webapp.domain.property.event.PropertyChangedEvent;
+import com.webapp.domain.property.repository.PropertyRepository;
+import com.webapp.domain.property.search.LocationParts;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Precomputed "recommended properties" lists per city and budget segment.
+ *
+ * Every searchable listing is ranked once per refresh (rating, then review
+ * count, then price) and the top entries are stored per (city, budget band),
+ * per city, per band and globally. A request is a map lookup followed by
+ * owner exclusion, falling back to the wider segments until the page is
+ * full. Listings that leave the searchable statuses are dropped from every
+ * segment immediately; other changes mark the feed dirty for the next
+ * scheduled refresh.
+ */
+@Component
+@Slf4j
+public class PropertyRecommendationFeed {
+
+  private static final String ANY = "*";
+
+  private final PropertyRepository propertyRepository;
+  private final BigDecimal[] budgetBounds;
+  private final int segmentSize;
+  private final long maxAgeMillis;
+
+  private volatile Map<String, List<Candidate>> segments = Map.of();
+  private volatile boolean dirty = true;
+  private volatile long builtAt;
+
+  public PropertyRecommendationFeed(PropertyRepository propertyRepository,
+      @Value("${app.recommendations.budget-bounds:5000,10000,20000,50000}") BigDecimal[] budgetBounds,
+      @Value("${app.recommendations.segment-size:50}") int segmentSize,
+      @Value("${app.recommendations.max-age-ms:900000}") long maxAgeMillis) {
+    this.propertyRepository = propertyRepository;
+    this.budgetBounds = budgetBounds.clone();
+    Arrays.sort(this.budgetBounds);
+    this.segmentSize = segmentSize;
+    this.maxAgeMillis = maxAgeMillis;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional(readOnly = true)
+  public void rebuild() {
+    List<Candidate> ranked = new ArrayList<>();
+    for (Object[] row : propertyRepository.findRecommendationRowsByStatusIn(PropertyChangedEvent.SEARCHABLE_STATUSES)) {
+      ranked.add(new Candidate((Long) row[0], (Long) row[1], normalizeCity(LocationParts.city((String) row[2])),
+          (BigDecimal) row[3], ((Number) row[4]).doubleValue(), ((Number) row[5]).intValue()));
+    }
+    ranked.sort(RANKING);
+    load(ranked);
+  }
+
+  /**
+   * Refresh when listings changed since the last build, or when the feed is
+   * older than the max age (ratings and prices drift without events).
+   */
+  @Scheduled(fixedDelayString = "${app.recommendations.refresh-interval-ms:60000}")
+  @Transactional(readOnly = true)
+  public void refreshIfStale() {
+    if (dirty || System.currentTimeMillis() - builtAt > maxAgeMillis) {
+      rebuild();
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onPropertyChanged(PropertyChangedEvent event) {
+    dirty = true;
+    if (!event.isSearchable()) {
+      remove(event.getPropertyId());
+    }
+  }
+
+  /**
+   * Up to {@code limit} recommended property ids for a user, best first.
+   *
+   * @param city      the user's city, or null
+   * @param maxBudget the user's budget ceiling, or null for no limit
+   */
+  public List<Long> recommend(Long userId, String city, BigDecimal maxBudget, int limit) {
+    Map<String, List<Candidate>> current = segments;
+    String cityKey = normalizeCity(city);
+    String bandKey = maxBudget != null ? String.valueOf(bandOf(maxBudget)) : ANY;
+
+    Set<Long> picked = new LinkedHashSet<>();
+    for (String key : List.of(key(cityKey, bandKey), key(cityKey, ANY), key(ANY, bandKey), key(ANY, ANY))) {
+      for (Candidate candidate : current.getOrDefault(key, List.of())) {
+        if (picked.size() >= limit) {
+          return new ArrayList<>(picked);
+        }
+        if (!candidate.ownerId().equals(userId)) {
+          picked.add(candidate.propertyId());
+        }
+      }
+    }
+    return new ArrayList<>(picked);
+  }
+
+  public boolean isReady() {
+    return builtAt > 0;
+  }
+
+  void load(List<Candidate> ranked) {
+    Map<String, List<Candidate>> built = new HashMap<>();
+    for (Candidate candidate : ranked) {
+      // A listing qualifies for its own band and every higher budget band
+      int band = candidate.price() != null ? bandOf(candidate.price()) : budgetBounds.length;
+      add(built, key(candidate.city(), ANY), candidate);
+      add(built, key(ANY, ANY), candidate);
+      for (int b = band; b <= budgetBounds.length; b++) {
+        add(built, key(candidate.city(), String.valueOf(b)), candidate);
+        add(built, key(ANY, String.valueOf(b)), candidate);
+      }
+    }
+    built.replaceAll((k, v) -> List.copyOf(v));
+
+    synchronized (this) {
+      segments = built;
+      dirty = false;
+      builtAt = System.currentTimeMillis();
+    }
+    log.info("Recommendation feed built with {} listings in {} segments", ranked.size(), built.size());
+  }
+
+  private synchronized void remove(Long propertyId) {
+    Map<String, List<Candidate>> pruned = new HashMap<>(segments);
+    pruned.replaceAll((k, v) -> v.stream().filter(c -> !c.propertyId().equals(propertyId)).toList());
+    segments = pruned;
+  }
+
+  private void add(Map<String, List<Candidate>> built, String key, Candidate candidate) {
+    List<Candidate> list = built.computeIfAbsent(key, k -> new ArrayList<>());
+    if (list.size() < segmentSize) {
+      list.add(candidate);
+    }
+  }
+
+  /**
+   * Index of the budget band containing the amount; the last band is
+   * open-ended.
+   */
+  private int bandOf(BigDecimal amount) {
+    int i = 0;
+    while (i < budgetBounds.length && amount.compareTo(budgetBounds[i]) > 0) {
+      i++;
+    }
+    return i;
+  }
+
+  private static String key(String city, String band) {
+    return city + "|" + band;
+  }
+
+  static String normalizeCity(String city) {
+    if (city == null) {
+      return ANY;
+    }
+    String normalized = city.trim().toLowerCase(Locale.ROOT);
+    return normalized.isEmpty() ? ANY : normalized;
+  }
+
+  static final Comparator<Candidate> RANKING = Comparator.comparingDouble(Candidate::rating).reversed()
+      .thenComparing(Comparator.comparingInt(Candidate::reviewsCount).reversed())
+      .thenComparing(Candidate::price, Comparator.nullsLast(Comparator.naturalOrder()))
+      .thenComparing(Candidate::propertyId);
+
+  record Candidate(Long propertyId, Long ownerId, String city, BigDecimal price, double rating,
+      int reviewsCount) {
+  }
+}
@@ -34,5 +34,12 @@ public interface PropertyAvailabilityRepository extends JpaRepository<PropertyAv
       @Param("startDate") LocalDate startDate,
       @Param("endDate") LocalDate endDate);
 
+  /**
+   * (property id, id, start date, end date, status, notes) of every range, for
+   * the availability calendar index.
+   */
+  @Query("SELECT pa.property.id, pa.id, pa.startDate, pa.endDate, pa.status, pa.notes FROM PropertyAvailability pa")
+  List<Object[]> findCalendarRows();
+
   void deleteByPropertyId(Long propertyId);
 }
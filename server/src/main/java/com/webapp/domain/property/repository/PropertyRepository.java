@@ -9,6 +9,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import com.webapp.domain.property.dto.PropertyCardRow;
 import com.webapp.domain.property.entity.Property;
 import com.webapp.domain.property.enums.PropertyStatus;
 
@@ -32,6 +33,33 @@ public interface PropertyRepository extends JpaRepository<Property, Long> {
         @org.springframework.data.jpa.repository.EntityGraph(attributePaths = { "owner" })
         List<Property> findByStatus(PropertyStatus status);
 
+        @org.springframework.data.jpa.repository.EntityGraph(attributePaths = { "owner", "amenities" })
+        java.util.Optional<Property> findDetailById(Long id);
+
+        @org.springframework.data.jpa.repository.Query("SELECT p.id, p.latitude, p.longitude FROM Property p WHERE p.status IN :statuses AND p.latitude IS NOT NULL AND p.longitude IS NOT NULL")
+        List<Object[]> findGeoPointsByStatusIn(
+                        @org.springframework.data.repository.query.Param("statuses") List<PropertyStatus> statuses);
+
+        @org.springframework.data.jpa.repository.Query("SELECT p.id, p.title, p.description, p.location FROM Property p WHERE p.status IN :statuses")
+        List<Object[]> findSearchTextByStatusIn(
+                        @org.springframework.data.repository.query.Param("statuses") List<PropertyStatus> statuses);
+
+        @org.springframework.data.jpa.repository.Query("SELECT p.id, a.id FROM Property p LEFT JOIN p.amenities a WHERE p.status IN :statuses")
+        List<Object[]> findAmenityPairsByStatusIn(
+                        @org.springframework.data.repository.query.Param("statuses") List<PropertyStatus> statuses);
+
+        @org.springframework.data.jpa.repository.Query("SELECT p.id, p.priceAmount, p.beds, p.baths, p.propertyType FROM Property p WHERE p.status IN :statuses")
+        List<Object[]> findFacetRowsByStatusIn(
+                        @org.springframework.data.repository.query.Param("statuses") List<PropertyStatus> statuses);
+
+        @org.springframework.data.jpa.repository.Query("SELECT p.id, p.owner.id, p.location, p.priceAmount, p.rating, p.reviewsCount FROM Property p WHERE p.status IN :statuses")
+        List<Object[]> findRecommendationRowsByStatusIn(
+                        @org.springframework.data.repository.query.Param("statuses") List<PropertyStatus> statuses);
+
+        @org.springframework.data.jpa.repository.Query("SELECT p.id, p.location FROM Property p WHERE p.status IN :statuses")
+        List<Object[]> findLocationsByStatusIn(
+                        @org.springframework.data.repository.query.Param("statuses") List<PropertyStatus> statuses);
+
         @org.springframework.data.jpa.repository.Query("SELECT p.location, COUNT(p) FROM Property p GROUP BY p.location ORDER BY COUNT(p) DESC")
         List<Object[]> findTopLocations(Pageable pageable);
 
@@ -44,8 +72,6 @@ public interface PropertyRepository extends JpaRepository<Property, Long> {
                         "(:minBaths IS NULL OR p.baths >= :minBaths) AND " +
                         "(cast(:propertyType as string) IS NULL OR CAST(p.propertyType as string) = cast(:propertyType as string)) AND "
                         +
-                        "(:amenityCount = 0 OR (SELECT COUNT(DISTINCT a.id) FROM p.amenities a WHERE a.id IN :amenityIds) = :amenityCount) AND "
-                        +
                         "p.status IN :statuses")
         List<Property> searchProperties(
                         @org.springframework.data.repository.query.Param("location") String location,
@@ -54,9 +80,142 @@ public interface PropertyRepository extends JpaRepository<Property, Long> {
                         @org.springframework.data.repository.query.Param("minBeds") Integer minBeds,
                         @org.springframework.data.repository.query.Param("minBaths") Integer minBaths,
                         @org.springframework.data.repository.query.Param("propertyType") String propertyType,
+                        @org.springframework.data.repository.query.Param("statuses") List<PropertyStatus> statuses);
+
+        /**
+         * List-card projection of searchProperties (without the location LIKE,
+         * which the text index replaces). {@code excludedIds} drops listings
+         * that are booked for the requested stay.
+         */
+        @org.springframework.data.jpa.repository.Query(PropertyCardRow.SELECT + "WHERE " +
+                        "(:excludeIds = false OR p.id NOT IN :excludedIds) AND " +
+                        "(:minPrice IS NULL OR p.priceAmount >= :minPrice) AND " +
+                        "(:maxPrice IS NULL OR p.priceAmount <= :maxPrice) AND " +
+                        "(:minBeds IS NULL OR p.beds >= :minBeds) AND " +
+                        "(:minBaths IS NULL OR p.baths >= :minBaths) AND " +
+                        "(cast(:propertyType as string) IS NULL OR CAST(p.propertyType as string) = cast(:propertyType as string)) AND "
+                        +
+                        "p.status IN :statuses")
+        List<PropertyCardRow> searchPropertyCards(
+                        @org.springframework.data.repository.query.Param("excludeIds") boolean excludeIds,
+                        @org.springframework.data.repository.query.Param("excludedIds") java.util.Collection<Long> excludedIds,
+                        @org.springframework.data.repository.query.Param("minPrice") BigDecimal minPrice,
+                        @org.springframework.data.repository.query.Param("maxPrice") BigDecimal maxPrice,
+                        @org.springframework.data.repository.query.Param("minBeds") Integer minBeds,
+                        @org.springframework.data.repository.query.Param("minBaths") Integer minBaths,
+                        @org.springframework.data.repository.query.Param("propertyType") String propertyType,
+                        @org.springframework.data.repository.query.Param("statuses") List<PropertyStatus> statuses);
+
+        /**
+         * Same filters as searchPropertyCards, restricted to candidate ids produced
+         * by the in-memory text and amenity indexes instead of a LIKE scan on
+         * location and a per-row amenity subquery.
+         */
+        @org.springframework.data.jpa.repository.Query(PropertyCardRow.SELECT + "WHERE " +
+                        "p.id IN :ids AND " +
+                        "(:minPrice IS NULL OR p.priceAmount >= :minPrice) AND " +
+                        "(:maxPrice IS NULL OR p.priceAmount <= :maxPrice) AND " +
+                        "(:minBeds IS NULL OR p.beds >= :minBeds) AND " +
+                        "(:minBaths IS NULL OR p.baths >= :minBaths) AND " +
+                        "(cast(:propertyType as string) IS NULL OR CAST(p.propertyType as string) = cast(:propertyType as string)) AND "
+                        +
+                        "p.status IN :statuses")
+        List<PropertyCardRow> searchPropertyCardsByIds(
+                        @org.springframework.data.repository.query.Param("ids") java.util.Collection<Long> ids,
+                        @org.springframework.data.repository.query.Param("minPrice") BigDecimal minPrice,
+                        @org.springframework.data.repository.query.Param("maxPrice") BigDecimal maxPrice,
+                        @org.springframework.data.repository.query.Param("minBeds") Integer minBeds,
+                        @org.springframework.data.repository.query.Param("minBaths") Integer minBaths,
+                        @org.springframework.data.repository.query.Param("propertyType") String propertyType,
+                        @org.springframework.data.repository.query.Param("statuses") List<PropertyStatus> statuses);
+
+        @org.springframework.data.jpa.repository.Query(PropertyCardRow.SELECT + "WHERE p.id IN :ids")
+        List<PropertyCardRow> findCardsByIdIn(
+                        @org.springframework.data.repository.query.Param("ids") java.util.Collection<Long> ids);
+
+        @org.springframework.data.jpa.repository.Query(PropertyCardRow.SELECT + "WHERE o.id = :ownerId ORDER BY p.id")
+        List<PropertyCardRow> findCardsByOwnerId(
+                        @org.springframework.data.repository.query.Param("ownerId") Long ownerId);
+
+        @org.springframework.data.jpa.repository.Query(PropertyCardRow.SELECT
+                        + "WHERE p.status = :status AND o.id <> :userId ORDER BY p.priceAmount ASC, p.id ASC")
+        List<PropertyCardRow> findCardsByStatusAndOwnerIdNot(
+                        @org.springframework.data.repository.query.Param("status") PropertyStatus status,
+                        @org.springframework.data.repository.query.Param("userId") Long userId,
+                        Pageable pageable);
+
+        /**
+         * (propertyId, amenity) pairs for a page of list cards, loaded in one
+         * query instead of one EAGER collection fetch per property.
+         */
+        @org.springframework.data.jpa.repository.Query("SELECT p.id, a FROM Property p JOIN p.amenities a WHERE p.id IN :ids")
+        List<Object[]> findAmenitiesByPropertyIdIn(
+                        @org.springframework.data.repository.query.Param("ids") java.util.Collection<Long> ids);
+
+        /**
+         * Keyset page of ids ordered by (priceAmount, id). Pass a null cursor for
+         * the first page and request size + 1 rows to detect a following page.
+         */
+        @org.springframework.data.jpa.repository.Query("SELECT p.id FROM Property p WHERE " +
+                        "(:restrictIds = false OR p.id IN :ids) AND " +
+                        "(:excludeIds = false OR p.id NOT IN :excludedIds) AND " +
+                        "(:minPrice IS NULL OR p.priceAmount >= :minPrice) AND " +
+                        "(:maxPrice IS NULL OR p.priceAmount <= :maxPrice) AND " +
+                        "(:minBeds IS NULL OR p.beds >= :minBeds) AND " +
+                        "(:minBaths IS NULL OR p.baths >= :minBaths) AND " +
+                        "(cast(:propertyType as string) IS NULL OR CAST(p.propertyType as string) = cast(:propertyType as string)) AND "
+                        +
+                        "p.status IN :statuses AND " +
+                        "p.priceAmount IS NOT NULL AND " +
+                        "(:cursorId IS NULL OR p.priceAmount > :cursorPrice OR (p.priceAmount = :cursorPrice AND p.id > :cursorId)) "
+                        +
+                        "ORDER BY p.priceAmount ASC, p.id ASC")
+        List<Long> findIdsOrderByPriceAfter(
+                        @org.springframework.data.repository.query.Param("restrictIds") boolean restrictIds,
+                        @org.springframework.data.repository.query.Param("ids") java.util.Collection<Long> ids,
+                        @org.springframework.data.repository.query.Param("excludeIds") boolean excludeIds,
+                        @org.springframework.data.repository.query.Param("excludedIds") java.util.Collection<Long> excludedIds,
+                        @org.springframework.data.repository.query.Param("minPrice") BigDecimal minPrice,
+                        @org.springframework.data.repository.query.Param("maxPrice") BigDecimal maxPrice,
+                        @org.springframework.data.repository.query.Param("minBeds") Integer minBeds,
+                        @org.springframework.data.repository.query.Param("minBaths") Integer minBaths,
+                        @org.springframework.data.repository.query.Param("propertyType") String propertyType,
+                        @org.springframework.data.repository.query.Param("statuses") List<PropertyStatus> statuses,
+                        @org.springframework.data.repository.query.Param("cursorPrice") BigDecimal cursorPrice,
+                        @org.springframework.data.repository.query.Param("cursorId") Long cursorId,
+                        Pageable pageable);
+
+        /**
+         * Keyset page of ids ordered by (createdAt DESC, id DESC), newest first.
+         */
+        @org.springframework.data.jpa.repository.Query("SELECT p.id FROM Property p WHERE " +
+                        "(:restrictIds = false OR p.id IN :ids) AND " +
+                        "(:excludeIds = false OR p.id NOT IN :excludedIds) AND " +
+                        "(:minPrice IS NULL OR p.priceAmount >= :minPrice) AND " +
+                        "(:maxPrice IS NULL OR p.priceAmount <= :maxPrice) AND " +
+                        "(:minBeds IS NULL OR p.beds >= :minBeds) AND " +
+                        "(:minBaths IS NULL OR p.baths >= :minBaths) AND " +
+                        "(cast(:propertyType as string) IS NULL OR CAST(p.propertyType as string) = cast(:propertyType as string)) AND "
+                        +
+                        "p.status IN :statuses AND " +
+                        "p.createdAt IS NOT NULL AND " +
+                        "(:cursorId IS NULL OR p.createdAt < :cursorCreatedAt OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId)) "
+                        +
+                        "ORDER BY p.createdAt DESC, p.id DESC")
+        List<Long> findIdsOrderByNewestAfter(
+                        @org.springframework.data.repository.query.Param("restrictIds") boolean restrictIds,
+                        @org.springframework.data.repository.query.Param("ids") java.util.Collection<Long> ids,
+                        @org.springframework.data.repository.query.Param("excludeIds") boolean excludeIds,
+                        @org.springframework.data.repository.query.Param("excludedIds") java.util.Collection<Long> excludedIds,
+                        @org.springframework.data.repository.query.Param("minPrice") BigDecimal minPrice,
+                        @org.springframework.data.repository.query.Param("maxPrice") BigDecimal maxPrice,
+                        @org.springframework.data.repository.query.Param("minBeds") Integer minBeds,
+                        @org.springframework.data.repository.query.Param("minBaths") Integer minBaths,
+                        @org.springframework.data.repository.query.Param("propertyType") String propertyType,
                         @org.springframework.data.repository.query.Param("statuses") List<PropertyStatus> statuses,
-                        @org.springframework.data.repository.query.Param("amenityIds") List<Long> amenityIds,
-                        @org.springframework.data.repository.query.Param("amenityCount") Long amenityCount);
+                        @org.springframework.data.repository.query.Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                        @org.springframework.data.repository.query.Param("cursorId") Long cursorId,
+                        Pageable pageable);
 
         @org.springframework.data.jpa.repository.Query("SELECT SUM(p.priceAmount) FROM Property p WHERE p.owner.id = :ownerId AND p.status = 'RENTED'")
         BigDecimal sumRevenueByOwnerId(@org.springframework.data.repository.query.Param("ownerId") Long ownerId);
@@ -0,0 +1,107 @@
+package com.webapp.domain.property.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.webapp.domain.property.entity.PropertySeatCounter;
+
+import jakarta.persistence.LockModeType;
+
+/**
+ * Per-property seat occupancy counters, several stripes per property.
+ */
+@Repository
+public interface PropertySeatCounterRepository extends JpaRepository<PropertySeatCounter, PropertySeatCounter.Key> {
+
+    List<PropertySeatCounter> findByPropertyId(Long propertyId);
+
+    List<PropertySeatCounter> findByPropertyIdIn(Collection<Long> propertyIds);
+
+    /**
+     * Lock the counter rows of several properties in id order, serializing
+     * seat provisioning per property.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM PropertySeatCounter c WHERE c.propertyId IN :propertyIds "
+            + "ORDER BY c.propertyId ASC, c.stripe ASC")
+    List<PropertySeatCounter> findByPropertyIdInWithLock(@Param("propertyIds") Collection<Long> propertyIds);
+
+    /**
+     * Counters of every property the user owns, in one query.
+     */
+    @Query("SELECT c FROM PropertySeatCounter c, Property p WHERE p.id = c.propertyId AND p.owner.id = :ownerId")
+    List<PropertySeatCounter> findByOwnerId(@Param("ownerId") Long ownerId);
+
+    /**
+     * Add deltas to one stripe of a property's counters in place. The row
+     * stays locked until the caller's transaction ends. Returns 0 when the
+     * property has no such stripe yet.
+     */
+    @Modifying
+    @Query("UPDATE PropertySeatCounter c SET c.available = c.available + :available, "
+            + "c.occupied = c.occupied + :occupied, c.blocked = c.blocked + :blocked, "
+            + "c.updatedAt = CURRENT_TIMESTAMP WHERE c.propertyId = :propertyId AND c.stripe = :stripe")
+    int adjust(@Param("propertyId") Long propertyId,
+            @Param("stripe") int stripe,
+            @Param("available") int available,
+            @Param("occupied") int occupied,
+            @Param("blocked") int blocked);
+
+    /**
+     * Create stripe 0, counted from the seats table, for the given properties
+     * that have seats but no counters yet.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO property_seat_counters (property_id, stripe, available, occupied, blocked, updated_at) "
+            + "SELECT s.property_id, 0, "
+            + "SUM(CASE WHEN s.status = 'AVAILABLE' THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN s.status = 'OCCUPIED' THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN s.status IN ('BLOCKED', 'MAINTENANCE') THEN 1 ELSE 0 END), "
+            + "CURRENT_TIMESTAMP FROM seats s WHERE s.property_id IN (:propertyIds) "
+            + "AND NOT EXISTS (SELECT 1 FROM property_seat_counters c WHERE c.property_id = s.property_id) "
+            + "GROUP BY s.property_id", nativeQuery = true)
+    int insertMissing(@Param("propertyIds") Collection<Long> propertyIds);
+
+    /**
+     * {@link #insertMissing} for every property with seats.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO property_seat_counters (property_id, stripe, available, occupied, blocked, updated_at) "
+            + "SELECT s.property_id, 0, "
+            + "SUM(CASE WHEN s.status = 'AVAILABLE' THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN s.status = 'OCCUPIED' THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN s.status IN ('BLOCKED', 'MAINTENANCE') THEN 1 ELSE 0 END), "
+            + "CURRENT_TIMESTAMP FROM seats s "
+            + "WHERE NOT EXISTS (SELECT 1 FROM property_seat_counters c WHERE c.property_id = s.property_id) "
+            + "GROUP BY s.property_id", nativeQuery = true)
+    int insertAllMissing();
+
+    /**
+     * Add an empty {@code stripe} for the given properties that have stripe 0
+     * but not this one.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO property_seat_counters (property_id, stripe, available, occupied, blocked, updated_at) "
+            + "SELECT c.property_id, :stripe, 0, 0, 0, CURRENT_TIMESTAMP FROM property_seat_counters c "
+            + "WHERE c.stripe = 0 AND c.property_id IN (:propertyIds) "
+            + "AND NOT EXISTS (SELECT 1 FROM property_seat_counters o "
+            + "WHERE o.property_id = c.property_id AND o.stripe = :stripe)", nativeQuery = true)
+    int insertMissingStripe(@Param("propertyIds") Collection<Long> propertyIds, @Param("stripe") int stripe);
+
+    /**
+     * {@link #insertMissingStripe} for every property with counters.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO property_seat_counters (property_id, stripe, available, occupied, blocked, updated_at) "
+            + "SELECT c.property_id, :stripe, 0, 0, 0, CURRENT_TIMESTAMP FROM property_seat_counters c "
+            + "WHERE c.stripe = 0 AND NOT EXISTS (SELECT 1 FROM property_seat_counters o "
+            + "WHERE o.property_id = c.property_id AND o.stripe = :stripe)", nativeQuery = true)
+    int insertAllMissingStripe(@Param("stripe") int stripe);
+}
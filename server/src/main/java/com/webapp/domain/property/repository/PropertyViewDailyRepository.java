@@ -0,0 +1,25 @@
+package com.webapp.domain.property.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.webapp.domain.property.entity.PropertyViewDaily;
+
+@Repository
+public interface PropertyViewDailyRepository extends JpaRepository<PropertyViewDaily, Long> {
+
+  @Query("SELECT v.viewDate, SUM(v.views) FROM PropertyViewDaily v " +
+      "WHERE v.propertyId IN (SELECT p.id FROM Property p WHERE p.owner.id = :ownerId) " +
+      "AND v.viewDate >= :from GROUP BY v.viewDate ORDER BY v.viewDate")
+  List<Object[]> sumDailyViewsByOwnerId(
+      @Param("ownerId") Long ownerId,
+      @Param("from") LocalDate from);
+
+  List<PropertyViewDaily> findByPropertyIdAndViewDateGreaterThanEqualOrderByViewDateAsc(Long propertyId,
+      LocalDate from);
+}
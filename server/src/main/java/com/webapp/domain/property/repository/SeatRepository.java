@@ -1,8 +1,11 @@
 package com.webapp.domain.property.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
@@ -23,26 +26,96 @@ public interface SeatRepository extends JpaRepository<Seat, Long> {
 
     List<Seat> findByPropertyId(Long propertyId);
 
+    List<Seat> findByPropertyIdInOrderByIdAsc(Collection<Long> propertyIds);
+
     void deleteByPropertyId(Long propertyId);
 
     long countByStatus(SeatStatus status);
 
+    /**
+     * (property id, beds, seat count) of the given properties, in id order.
+     */
+    @Query("SELECT p.id, p.beds, COUNT(s.id) FROM Property p LEFT JOIN Seat s ON s.property.id = p.id "
+            + "WHERE p.id IN :propertyIds GROUP BY p.id, p.beds ORDER BY p.id ASC")
+    List<Object[]> findSeatCountsByPropertyIdIn(@Param("propertyIds") Collection<Long> propertyIds);
+
+    /**
+     * Properties with fewer seats than beds, in id order.
+     */
+    @Query("SELECT p.id FROM Property p WHERE p.beds > (SELECT COUNT(s.id) FROM Seat s WHERE s.property.id = p.id) "
+            + "ORDER BY p.id ASC")
+    List<Long> findPropertyIdsMissingSeats(Pageable pageable);
+
     /**
      * Count available seats for a property.
      */
     long countByPropertyIdAndStatus(Long propertyId, SeatStatus status);
 
+    /**
+     * Seats in the given status with PESSIMISTIC_WRITE lock, in id order.
+     * Only the page's rows are locked.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Seat s WHERE s.property.id = :propertyId AND s.status = :status ORDER BY s.id ASC")
+    List<Seat> findByPropertyIdAndStatusWithLock(
+            @Param("propertyId") Long propertyId,
+            @Param("status") SeatStatus status,
+            Pageable pageable);
+
     /**
      * Find first available seat with PESSIMISTIC_WRITE lock.
      * This prevents race conditions during concurrent booking approvals.
      * The lock is held until the transaction commits/rollbacks.
      */
+    default Optional<Seat> findFirstByPropertyIdAndStatusWithLock(Long propertyId, SeatStatus status) {
+        return findByPropertyIdAndStatusWithLock(propertyId, status, PageRequest.of(0, 1)).stream().findFirst();
+    }
+
+    /**
+     * All seats in the given status across several properties, locked with
+     * PESSIMISTIC_WRITE in (property, id) order for bulk confirmations.
+     */
     @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT s FROM Seat s WHERE s.property.id = :propertyId AND s.status = :status ORDER BY s.id ASC")
-    Optional<Seat> findFirstByPropertyIdAndStatusWithLock(
-            @Param("propertyId") Long propertyId,
+    @Query("SELECT s FROM Seat s WHERE s.property.id IN :propertyIds AND s.status = :status "
+            + "ORDER BY s.property.id ASC, s.id ASC")
+    List<Seat> findAllByPropertyIdInAndStatusWithLock(
+            @Param("propertyIds") Collection<Long> propertyIds,
             @Param("status") SeatStatus status);
 
+    /**
+     * (id, version) of available seats, read without locks as candidates for
+     * the optimistic allocator.
+     */
+    @Query("SELECT s.id, COALESCE(s.version, 0) FROM Seat s WHERE s.property.id = :propertyId AND s.status = :status "
+            + "ORDER BY s.id ASC")
+    List<Object[]> findCandidateVersions(
+            @Param("propertyId") Long propertyId,
+            @Param("status") SeatStatus status,
+            Pageable pageable);
+
+    /**
+     * Occupy a seat only if it is still AVAILABLE at the version the caller
+     * read. Returns 0 when another transaction got there first.
+     */
+    @Modifying
+    @Query("UPDATE Seat s SET s.status = com.webapp.domain.property.enums.SeatStatus.OCCUPIED, "
+            + "s.version = COALESCE(s.version, 0) + 1, s.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE s.id = :seatId AND COALESCE(s.version, 0) = :version "
+            + "AND s.status = com.webapp.domain.property.enums.SeatStatus.AVAILABLE")
+    int compareAndOccupy(@Param("seatId") Long seatId, @Param("version") Long version);
+
+    /**
+     * Occupy any one available seat of the property in a single statement,
+     * tagging it with the caller's token. Returns 0 when none is left.
+     */
+    @Modifying
+    @Query(value = "UPDATE seats SET status = 'OCCUPIED', claim_token = :token, "
+            + "version = COALESCE(version, 0) + 1, updated_at = CURRENT_TIMESTAMP "
+            + "WHERE property_id = :propertyId AND status = 'AVAILABLE' LIMIT 1", nativeQuery = true)
+    int claimAvailable(@Param("propertyId") Long propertyId, @Param("token") String token);
+
+    Optional<Seat> findByClaimToken(String claimToken);
+
     /**
      * Bulk update seat status - used for releasing seats.
      */
@@ -0,0 +1,45 @@
+package com.webapp.domain.property.search;
+
+import java.util.regex.Pattern;
+
+/**
+ * Parsing of stored listing locations, which are built as
+ * "address, city zip" when a property is created or updated.
+ */
+public final class LocationParts {
+
+  private static final Pattern TRAILING_POSTCODE = Pattern.compile("\\s+[\\d-]+$");
+
+  private LocationParts() {
+  }
+
+  /**
+   * The city: the part after the last comma, without a trailing postal code.
+   * Null when the location is blank.
+   */
+  public static String city(String location) {
+    if (location == null || location.isBlank()) {
+      return null;
+    }
+    String tail = location.substring(location.lastIndexOf(',') + 1).trim();
+    String city = TRAILING_POSTCODE.matcher(tail).replaceAll("");
+    return city.isEmpty() ? null : city;
+  }
+
+  /**
+   * The area: the address segment right before the city (e.g. "Gulshan 2"),
+   * or null when the location has no comma-separated address part.
+   */
+  public static String area(String location) {
+    if (location == null) {
+      return null;
+    }
+    int cityComma = location.lastIndexOf(',');
+    if (cityComma <= 0) {
+      return null;
+    }
+    String address = location.substring(0, cityComma);
+    String area = address.substring(address.lastIndexOf(',') + 1).trim();
+    return area.isEmpty() ? null : area;
+  }
+}
@@ -0,0 +1,247 @@
+package com.webapp.domain.property.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.webapp.domain.property.dto.LocationSuggestion;
+import com.webapp.domain.property.event.PropertyChangedEvent;
+import com.webapp.domain.property.repository.PropertyRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Prefix trie of city and area names of searchable listings, for typeahead.
+ *
+ * Each name is weighted by the number of listings carrying it and is reachable
+ * from the start of every word ("gul" and "2" both find "Gulshan 2"). Every
+ * trie node caches its best entries, so a lookup walks the prefix and returns
+ * that cache without touching the database. Counts are adjusted per property
+ * as {@link PropertyChangedEvent}s commit.
+ */
+@Component
+@Slf4j
+public class LocationSuggestIndex {
+
+  // Entries cached per trie node; requests are capped to this
+  static final int NODE_TOP_K = 10;
+
+  private final PropertyRepository propertyRepository;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Node root = new Node();
+
+  // normalized name -> entry
+  private final Map<String, Entry> entries = new HashMap<>();
+
+  // propertyId -> normalized names it contributes to
+  private final Map<Long, List<String>> contributions = new HashMap<>();
+
+  public LocationSuggestIndex(PropertyRepository propertyRepository) {
+    this.propertyRepository = propertyRepository;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional(readOnly = true)
+  public void rebuild() {
+    List<Object[]> rows = propertyRepository.findLocationsByStatusIn(PropertyChangedEvent.SEARCHABLE_STATUSES);
+    lock.writeLock().lock();
+    try {
+      root.children.clear();
+      entries.clear();
+      contributions.clear();
+      for (Object[] row : rows) {
+        put((Long) row[0], (String) row[1]);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+    log.info("Location suggest index built with {} names", entries.size());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onPropertyChanged(PropertyChangedEvent event) {
+    if (event.isSearchable()) {
+      index(event.getPropertyId(), event.getProperty().getLocation());
+    } else {
+      remove(event.getPropertyId());
+    }
+  }
+
+  public void index(Long propertyId, String location) {
+    lock.writeLock().lock();
+    try {
+      unlink(propertyId);
+      put(propertyId, location);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void remove(Long propertyId) {
+    lock.writeLock().lock();
+    try {
+      unlink(propertyId);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Names matching the prefix at a word start, most listings first.
+   */
+  public List<LocationSuggestion> suggest(String prefix, int limit) {
+    String key = normalize(prefix);
+    if (key.isEmpty()) {
+      return List.of();
+    }
+    lock.readLock().lock();
+    try {
+      Node node = root;
+      for (int i = 0; i < key.length() && node != null; i++) {
+        node = node.children.get(key.charAt(i));
+      }
+      if (node == null) {
+        return List.of();
+      }
+      return node.top.stream()
+          .limit(Math.min(limit, NODE_TOP_K))
+          .map(e -> LocationSuggestion.builder().text(e.display).type(e.type).count(e.count).build())
+          .toList();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  static String normalize(String text) {
+    return text == null ? "" : text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+  }
+
+  private void put(Long propertyId, String location) {
+    Set<String> keys = new LinkedHashSet<>();
+    String city = LocationParts.city(location);
+    String area = LocationParts.area(location);
+    if (city != null) {
+      keys.add(adjust(city, LocationSuggestion.Type.CITY, 1));
+    }
+    if (area != null && city != null) {
+      keys.add(adjust(area + ", " + city, LocationSuggestion.Type.AREA, 1));
+    }
+    if (!keys.isEmpty()) {
+      contributions.put(propertyId, List.copyOf(keys));
+    }
+  }
+
+  private void unlink(Long propertyId) {
+    List<String> keys = contributions.remove(propertyId);
+    if (keys == null) {
+      return;
+    }
+    for (String key : keys) {
+      Entry entry = entries.get(key);
+      adjust(entry.display, entry.type, -1);
+    }
+  }
+
+  /**
+   * Change a name's listing count and recompute the caches of every node on
+   * its word-start paths, deepest first so each parent merges fresh child
+   * caches. Nodes left empty are unlinked.
+   *
+   * @return the normalized key
+   */
+  private String adjust(String display, LocationSuggestion.Type type, int delta) {
+    String key = normalize(display);
+    Entry entry = entries.computeIfAbsent(key, k -> new Entry(display, type));
+    entry.count += delta;
+
+    for (int start = 0; start < key.length(); start++) {
+      boolean wordStart = start == 0 || !Character.isLetterOrDigit(key.charAt(start - 1));
+      if (!wordStart || !Character.isLetterOrDigit(key.charAt(start))) {
+        continue;
+      }
+      List<Node> path = new ArrayList<>();
+      Node node = root;
+      for (int i = start; i < key.length(); i++) {
+        node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+        path.add(node);
+      }
+      if (entry.count > 0) {
+        node.terminals.add(entry);
+      } else {
+        node.terminals.remove(entry);
+      }
+      for (int i = path.size() - 1; i >= 0; i--) {
+        Node current = path.get(i);
+        current.recompute();
+        if (current.isEmpty()) {
+          Node parent = i > 0 ? path.get(i - 1) : root;
+          parent.children.remove(key.charAt(start + i));
+        }
+      }
+    }
+
+    if (entry.count <= 0) {
+      entries.remove(key);
+    }
+    return key;
+  }
+
+  private static final Comparator<Entry> BY_WEIGHT = Comparator.<Entry>comparingInt(e -> e.count).reversed()
+      .thenComparing(e -> e.display);
+
+  private static final class Entry {
+    final String display;
+    final LocationSuggestion.Type type;
+    int count;
+
+    Entry(String display, LocationSuggestion.Type type) {
+      this.display = display;
+      this.type = type;
+    }
+  }
+
+  private static final class Node {
+    final Map<Character, Node> children = new HashMap<>();
+
+    // names whose word-start suffix ends exactly here
+    final Set<Entry> terminals = new HashSet<>();
+
+    // best names in this subtree, by listing count
+    List<Entry> top = List.of();
+
+    /**
+     * Top entries of the subtree: this node's terminals merged with the
+     * (already current) caches of its children.
+     */
+    void recompute() {
+      Set<Entry> merged = new HashSet<>(terminals);
+      for (Node child : children.values()) {
+        merged.addAll(child.top);
+      }
+      top = merged.stream()
+          .filter(e -> e.count > 0)
+          .sorted(BY_WEIGHT)
+          .limit(NODE_TOP_K)
+          .toList();
+    }
+
+    boolean isEmpty() {
+      return top.isEmpty() && terminals.isEmpty() && children.isEmpty();
+    }
+  }
+}
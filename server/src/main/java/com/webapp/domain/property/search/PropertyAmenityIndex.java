@@ -0,0 +1,216 @@
+package com.webapp.domain.property.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.webapp.domain.property.entity.Amenity;
+import com.webapp.domain.property.entity.Property;
+import com.webapp.domain.property.event.PropertyChangedEvent;
+import com.webapp.domain.property.repository.PropertyRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Amenity membership index: one bitset per amenity over searchable listings.
+ *
+ * Each indexed property gets a dense ordinal (freed ordinals are reused), so a
+ * bitset costs one bit per listing rather than one per property id. A
+ * multi-amenity AND filter is a bitset intersection done before any DB fetch,
+ * replacing the correlated COUNT subquery that ran per candidate row.
+ */
+@Component
+@Slf4j
+public class PropertyAmenityIndex {
+
+  private final PropertyRepository propertyRepository;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  // propertyId -> ordinal, and the reverse mapping
+  private final Map<Long, Integer> ordinals = new HashMap<>();
+  private final List<Long> propertyIds = new ArrayList<>();
+  private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+
+  // amenityId -> ordinals of properties offering it
+  private final Map<Long, BitSet> amenityBits = new HashMap<>();
+
+  // propertyId -> amenity ids currently indexed, to unset bits on change
+  private final Map<Long, Set<Long>> propertyAmenities = new HashMap<>();
+
+  public PropertyAmenityIndex(PropertyRepository propertyRepository) {
+    this.propertyRepository = propertyRepository;
+  }
+
+  /**
+   * Rebuild from the property_amenities join table on startup.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional(readOnly = true)
+  public void rebuild() {
+    Map<Long, Set<Long>> byProperty = new HashMap<>();
+    for (Object[] row : propertyRepository.findAmenityPairsByStatusIn(PropertyChangedEvent.SEARCHABLE_STATUSES)) {
+      Set<Long> amenities = byProperty.computeIfAbsent((Long) row[0], k -> new HashSet<>());
+      if (row[1] != null) {
+        amenities.add((Long) row[1]);
+      }
+    }
+
+    lock.writeLock().lock();
+    try {
+      ordinals.clear();
+      propertyIds.clear();
+      freeOrdinals.clear();
+      amenityBits.clear();
+      propertyAmenities.clear();
+      byProperty.entrySet().stream()
+          .sorted(Map.Entry.comparingByKey())
+          .forEach(e -> put(e.getKey(), e.getValue()));
+    } finally {
+      lock.writeLock().unlock();
+    }
+    log.info("Amenity index built with {} properties and {} amenities", ordinals.size(), amenityBits.size());
+  }
+
+  /**
+   * Patch bits when a listing's amenities or visibility change.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onPropertyChanged(PropertyChangedEvent event) {
+    Property property = event.getProperty();
+    if (event.isSearchable()) {
+      Set<Long> amenityIds = new HashSet<>();
+      for (Amenity amenity : property.getAmenities()) {
+        amenityIds.add(amenity.getId());
+      }
+      index(property.getId(), amenityIds);
+    } else {
+      remove(property.getId());
+    }
+  }
+
+  public void index(Long propertyId, Set<Long> amenityIds) {
+    lock.writeLock().lock();
+    try {
+      put(propertyId, amenityIds);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void remove(Long propertyId) {
+    lock.writeLock().lock();
+    try {
+      Integer ordinal = ordinals.remove(propertyId);
+      if (ordinal == null) {
+        return;
+      }
+      clearBits(ordinal, propertyAmenities.remove(propertyId));
+      propertyIds.set(ordinal, null);
+      freeOrdinals.push(ordinal);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return ordinals.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Properties offering every requested amenity.
+   *
+   * @return matching property ids (ascending); empty if any amenity is unknown
+   */
+  public List<Long> findWithAll(Collection<Long> amenityIds) {
+    lock.readLock().lock();
+    try {
+      List<BitSet> sets = new ArrayList<>(amenityIds.size());
+      for (Long amenityId : new HashSet<>(amenityIds)) {
+        BitSet bits = amenityBits.get(amenityId);
+        if (bits == null || bits.isEmpty()) {
+          return List.of();
+        }
+        sets.add(bits);
+      }
+      if (sets.isEmpty()) {
+        return List.of();
+      }
+
+      // Start from the rarest amenity so the intersection shrinks fastest
+      sets.sort(Comparator.comparingInt(BitSet::cardinality));
+      BitSet result = (BitSet) sets.get(0).clone();
+      for (int i = 1; i < sets.size() && !result.isEmpty(); i++) {
+        result.and(sets.get(i));
+      }
+
+      List<Long> ids = new ArrayList<>(result.cardinality());
+      for (int ordinal = result.nextSetBit(0); ordinal >= 0; ordinal = result.nextSetBit(ordinal + 1)) {
+        ids.add(propertyIds.get(ordinal));
+      }
+      ids.sort(Comparator.naturalOrder());
+      return ids;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private void put(Long propertyId, Set<Long> amenityIds) {
+    Integer ordinal = ordinals.get(propertyId);
+    if (ordinal == null) {
+      ordinal = allocateOrdinal(propertyId);
+    } else {
+      clearBits(ordinal, propertyAmenities.get(propertyId));
+    }
+    for (Long amenityId : amenityIds) {
+      amenityBits.computeIfAbsent(amenityId, k -> new BitSet()).set(ordinal);
+    }
+    propertyAmenities.put(propertyId, Set.copyOf(amenityIds));
+  }
+
+  private int allocateOrdinal(Long propertyId) {
+    int ordinal;
+    if (!freeOrdinals.isEmpty()) {
+      ordinal = freeOrdinals.pop();
+      propertyIds.set(ordinal, propertyId);
+    } else {
+      ordinal = propertyIds.size();
+      propertyIds.add(propertyId);
+    }
+    ordinals.put(propertyId, ordinal);
+    return ordinal;
+  }
+
+  private void clearBits(int ordinal, Set<Long> amenityIds) {
+    if (amenityIds == null) {
+      return;
+    }
+    for (Long amenityId : amenityIds) {
+      BitSet bits = amenityBits.get(amenityId);
+      if (bits != null) {
+        bits.clear(ordinal);
+      }
+    }
+  }
+}
@@ -0,0 +1,224 @@
+package com.webapp.domain.property.search;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.webapp.domain.property.dto.PropertyFacetsResponse;
+import com.webapp.domain.property.dto.PropertySearchCriteria;
+import com.webapp.domain.property.entity.Amenity;
+import com.webapp.domain.property.entity.Property;
+import com.webapp.domain.property.enums.PropertyType;
+import com.webapp.domain.property.event.PropertyChangedEvent;
+import com.webapp.domain.property.repository.PropertyRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compact per-listing facet attributes (price, beds, baths, type, amenities)
+ * for searchable properties.
+ *
+ * {@link #aggregate} applies the scalar search filters and accumulates every
+ * facet in a single pass over the candidate set, replacing one count query
+ * per facet value.
+ */
+@Component
+@Slf4j
+public class PropertyFacetIndex {
+
+  private final PropertyRepository propertyRepository;
+  private final BigDecimal[] priceBoundaries;
+
+  private final Map<Long, FacetDoc> docs = new ConcurrentHashMap<>();
+
+  public PropertyFacetIndex(PropertyRepository propertyRepository,
+      @Value("${app.search.facets.price-buckets:5000,10000,20000,50000}") BigDecimal[] priceBoundaries) {
+    this.propertyRepository = propertyRepository;
+    this.priceBoundaries = priceBoundaries.clone();
+    Arrays.sort(this.priceBoundaries);
+  }
+
+  /**
+   * Load facet attributes of all searchable listings on startup.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional(readOnly = true)
+  public void rebuild() {
+    Map<Long, List<Long>> amenities = new HashMap<>();
+    for (Object[] row : propertyRepository.findAmenityPairsByStatusIn(PropertyChangedEvent.SEARCHABLE_STATUSES)) {
+      if (row[1] != null) {
+        amenities.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add((Long) row[1]);
+      }
+    }
+
+    Map<Long, FacetDoc> loaded = new HashMap<>();
+    for (Object[] row : propertyRepository.findFacetRowsByStatusIn(PropertyChangedEvent.SEARCHABLE_STATUSES)) {
+      Long id = (Long) row[0];
+      loaded.put(id, new FacetDoc((BigDecimal) row[1], ((Number) row[2]).intValue(),
+          ((Number) row[3]).intValue(), (PropertyType) row[4], toArray(amenities.get(id))));
+    }
+
+    synchronized (this) {
+      docs.clear();
+      docs.putAll(loaded);
+    }
+    log.info("Facet index built with {} properties", docs.size());
+  }
+
+  /**
+   * Keep facet attributes coherent with committed property writes.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onPropertyChanged(PropertyChangedEvent event) {
+    Property property = event.getProperty();
+    if (event.isSearchable()) {
+      List<Long> amenityIds = property.getAmenities().stream().map(Amenity::getId).toList();
+      put(property.getId(), new FacetDoc(property.getPriceAmount(), property.getBeds(), property.getBaths(),
+          property.getPropertyType(), toArray(amenityIds)));
+    } else {
+      remove(property.getId());
+    }
+  }
+
+  public synchronized void put(Long propertyId, FacetDoc doc) {
+    docs.put(propertyId, doc);
+  }
+
+  public synchronized void remove(Long propertyId) {
+    docs.remove(propertyId);
+  }
+
+  /**
+   * Whether the listing passes the criteria's scalar filters. Listings the
+   * index does not know yet pass, leaving them to the SQL filter.
+   */
+  public boolean matches(Long propertyId, PropertySearchCriteria criteria) {
+    FacetDoc doc = docs.get(propertyId);
+    return doc == null || doc.matches(criteria);
+  }
+
+  /**
+   * Count facets over listings matching the criteria's scalar filters.
+   *
+   * @param candidateIds ids already narrowed by the text/amenity indexes, or
+   *                     null to consider every searchable listing
+   */
+  public PropertyFacetsResponse aggregate(Collection<Long> candidateIds, PropertySearchCriteria criteria) {
+    return aggregate(candidateIds, Set.of(), criteria);
+  }
+
+  /**
+   * As {@link #aggregate(Collection, PropertySearchCriteria)}, skipping
+   * listings that are unavailable for the requested stay.
+   */
+  public PropertyFacetsResponse aggregate(Collection<Long> candidateIds, Set<Long> excludedIds,
+      PropertySearchCriteria criteria) {
+    long[] priceCounts = new long[priceBoundaries.length + 1];
+    Map<Integer, Long> beds = new TreeMap<>();
+    Map<Integer, Long> baths = new TreeMap<>();
+    Map<String, Long> types = new TreeMap<>();
+    Map<Long, Long> amenities = new TreeMap<>();
+    long total = 0;
+
+    Iterable<FacetDoc> scan;
+    if (candidateIds == null && excludedIds.isEmpty()) {
+      scan = docs.values();
+    } else {
+      Collection<Long> ids = candidateIds != null ? candidateIds : docs.keySet();
+      scan = ids.stream()
+          .filter(id -> !excludedIds.contains(id))
+          .map(docs::get)
+          .filter(d -> d != null)
+          .toList();
+    }
+
+    for (FacetDoc doc : scan) {
+      if (!doc.matches(criteria)) {
+        continue;
+      }
+      total++;
+      if (doc.price() != null) {
+        priceCounts[bucketOf(doc.price())]++;
+      }
+      beds.merge(doc.beds(), 1L, Long::sum);
+      baths.merge(doc.baths(), 1L, Long::sum);
+      if (doc.type() != null) {
+        types.merge(doc.type().name(), 1L, Long::sum);
+      }
+      for (long amenityId : doc.amenityIds()) {
+        amenities.merge(amenityId, 1L, Long::sum);
+      }
+    }
+
+    List<PropertyFacetsResponse.PriceBucket> buckets = new ArrayList<>(priceCounts.length);
+    for (int i = 0; i < priceCounts.length; i++) {
+      buckets.add(PropertyFacetsResponse.PriceBucket.builder()
+          .min(i == 0 ? BigDecimal.ZERO : priceBoundaries[i - 1])
+          .max(i < priceBoundaries.length ? priceBoundaries[i] : null)
+          .count(priceCounts[i])
+          .build());
+    }
+
+    List<PropertyFacetsResponse.AmenityFacet> amenityFacets = amenities.entrySet().stream()
+        .map(e -> PropertyFacetsResponse.AmenityFacet.builder().id(e.getKey()).count(e.getValue()).build())
+        .toList();
+
+    return PropertyFacetsResponse.builder()
+        .total(total)
+        .priceBuckets(buckets)
+        .beds(beds)
+        .baths(baths)
+        .propertyTypes(types)
+        .amenities(amenityFacets)
+        .build();
+  }
+
+  private int bucketOf(BigDecimal price) {
+    int i = 0;
+    while (i < priceBoundaries.length && price.compareTo(priceBoundaries[i]) >= 0) {
+      i++;
+    }
+    return i;
+  }
+
+  private static long[] toArray(List<Long> ids) {
+    return ids == null ? new long[0] : ids.stream().mapToLong(Long::longValue).toArray();
+  }
+
+  /**
+   * Immutable facet attributes of one listing.
+   */
+  public record FacetDoc(BigDecimal price, int beds, int baths, PropertyType type, long[] amenityIds) {
+
+    boolean matches(PropertySearchCriteria criteria) {
+      if (criteria.getMinPrice() != null && (price == null || price.compareTo(criteria.getMinPrice()) < 0)) {
+        return false;
+      }
+      if (criteria.getMaxPrice() != null && (price == null || price.compareTo(criteria.getMaxPrice()) > 0)) {
+        return false;
+      }
+      if (criteria.getMinBeds() != null && beds < criteria.getMinBeds()) {
+        return false;
+      }
+      if (criteria.getMinBaths() != null && baths < criteria.getMinBaths()) {
+        return false;
+      }
+      return criteria.getPropertyType() == null
+          || (type != null && type.name().equalsIgnoreCase(criteria.getPropertyType()));
+    }
+  }
+}
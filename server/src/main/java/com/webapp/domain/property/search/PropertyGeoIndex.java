@@ -0,0 +1,244 @@
+package com.webapp.domain.property.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.webapp.domain.property.entity.Property;
+import com.webapp.domain.property.event.PropertyChangedEvent;
+import com.webapp.domain.property.repository.PropertyRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory spatial index of searchable (APPROVED/ACTIVE) listings.
+ *
+ * Coordinates are bucketed into a fixed lat/lng grid (a geohash-style cell
+ * key packed into a long). Radius and viewport queries only visit the cells
+ * that overlap the requested area, so map panning never scans the properties
+ * table. The index is loaded once on startup and then patched from
+ * {@link PropertyChangedEvent}s after each property write commits.
+ */
+@Component
+@Slf4j
+public class PropertyGeoIndex {
+
+  private static final double EARTH_RADIUS_KM = 6371.0088;
+  private static final double KM_PER_DEGREE_LAT = 111.32;
+
+  private final PropertyRepository propertyRepository;
+  private final double cellSizeDeg;
+
+  // propertyId -> indexed point
+  private final Map<Long, GeoPoint> points = new ConcurrentHashMap<>();
+
+  // cell key -> property ids in that cell
+  private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+
+  public PropertyGeoIndex(PropertyRepository propertyRepository,
+      @Value("${app.search.geo.cell-size-deg:0.05}") double cellSizeDeg) {
+    this.propertyRepository = propertyRepository;
+    this.cellSizeDeg = cellSizeDeg;
+  }
+
+  /**
+   * Load all searchable listings with coordinates on startup.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional(readOnly = true)
+  public void rebuild() {
+    List<Object[]> rows = propertyRepository.findGeoPointsByStatusIn(PropertyChangedEvent.SEARCHABLE_STATUSES);
+    synchronized (this) {
+      points.clear();
+      cells.clear();
+      for (Object[] row : rows) {
+        put((Long) row[0], ((Number) row[1]).doubleValue(), ((Number) row[2]).doubleValue());
+      }
+    }
+    log.info("Geo index built with {} properties in {} cells", points.size(), cells.size());
+  }
+
+  /**
+   * Keep the index coherent with committed property writes.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onPropertyChanged(PropertyChangedEvent event) {
+    Property property = event.getProperty();
+    if (event.isSearchable() && property.getLatitude() != null && property.getLongitude() != null) {
+      upsert(property.getId(), property.getLatitude(), property.getLongitude());
+    } else {
+      remove(property.getId());
+    }
+  }
+
+  public synchronized void upsert(Long propertyId, double latitude, double longitude) {
+    remove(propertyId);
+    put(propertyId, latitude, longitude);
+  }
+
+  public synchronized void remove(Long propertyId) {
+    GeoPoint old = points.remove(propertyId);
+    if (old != null) {
+      Set<Long> bucket = cells.get(old.cell());
+      if (bucket != null) {
+        bucket.remove(propertyId);
+        if (bucket.isEmpty()) {
+          cells.remove(old.cell());
+        }
+      }
+    }
+  }
+
+  public int size() {
+    return points.size();
+  }
+
+  /**
+   * Find properties within radiusKm of a point, nearest first.
+   */
+  public List<Long> findWithinRadius(double latitude, double longitude, double radiusKm, int limit) {
+    double dLat = radiusKm / KM_PER_DEGREE_LAT;
+    double cosLat = Math.max(Math.cos(Math.toRadians(latitude)), 1e-6);
+    double dLng = radiusKm / (KM_PER_DEGREE_LAT * cosLat);
+
+    List<Hit> hits = new ArrayList<>();
+    forEachInBounds(latitude - dLat, longitude - dLng, latitude + dLat, longitude + dLng, (id, point) -> {
+      double distance = haversineKm(latitude, longitude, point.latitude(), point.longitude());
+      if (distance <= radiusKm) {
+        hits.add(new Hit(id, distance));
+      }
+    });
+
+    return hits.stream()
+        .sorted(Comparator.comparingDouble(Hit::distanceKm).thenComparing(Hit::propertyId))
+        .limit(limit)
+        .map(Hit::propertyId)
+        .toList();
+  }
+
+  /**
+   * Find properties inside a map viewport.
+   */
+  public List<Long> findWithinBounds(double minLat, double minLng, double maxLat, double maxLng, int limit) {
+    List<Long> ids = new ArrayList<>();
+    forEachInBounds(minLat, minLng, maxLat, maxLng, (id, point) -> ids.add(id));
+    ids.sort(Comparator.naturalOrder());
+    return ids.size() > limit ? ids.subList(0, limit) : ids;
+  }
+
+  static double haversineKm(double lat1, double lng1, double lat2, double lng2) {
+    double dLat = Math.toRadians(lat2 - lat1);
+    double dLng = Math.toRadians(lng2 - lng1);
+    double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+        + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+            * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+    return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+  }
+
+  private void put(Long propertyId, double latitude, double longitude) {
+    long cell = cellKey(latitude, longitude);
+    points.put(propertyId, new GeoPoint(latitude, longitude, cell));
+    cells.computeIfAbsent(cell, k -> ConcurrentHashMap.newKeySet()).add(propertyId);
+  }
+
+  /**
+   * Visit the points inside the bounds. A box that crosses the antimeridian,
+   * given either as {@code minLng > maxLng} or with a longitude past
+   * &plusmn;180, is searched as the two bands on either side of it.
+   */
+  private void forEachInBounds(double minLat, double minLng, double maxLat, double maxLng,
+      BiConsumer<Long, GeoPoint> consumer) {
+    if (minLng <= maxLng && maxLng - minLng >= 360) {
+      forEachInBand(minLat, -180, maxLat, 180, consumer);
+      return;
+    }
+    minLng = minLng < -180 ? minLng + 360 : minLng;
+    maxLng = maxLng > 180 ? maxLng - 360 : maxLng;
+    if (minLng > maxLng) {
+      forEachInBand(minLat, minLng, maxLat, 180, consumer);
+      forEachInBand(minLat, -180, maxLat, maxLng, consumer);
+      return;
+    }
+    forEachInBand(minLat, minLng, maxLat, maxLng, consumer);
+  }
+
+  private void forEachInBand(double minLat, double minLng, double maxLat, double maxLng,
+      BiConsumer<Long, GeoPoint> consumer) {
+    minLat = Math.max(minLat, -90);
+    maxLat = Math.min(maxLat, 90);
+    minLng = Math.max(minLng, -180);
+    maxLng = Math.min(maxLng, 180);
+    if (minLat > maxLat || minLng > maxLng) {
+      return;
+    }
+
+    long minRow = row(minLat);
+    long maxRow = row(maxLat);
+    long minCol = col(minLng);
+    long maxCol = col(maxLng);
+    long cellCount = (maxRow - minRow + 1) * (maxCol - minCol + 1);
+
+    // Very large viewports touch more cells than there are points; scanning
+    // the point map directly is cheaper than probing empty cells.
+    if (cellCount > cells.size()) {
+      for (Map.Entry<Long, GeoPoint> entry : points.entrySet()) {
+        GeoPoint point = entry.getValue();
+        if (point.within(minLat, minLng, maxLat, maxLng)) {
+          consumer.accept(entry.getKey(), point);
+        }
+      }
+      return;
+    }
+
+    for (long r = minRow; r <= maxRow; r++) {
+      for (long c = minCol; c <= maxCol; c++) {
+        Set<Long> bucket = cells.get(pack(r, c));
+        if (bucket == null) {
+          continue;
+        }
+        for (Long id : bucket) {
+          GeoPoint point = points.get(id);
+          if (point != null && point.within(minLat, minLng, maxLat, maxLng)) {
+            consumer.accept(id, point);
+          }
+        }
+      }
+    }
+  }
+
+  private long cellKey(double latitude, double longitude) {
+    return pack(row(latitude), col(longitude));
+  }
+
+  private long row(double latitude) {
+    return (long) Math.floor((latitude + 90) / cellSizeDeg);
+  }
+
+  private long col(double longitude) {
+    return (long) Math.floor((longitude + 180) / cellSizeDeg);
+  }
+
+  private static long pack(long row, long col) {
+    return (row << 32) | (col & 0xffffffffL);
+  }
+
+  private record GeoPoint(double latitude, double longitude, long cell) {
+    boolean within(double minLat, double minLng, double maxLat, double maxLng) {
+      return latitude >= minLat && latitude <= maxLat && longitude >= minLng && longitude <= maxLng;
+    }
+  }
+
+  private record Hit(Long propertyId, double distanceKm) {
+  }
+}
@@ -0,0 +1,76 @@
+package com.webapp.domain.property.search;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import com.webapp.auth.exception.BadRequestException;
+import com.webapp.domain.property.dto.PropertyCardRow;
+import com.webapp.domain.property.entity.Property;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Opaque keyset cursor for property search pages.
+ *
+ * Encodes the sort key of the last row returned (price or creation time) plus
+ * its id as a tie-breaker, so the next page starts with a single index range
+ * seek instead of an OFFSET scan.
+ */
+@Getter
+@AllArgsConstructor
+public class PropertySearchCursor {
+
+  public enum Sort {
+    /** priceAmount ASC, id ASC */
+    PRICE,
+    /** createdAt DESC, id DESC */
+    NEWEST
+  }
+
+  private final Sort sort;
+  private final BigDecimal priceAmount;
+  private final LocalDateTime createdAt;
+  private final Long id;
+
+  public static PropertySearchCursor after(Sort sort, Property last) {
+    return new PropertySearchCursor(sort, last.getPriceAmount(), last.getCreatedAt(), last.getId());
+  }
+
+  public static PropertySearchCursor after(Sort sort, PropertyCardRow last) {
+    return new PropertySearchCursor(sort, last.getPriceAmount(), last.getCreatedAt(), last.getId());
+  }
+
+  public String encode() {
+    String key = sort == Sort.PRICE ? priceAmount.toPlainString() : createdAt.toString();
+    String raw = sort.name() + "|" + key + "|" + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decode a cursor produced by {@link #encode()}; null means "first page".
+   */
+  public static PropertySearchCursor decode(String cursor, Sort expectedSort) {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      String[] parts = raw.split("\\|");
+      Sort sort = Sort.valueOf(parts[0]);
+      if (sort != expectedSort || parts.length != 3) {
+        throw new BadRequestException("Cursor does not match requested sort order");
+      }
+      Long id = Long.valueOf(parts[2]);
+      return sort == Sort.PRICE
+          ? new PropertySearchCursor(sort, new BigDecimal(parts[1]), null, id)
+          : new PropertySearchCursor(sort, null, LocalDateTime.parse(parts[1]), id);
+    } catch (BadRequestException e) {
+      throw e;
+    } catch (RuntimeException e) {
+      throw new BadRequestException("Invalid cursor", e);
+    }
+  }
+}
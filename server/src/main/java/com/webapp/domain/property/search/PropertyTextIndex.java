@@ -0,0 +1,243 @@
+package com.webapp.domain.property.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.webapp.domain.property.entity.Property;
+import com.webapp.domain.property.event.PropertyChangedEvent;
+import com.webapp.domain.property.repository.PropertyRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Tokenized inverted index over title, description and location of searchable
+ * listings.
+ *
+ * Terms live in a sorted dictionary so a query token also matches every term
+ * it is a prefix of ("dhan" -> "dhanmondi"). Every query token must match
+ * (AND semantics, like the old LIKE filter). Hits are ranked by field-weighted
+ * term frequency times inverse document frequency; exact term matches score
+ * higher than prefix expansions.
+ */
+@Component
+@Slf4j
+public class PropertyTextIndex {
+
+  private static final Pattern TOKEN_SPLIT = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+
+  private static final float TITLE_WEIGHT = 3.0f;
+  private static final float LOCATION_WEIGHT = 2.0f;
+  private static final float DESCRIPTION_WEIGHT = 1.0f;
+  private static final float PREFIX_PENALTY = 0.5f;
+
+  private final PropertyRepository propertyRepository;
+  private final int maxPrefixExpansions;
+
+  // term -> (propertyId -> field-weighted term frequency)
+  private final ConcurrentSkipListMap<String, Map<Long, Float>> postings = new ConcurrentSkipListMap<>();
+
+  // propertyId -> indexed terms, used to unlink a document on update/delete
+  private final Map<Long, Set<String>> documents = new ConcurrentHashMap<>();
+
+  public PropertyTextIndex(PropertyRepository propertyRepository,
+      @Value("${app.search.text.max-prefix-expansions:64}") int maxPrefixExpansions) {
+    this.propertyRepository = propertyRepository;
+    this.maxPrefixExpansions = maxPrefixExpansions;
+  }
+
+  /**
+   * Load all searchable listings on startup.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional(readOnly = true)
+  public void rebuild() {
+    List<Object[]> rows = propertyRepository.findSearchTextByStatusIn(PropertyChangedEvent.SEARCHABLE_STATUSES);
+    synchronized (this) {
+      postings.clear();
+      documents.clear();
+      for (Object[] row : rows) {
+        add((Long) row[0], (String) row[1], (String) row[2], (String) row[3]);
+      }
+    }
+    log.info("Text index built with {} properties and {} terms", documents.size(), postings.size());
+  }
+
+  /**
+   * Keep the index coherent with committed property writes.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onPropertyChanged(PropertyChangedEvent event) {
+    Property property = event.getProperty();
+    if (event.isSearchable()) {
+      index(property.getId(), property.getTitle(), property.getDescription(), property.getLocation());
+    } else {
+      remove(property.getId());
+    }
+  }
+
+  public synchronized void index(Long propertyId, String title, String description, String location) {
+    remove(propertyId);
+    add(propertyId, title, description, location);
+  }
+
+  public synchronized void remove(Long propertyId) {
+    Set<String> terms = documents.remove(propertyId);
+    if (terms == null) {
+      return;
+    }
+    for (String term : terms) {
+      Map<Long, Float> docs = postings.get(term);
+      if (docs != null) {
+        docs.remove(propertyId);
+        if (docs.isEmpty()) {
+          postings.remove(term);
+        }
+      }
+    }
+  }
+
+  public int size() {
+    return documents.size();
+  }
+
+  /**
+   * Rank properties matching every token of the query.
+   *
+   * @return property ids, best match first; empty when nothing matches
+   */
+  public List<Long> search(String query, int limit) {
+    return search(query, id -> true, limit);
+  }
+
+  /**
+   * Rank every property matching all tokens of the query and the filter.
+   * The filter runs while the postings are scored, before ranking, so a
+   * caller's other criteria never see matches cut off by a limit.
+   *
+   * @return property ids, best match first; empty when nothing matches
+   */
+  public List<Long> search(String query, Predicate<Long> filter) {
+    return search(query, filter, Integer.MAX_VALUE);
+  }
+
+  private List<Long> search(String query, Predicate<Long> filter, int limit) {
+    List<String> tokens = tokenize(query);
+    if (tokens.isEmpty()) {
+      return List.of();
+    }
+
+    int totalDocs = Math.max(documents.size(), 1);
+    Map<Long, Float> scores = null;
+
+    for (String token : tokens.stream().distinct().toList()) {
+      Map<Long, Float> tokenScores = scoreToken(token, totalDocs, scores == null ? filter : id -> true);
+      if (tokenScores.isEmpty()) {
+        return List.of();
+      }
+      if (scores == null) {
+        scores = tokenScores;
+      } else {
+        // Intersect, keeping the running sum
+        Map<Long, Float> merged = new HashMap<>();
+        Map<Long, Float> smaller = scores.size() <= tokenScores.size() ? scores : tokenScores;
+        Map<Long, Float> larger = smaller == scores ? tokenScores : scores;
+        for (Map.Entry<Long, Float> entry : smaller.entrySet()) {
+          Float other = larger.get(entry.getKey());
+          if (other != null) {
+            merged.put(entry.getKey(), entry.getValue() + other);
+          }
+        }
+        if (merged.isEmpty()) {
+          return List.of();
+        }
+        scores = merged;
+      }
+    }
+
+    return scores.entrySet().stream()
+        .sorted(Map.Entry.<Long, Float>comparingByValue(Comparator.reverseOrder())
+            .thenComparing(Map.Entry.comparingByKey()))
+        .limit(limit)
+        .map(Map.Entry::getKey)
+        .toList();
+  }
+
+  /**
+   * Lower-cased alphanumeric tokens; punctuation and whitespace separate terms.
+   */
+  static List<String> tokenize(String text) {
+    List<String> tokens = new ArrayList<>();
+    if (text == null || text.isBlank()) {
+      return tokens;
+    }
+    for (String token : TOKEN_SPLIT.split(text.toLowerCase(Locale.ROOT))) {
+      if (!token.isEmpty()) {
+        tokens.add(token);
+      }
+    }
+    return tokens;
+  }
+
+  private Map<Long, Float> scoreToken(String token, int totalDocs, Predicate<Long> filter) {
+    Map<Long, Float> tokenScores = new HashMap<>();
+    NavigableMap<String, Map<Long, Float>> matches = postings.subMap(token, true, token + Character.MAX_VALUE,
+        false);
+
+    int expansions = 0;
+    for (Map.Entry<String, Map<Long, Float>> entry : matches.entrySet()) {
+      if (expansions++ >= maxPrefixExpansions) {
+        break;
+      }
+      Map<Long, Float> docs = entry.getValue();
+      float idf = (float) Math.log(1.0 + (double) totalDocs / Math.max(docs.size(), 1));
+      float boost = entry.getKey().equals(token) ? 1.0f : PREFIX_PENALTY;
+      for (Map.Entry<Long, Float> doc : docs.entrySet()) {
+        if (!filter.test(doc.getKey())) {
+          continue;
+        }
+        float score = doc.getValue() * idf * boost;
+        // A doc matching several expansions keeps its best one
+        tokenScores.merge(doc.getKey(), score, Float::max);
+      }
+    }
+    return tokenScores;
+  }
+
+  private void add(Long propertyId, String title, String description, String location) {
+    Map<String, Float> weights = new HashMap<>();
+    accumulate(weights, title, TITLE_WEIGHT);
+    accumulate(weights, location, LOCATION_WEIGHT);
+    accumulate(weights, description, DESCRIPTION_WEIGHT);
+    if (weights.isEmpty()) {
+      return;
+    }
+    for (Map.Entry<String, Float> entry : weights.entrySet()) {
+      postings.computeIfAbsent(entry.getKey(), k -> new ConcurrentHashMap<>())
+          .put(propertyId, entry.getValue());
+    }
+    documents.put(propertyId, Set.copyOf(weights.keySet()));
+  }
+
+  private static void accumulate(Map<String, Float> weights, String text, float weight) {
+    for (String token : tokenize(text)) {
+      weights.merge(token, weight, Float::sum);
+    }
+  }
+}
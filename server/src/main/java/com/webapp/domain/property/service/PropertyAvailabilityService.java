@@ -4,14 +4,17 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.webapp.domain.property.availability.PropertyCalendarIndex;
 import com.webapp.domain.property.dto.AvailabilityRequest;
 import com.webapp.domain.property.dto.AvailabilityResponse;
 import com.webapp.domain.property.entity.Property;
 import com.webapp.domain.property.entity.PropertyAvailability;
 import com.webapp.domain.property.entity.PropertyAvailability.AvailabilityStatus;
+import com.webapp.domain.property.event.AvailabilityChangedEvent;
 import com.webapp.domain.property.repository.PropertyAvailabilityRepository;
 import com.webapp.domain.property.repository.PropertyRepository;
 
@@ -25,23 +28,38 @@ public class PropertyAvailabilityService {
 
   private final PropertyAvailabilityRepository availabilityRepository;
   private final PropertyRepository propertyRepository;
+  private final PropertyCalendarIndex calendarIndex;
+  private final ApplicationEventPublisher eventPublisher;
 
   /**
-   * Check if a property is available for a date range.
+   * Check if a property is free for a stay, against both confirmed bookings
+   * and blocked periods.
    */
-  @Transactional(readOnly = true)
   public boolean isAvailable(Long propertyId, LocalDate startDate, LocalDate endDate) {
-    return availabilityRepository.isAvailable(propertyId, startDate, endDate);
+    return calendarIndex.isFree(propertyId, startDate, endDate);
+  }
+
+  /**
+   * Earliest check-in date on or after {@code from} with enough free nights.
+   */
+  public LocalDate findNextFreeDate(Long propertyId, LocalDate from, int nights) {
+    return calendarIndex.nextFreeWindow(propertyId, from, nights);
   }
 
   /**
    * Get all availability periods for a property.
    */
-  @Transactional(readOnly = true)
   public List<AvailabilityResponse> getAvailability(Long propertyId) {
-    return availabilityRepository.findByPropertyIdOrderByStartDateAsc(propertyId)
+    return calendarIndex.availability(propertyId)
         .stream()
-        .map(this::toResponse)
+        .map(range -> AvailabilityResponse.builder()
+            .id(range.id())
+            .propertyId(propertyId)
+            .startDate(range.startDate())
+            .endDate(range.endDate())
+            .status(range.status())
+            .notes(range.notes())
+            .build())
         .collect(Collectors.toList());
   }
 
@@ -66,6 +84,7 @@ public class PropertyAvailabilityService {
       // Remove old overlapping periods (simple replacement strategy)
       availabilityRepository.deleteAll(overlapping);
     }
+    List<Long> replacedIds = overlapping.stream().map(PropertyAvailability::getId).toList();
 
     PropertyAvailability availability = PropertyAvailability.builder()
         .property(property)
@@ -75,7 +94,9 @@ public class PropertyAvailabilityService {
         .notes(request.getNotes())
         .build();
 
-    return toResponse(availabilityRepository.save(availability));
+    PropertyAvailability saved = availabilityRepository.save(availability);
+    eventPublisher.publishEvent(AvailabilityChangedEvent.saved(propertyId, saved, replacedIds));
+    return toResponse(saved);
   }
 
   /**
@@ -94,7 +115,8 @@ public class PropertyAvailabilityService {
         .notes("Booking: " + bookingRef)
         .build();
 
-    availabilityRepository.save(availability);
+    PropertyAvailability saved = availabilityRepository.save(availability);
+    eventPublisher.publishEvent(AvailabilityChangedEvent.saved(propertyId, saved, List.of()));
     log.info("Blocked property {} for booking from {} to {}", propertyId, startDate, endDate);
   }
 
@@ -111,6 +133,8 @@ public class PropertyAvailabilityService {
     }
 
     availabilityRepository.delete(availability);
+    eventPublisher.publishEvent(
+        AvailabilityChangedEvent.removed(availability.getProperty().getId(), availabilityId));
   }
 
   private AvailabilityResponse toResponse(PropertyAvailability availability) {
@@ -1,18 +1,41 @@
 package com.webapp.domain.property.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.webapp.auth.exception.BadRequestException;
 import com.webapp.domain.file.service.FileStorageService;
+import com.webapp.domain.property.availability.PropertyCalendarIndex;
+import com.webapp.domain.property.cache.PropertyDetailCache;
+import com.webapp.domain.property.dto.LocationSuggestion;
+import com.webapp.domain.property.dto.PropertyCardRow;
+import com.webapp.domain.property.dto.PropertyCursorPage;
+import com.webapp.domain.property.dto.PropertyFacetsResponse;
 import com.webapp.domain.property.dto.PropertyRequest;
 import com.webapp.domain.property.dto.PropertyResponse;
+import com.webapp.domain.property.dto.PropertySearchCriteria;
 import com.webapp.domain.property.entity.Property;
 import com.webapp.domain.property.enums.PropertyStatus;
+import com.webapp.domain.property.event.PropertyChangedEvent;
+import com.webapp.domain.property.recommendation.PropertyRecommendationFeed;
 import com.webapp.domain.property.repository.PropertyRepository;
+import com.webapp.domain.property.repository.SeatRepository;
+import com.webapp.domain.property.search.LocationSuggestIndex;
+import com.webapp.domain.property.search.PropertyAmenityIndex;
+import com.webapp.domain.property.search.PropertyFacetIndex;
+import com.webapp.domain.property.search.PropertyGeoIndex;
+import com.webapp.domain.property.search.PropertySearchCursor;
+import com.webapp.domain.property.search.PropertyTextIndex;
 import com.webapp.domain.user.entity.User;
 import com.webapp.domain.user.repository.UserRepository;
 import com.webapp.domain.verification.service.VerificationService;
@@ -23,11 +46,28 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class PropertyService {
 
+    // Rows fetched per keyset round-trip while streaming search results
+    private static final int STREAM_CHUNK_SIZE = 200;
+
+    private static final int RECOMMENDATION_PAGE_SIZE = 5;
+
     private final PropertyRepository propertyRepository;
     private final UserRepository userRepository;
     private final FileStorageService fileStorageService;
     private final VerificationService verificationService;
     private final com.webapp.domain.property.repository.AmenityRepository amenityRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PropertyGeoIndex geoIndex;
+    private final PropertyTextIndex textIndex;
+    private final PropertyAmenityIndex amenityIndex;
+    private final PropertyFacetIndex facetIndex;
+    private final PropertyDetailCache detailCache;
+    private final PropertyRecommendationFeed recommendationFeed;
+    private final LocationSuggestIndex locationSuggestIndex;
+    private final PropertyCalendarIndex calendarIndex;
+    private final SeatService seatService;
+    private final SeatRepository seatRepository;
+    private final ObjectMapper objectMapper;
 
     @Transactional
     public PropertyResponse createProperty(PropertyRequest request,
@@ -74,61 +114,349 @@ public class PropertyService {
             property.setAmenities(new java.util.HashSet<>(amenities));
         }
 
-        return mapToResponse(propertyRepository.save(property));
+        Property saved = propertyRepository.save(property);
+        seatService.provisionSeats(List.of(saved.getId()));
+        eventPublisher.publishEvent(PropertyChangedEvent.saved(saved));
+        return mapToResponse(saved);
     }
 
     @Transactional(readOnly = true)
     public List<PropertyResponse> getMyProperties(Long userId) {
-        return propertyRepository.findAllByOwnerId(userId).stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return toCardResponses(propertyRepository.findCardsByOwnerId(userId));
     }
 
+    /**
+     * Dashboard recommendations from the precomputed segment feed (user's
+     * city and budget, widened until the page is full). Until the feed's
+     * first build, falls back to the cheapest approved listings.
+     */
     @Transactional(readOnly = true)
-    public List<PropertyResponse> getRecommendedProperties(Long userId) {
-        // Simple recommendation: return properties NOT owned by the user AND valid
-        // status
-        // Using page size 5 for dashboard
-        // NOTE: Repository method findAllByOwnerIdNot doesn't filter by status,
-        // so we should use a custom query or filter in stream.
-        // Better approach: use repository method that supports status.
-
-        // For now, let's filter in stream to avoid changing repository signature
-        // immediately if unnecessary,
-        // BUT logically we should fetch only APPROVED properties.
-
-        // Let's assume we want to show APPROVED properties only.
-        return propertyRepository.findTop5ByStatusOrderByPriceAmountAsc(PropertyStatus.APPROVED).stream()
-                .filter(p -> !p.getOwner().getId().equals(userId))
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    public List<PropertyResponse> getRecommendedProperties(Long userId, java.math.BigDecimal maxBudget) {
+        if (!recommendationFeed.isReady()) {
+            return toCardResponses(propertyRepository.findCardsByStatusAndOwnerIdNot(PropertyStatus.APPROVED,
+                    userId, PageRequest.of(0, RECOMMENDATION_PAGE_SIZE)));
+        }
+        String city = userRepository.findById(userId).map(User::getCity).orElse(null);
+        return loadSearchableInOrder(
+                recommendationFeed.recommend(userId, city, maxBudget, RECOMMENDATION_PAGE_SIZE));
     }
 
     /**
-     * Searches properties by criteria; returns approved/active results
+     * Searches properties by criteria; returns approved/active results.
+     *
+     * A non-blank query is resolved against the in-memory text index (title,
+     * description, location with prefix matching) and amenity filters against
+     * the amenity bitset index; the remaining filters then run in SQL against
+     * those candidate ids only, and results keep relevance order. Stay dates
+     * drop listings the calendar index reports as occupied.
      */
     @Transactional(readOnly = true)
     public List<PropertyResponse> searchProperties(String query, Double minPrice, Double maxPrice, Integer minBeds,
-            Integer minBaths, String propertyType, java.util.List<Long> amenityIds) {
+            Integer minBaths, String propertyType, java.util.List<Long> amenityIds, java.time.LocalDate checkIn,
+            java.time.LocalDate checkOut) {
         java.math.BigDecimal decimalMinPrice = minPrice != null ? java.math.BigDecimal.valueOf(minPrice) : null;
         java.math.BigDecimal decimalMaxPrice = maxPrice != null ? java.math.BigDecimal.valueOf(maxPrice) : null;
 
-        long amenityCount = (amenityIds != null && !amenityIds.isEmpty()) ? amenityIds.size() : 0L;
-        // Ensure list is not null for SQL IN clause if count is > 0
-        java.util.List<Long> safeAmenityIds = (amenityIds != null && !amenityIds.isEmpty()) ? amenityIds
-                : java.util.Collections.emptyList();
+        PropertySearchCriteria criteria = PropertySearchCriteria.builder()
+                .query(query)
+                .minPrice(decimalMinPrice)
+                .maxPrice(decimalMaxPrice)
+                .minBeds(minBeds)
+                .minBaths(minBaths)
+                .propertyType(propertyType)
+                .amenityIds(amenityIds)
+                .checkIn(checkIn)
+                .checkOut(checkOut)
+                .build();
+        java.util.Set<Long> unavailableIds = unavailableIds(criteria);
+        List<Long> candidateIds = candidateIds(criteria, unavailableIds);
+
+        if (candidateIds == null) {
+            return toCardResponses(propertyRepository.searchPropertyCards(!unavailableIds.isEmpty(),
+                    excludedIdsParam(unavailableIds), decimalMinPrice, decimalMaxPrice, minBeds, minBaths,
+                    propertyType, PropertyChangedEvent.SEARCHABLE_STATUSES));
+        }
+        if (candidateIds.isEmpty()) {
+            return java.util.Collections.emptyList();
+        }
 
-        return propertyRepository
-                .searchProperties(query, decimalMinPrice, decimalMaxPrice, minBeds, minBaths,
+        java.util.Map<Long, PropertyCardRow> matches = propertyRepository
+                .searchPropertyCardsByIds(candidateIds, decimalMinPrice, decimalMaxPrice, minBeds, minBaths,
                         propertyType,
-                        java.util.List.of(PropertyStatus.APPROVED, PropertyStatus.ACTIVE),
-                        safeAmenityIds,
-                        amenityCount)
+                        PropertyChangedEvent.SEARCHABLE_STATUSES)
                 .stream()
-                .map(this::mapToResponse)
+                .collect(Collectors.toMap(PropertyCardRow::getId, p -> p));
+
+        return toCardResponses(candidateIds.stream()
+                .map(matches::get)
+                .filter(java.util.Objects::nonNull)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Keyset-paginated search. Each page costs one index range seek for the
+     * ids plus one fetch for the page's rows, regardless of how deep the
+     * client has paged.
+     */
+    @Transactional(readOnly = true)
+    public PropertyCursorPage searchPropertiesPage(PropertySearchCriteria criteria, PropertySearchCursor.Sort sort,
+            String cursor, int size) {
+        java.util.Set<Long> unavailableIds = unavailableIds(criteria);
+        List<Long> candidateIds = candidateIds(criteria, unavailableIds);
+        if (candidateIds != null && candidateIds.isEmpty()) {
+            return PropertyCursorPage.builder().items(java.util.Collections.emptyList()).size(0).build();
+        }
+        KeysetChunk chunk = fetchKeysetChunk(criteria, PropertyChangedEvent.SEARCHABLE_STATUSES, sort,
+                PropertySearchCursor.decode(cursor, sort), size, candidateIds, unavailableIds);
+        return toCursorPage(chunk);
+    }
+
+    /**
+     * Streams every matching property as a JSON array. Rows are read in keyset
+     * chunks, each in its own short read outside any surrounding transaction,
+     * so neither the heap nor a pooled connection is held for the life of a
+     * slow client.
+     */
+    public void streamSearch(PropertySearchCriteria criteria, PropertySearchCursor.Sort sort, OutputStream out)
+            throws IOException {
+        java.util.Set<Long> unavailableIds = unavailableIds(criteria);
+        List<Long> candidateIds = candidateIds(criteria, unavailableIds);
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+            json.writeStartArray();
+            PropertySearchCursor after = null;
+            while (candidateIds == null || !candidateIds.isEmpty()) {
+                KeysetChunk chunk = fetchKeysetChunk(criteria, PropertyChangedEvent.SEARCHABLE_STATUSES, sort,
+                        after, STREAM_CHUNK_SIZE, candidateIds, unavailableIds);
+                for (PropertyResponse property : toCardResponses(chunk.rows())) {
+                    json.writeObject(property);
+                }
+                json.flush();
+                after = chunk.next();
+                if (after == null) {
+                    break;
+                }
+            }
+            json.writeEndArray();
+        }
+    }
+
+    /**
+     * Typeahead for the search box, answered from the in-memory location trie.
+     */
+    public List<LocationSuggestion> suggestLocations(String prefix, int limit) {
+        return locationSuggestIndex.suggest(prefix, limit);
+    }
+
+    /**
+     * Facet counts (price buckets, beds, baths, type, amenities) over the
+     * filtered result set, computed in one pass over the in-memory facet index.
+     */
+    @Transactional(readOnly = true)
+    public PropertyFacetsResponse getSearchFacets(PropertySearchCriteria criteria) {
+        java.util.Set<Long> unavailableIds = unavailableIds(criteria);
+        List<Long> candidateIds = candidateIds(criteria, unavailableIds);
+        PropertyFacetsResponse facets = facetIndex.aggregate(candidateIds, unavailableIds, criteria);
+
+        if (!facets.getAmenities().isEmpty()) {
+            java.util.Map<Long, String> names = amenityRepository.findAll().stream()
+                    .collect(Collectors.toMap(com.webapp.domain.property.entity.Amenity::getId,
+                            com.webapp.domain.property.entity.Amenity::getName));
+            facets.getAmenities().forEach(a -> a.setName(names.get(a.getId())));
+        }
+        return facets;
+    }
+
+    /**
+     * Candidate ids from the in-memory indexes, or null when neither a query
+     * nor amenities were given (no restriction). Amenities, stay dates and the
+     * scalar filters are applied during the index pass, so every matching
+     * listing is a candidate and none is lost to a cap on text hits. Text hits
+     * keep relevance order; amenity-only hits are in id order. Without
+     * candidates the caller excludes unavailable ids in SQL.
+     */
+    private List<Long> candidateIds(PropertySearchCriteria criteria, java.util.Set<Long> unavailableIds) {
+        List<Long> amenityHits = criteria.safeAmenityIds().isEmpty()
+                ? null
+                : amenityIndex.findWithAll(criteria.safeAmenityIds());
+        java.util.Set<Long> withAmenities = amenityHits != null ? new java.util.HashSet<>(amenityHits) : null;
+        java.util.function.Predicate<Long> filter = id -> !unavailableIds.contains(id)
+                && (withAmenities == null || withAmenities.contains(id))
+                && facetIndex.matches(id, criteria);
+
+        if (criteria.hasQuery()) {
+            return textIndex.search(criteria.getQuery(), filter);
+        }
+        if (amenityHits == null) {
+            return null;
+        }
+        return amenityHits.stream()
+                .filter(filter)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Listings occupied on at least one night of the requested stay, resolved
+     * for every property in a single pass over the calendar index. Empty when
+     * the search has no stay dates.
+     */
+    private java.util.Set<Long> unavailableIds(PropertySearchCriteria criteria) {
+        if (criteria.getCheckIn() == null && criteria.getCheckOut() == null) {
+            return java.util.Collections.emptySet();
+        }
+        if (!criteria.hasStayDates()) {
+            throw new BadRequestException("checkIn and checkOut must be given together");
+        }
+        if (!criteria.getCheckOut().isAfter(criteria.getCheckIn())) {
+            throw new BadRequestException("checkOut must be after checkIn");
+        }
+        return calendarIndex.findOccupied(criteria.getCheckIn(), criteria.getCheckOut());
+    }
+
+    // JPQL rejects an empty NOT IN list; the flag disables the clause instead
+    private static java.util.Collection<Long> excludedIdsParam(java.util.Set<Long> unavailableIds) {
+        return unavailableIds.isEmpty() ? List.of(-1L) : unavailableIds;
+    }
+
+    private KeysetChunk fetchKeysetChunk(PropertySearchCriteria criteria, List<PropertyStatus> statuses,
+            PropertySearchCursor.Sort sort, PropertySearchCursor after, int size, List<Long> candidateIds,
+            java.util.Set<Long> unavailableIds) {
+        boolean restrictIds = candidateIds != null;
+        java.util.Collection<Long> ids = restrictIds ? candidateIds : List.of(-1L);
+        // Candidates are already filtered; only an unrestricted scan needs NOT IN
+        boolean excludeIds = !restrictIds && !unavailableIds.isEmpty();
+        java.util.Collection<Long> excludedIds = excludedIdsParam(
+                excludeIds ? unavailableIds : java.util.Collections.emptySet());
+        PageRequest limit = PageRequest.of(0, size + 1);
+
+        List<Long> pageIds = sort == PropertySearchCursor.Sort.PRICE
+                ? propertyRepository.findIdsOrderByPriceAfter(restrictIds, ids, excludeIds, excludedIds,
+                        criteria.getMinPrice(), criteria.getMaxPrice(), criteria.getMinBeds(),
+                        criteria.getMinBaths(), criteria.getPropertyType(), statuses,
+                        after != null ? after.getPriceAmount() : null,
+                        after != null ? after.getId() : null, limit)
+                : propertyRepository.findIdsOrderByNewestAfter(restrictIds, ids, excludeIds, excludedIds,
+                        criteria.getMinPrice(), criteria.getMaxPrice(), criteria.getMinBeds(),
+                        criteria.getMinBaths(), criteria.getPropertyType(), statuses,
+                        after != null ? after.getCreatedAt() : null,
+                        after != null ? after.getId() : null, limit);
+
+        boolean hasMore = pageIds.size() > size;
+        if (hasMore) {
+            pageIds = pageIds.subList(0, size);
+        }
+        if (pageIds.isEmpty()) {
+            return new KeysetChunk(java.util.Collections.emptyList(), null);
+        }
+
+        java.util.Map<Long, PropertyCardRow> byId = propertyRepository.findCardsByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(PropertyCardRow::getId, p -> p));
+        List<PropertyCardRow> rows = pageIds.stream()
+                .map(byId::get)
+                .filter(java.util.Objects::nonNull)
+                .collect(Collectors.toList());
+
+        PropertySearchCursor next = hasMore && !rows.isEmpty()
+                ? PropertySearchCursor.after(sort, rows.get(rows.size() - 1))
+                : null;
+        return new KeysetChunk(rows, next);
+    }
+
+    private PropertyCursorPage toCursorPage(KeysetChunk chunk) {
+        List<PropertyResponse> items = toCardResponses(chunk.rows());
+        return PropertyCursorPage.builder()
+                .items(items)
+                .nextCursor(chunk.next() != null ? chunk.next().encode() : null)
+                .hasMore(chunk.next() != null)
+                .size(items.size())
+                .build();
+    }
+
+    private record KeysetChunk(List<PropertyCardRow> rows, PropertySearchCursor next) {
+    }
+
+    /**
+     * "Near me" search served from the in-memory geo index; nearest first.
+     */
+    @Transactional(readOnly = true)
+    public List<PropertyResponse> searchNearby(double latitude, double longitude, double radiusKm, int limit) {
+        return loadSearchableInOrder(geoIndex.findWithinRadius(latitude, longitude, radiusKm, limit));
+    }
+
+    /**
+     * Map viewport search served from the in-memory geo index.
+     */
+    @Transactional(readOnly = true)
+    public List<PropertyResponse> searchWithinBounds(double minLat, double minLng, double maxLat, double maxLng,
+            int limit) {
+        return loadSearchableInOrder(geoIndex.findWithinBounds(minLat, minLng, maxLat, maxLng, limit));
+    }
+
+    /**
+     * Loads list cards for index hits in one query, preserving the index
+     * ordering and dropping rows whose status changed since the index was
+     * patched.
+     */
+    private List<PropertyResponse> loadSearchableInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return java.util.Collections.emptyList();
+        }
+        java.util.Map<Long, PropertyCardRow> byId = propertyRepository.findCardsByIdIn(ids).stream()
+                .collect(Collectors.toMap(PropertyCardRow::getId, p -> p));
+        return toCardResponses(ids.stream()
+                .map(byId::get)
+                .filter(p -> p != null && PropertyChangedEvent.SEARCHABLE_STATUSES.contains(p.getStatus()))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Builds list-card responses from projected rows. Amenities for the whole
+     * page come from a single query keyed by the rows' ids; the description is
+     * left out of list cards.
+     */
+    private List<PropertyResponse> toCardResponses(List<PropertyCardRow> rows) {
+        if (rows.isEmpty()) {
+            return new java.util.ArrayList<>();
+        }
+        java.util.Map<Long, java.util.Set<com.webapp.domain.property.entity.Amenity>> amenities = new java.util.HashMap<>();
+        for (Object[] pair : propertyRepository
+                .findAmenitiesByPropertyIdIn(rows.stream().map(PropertyCardRow::getId).toList())) {
+            amenities.computeIfAbsent((Long) pair[0], k -> new java.util.HashSet<>())
+                    .add((com.webapp.domain.property.entity.Amenity) pair[1]);
+        }
+        return rows.stream()
+                .map(row -> mapCardToResponse(row, amenities.getOrDefault(row.getId(), new java.util.HashSet<>())))
+                .collect(Collectors.toList());
+    }
+
+    private PropertyResponse mapCardToResponse(PropertyCardRow row,
+            java.util.Set<com.webapp.domain.property.entity.Amenity> amenities) {
+        return PropertyResponse.builder()
+                .id(row.getId())
+                .title(row.getTitle())
+                .location(row.getLocation())
+                .latitude(row.getLatitude())
+                .longitude(row.getLongitude())
+                .price(row.getPrice())
+                .beds(row.getBeds())
+                .baths(row.getBaths())
+                .sqft(row.getSqft())
+                .rating(row.getRating())
+                .reviewsCount(row.getReviewsCount())
+                .verified(row.getVerified())
+                .status(row.getStatus().getDisplayName())
+                .views(row.getViews())
+                .inquiries(row.getInquiries())
+                .priceAmount(row.getPriceAmount())
+                .ownerId(row.getOwnerId())
+                .ownerName(row.getOwnerName())
+                .imageUrl(row.getImageUrl())
+                .images(row.getImageUrl() != null ? java.util.List.of(row.getImageUrl())
+                        : java.util.Collections.emptyList())
+                .propertyType(row.getPropertyType() != null ? row.getPropertyType().name() : null)
+                .amenities(amenities)
+                .build();
+    }
+
     private PropertyResponse mapToResponse(Property property) {
         // Maps property details to response: id, title, description, location
         return PropertyResponse.builder()
@@ -175,16 +503,22 @@ public class PropertyService {
         return mapToResponse(property);
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Public detail view, served from the detail cache. Owner and amenities
+     * are fetched with the property, so a miss needs no transaction and a hit
+     * touches no connection at all.
+     */
     public PropertyResponse getPropertyById(Long id) {
-        Property property = propertyRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Property not found with id: " + id));
+        return detailCache.get(id, () -> {
+            Property property = propertyRepository.findDetailById(id)
+                    .orElseThrow(() -> new RuntimeException("Property not found with id: " + id));
 
-        if (property.getStatus() != PropertyStatus.APPROVED && property.getStatus() != PropertyStatus.ACTIVE) {
-            throw new RuntimeException("Property not available");
-        }
+            if (property.getStatus() != PropertyStatus.APPROVED && property.getStatus() != PropertyStatus.ACTIVE) {
+                throw new RuntimeException("Property not available");
+            }
 
-        return mapToResponse(property);
+            return mapToResponse(property);
+        });
     }
 
     @Transactional
@@ -206,7 +540,21 @@ public class PropertyService {
         } catch (IllegalArgumentException e) {
             throw new RuntimeException("Invalid status: " + statusStr);
         }
-        return mapToResponse(propertyRepository.save(property));
+        Property saved = propertyRepository.save(property);
+        eventPublisher.publishEvent(PropertyChangedEvent.saved(saved));
+        return mapToResponse(saved);
+    }
+
+    /**
+     * Admin listing across every status, newest first, one keyset page at a
+     * time.
+     */
+    @Transactional(readOnly = true)
+    public PropertyCursorPage getAllPropertiesPage(String cursor, int size) {
+        PropertySearchCursor.Sort sort = PropertySearchCursor.Sort.NEWEST;
+        KeysetChunk chunk = fetchKeysetChunk(new PropertySearchCriteria(), List.of(PropertyStatus.values()), sort,
+                PropertySearchCursor.decode(cursor, sort), size, null, java.util.Collections.emptySet());
+        return toCursorPage(chunk);
     }
 
     @Transactional(readOnly = true)
@@ -216,6 +564,7 @@ public class PropertyService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional
     public PropertyResponse updateProperty(Long id, PropertyRequest request,
             List<MultipartFile> files, Long requesterId) {
         Property property = propertyRepository.findById(id)
@@ -257,7 +606,11 @@ public class PropertyService {
             property.setAmenities(new java.util.HashSet<>(amenities));
         }
 
-        return mapToResponse(propertyRepository.save(property));
+        Property saved = propertyRepository.save(property);
+        // Beds may have grown
+        seatService.provisionSeats(List.of(saved.getId()));
+        eventPublisher.publishEvent(PropertyChangedEvent.saved(saved));
+        return mapToResponse(saved);
     }
 
     @Transactional
@@ -270,6 +623,9 @@ public class PropertyService {
             throw new RuntimeException("You don't have permission to delete this property");
         }
 
+        // Seats do not cascade from the property; its counter rows do
+        seatRepository.deleteByPropertyId(propertyId);
         propertyRepository.delete(property);
+        eventPublisher.publishEvent(PropertyChangedEvent.deleted(property));
     }
 }
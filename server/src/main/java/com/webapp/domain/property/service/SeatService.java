@@ -1,13 +1,22 @@
 package com.webapp.domain.property.service;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 import com.webapp.domain.booking.entity.Booking;
+import com.webapp.domain.property.dto.SeatOccupancyDto;
+import com.webapp.domain.property.entity.Property;
 import com.webapp.domain.property.entity.Seat;
+import com.webapp.domain.property.enums.SeatStatus;
 
 /**
  * Service for managing seat allocation and availability.
  *
  * This service handles the critical business logic of seat blocking
  * during booking approval, ensuring atomicity and preventing overbooking.
+ * Every seat creation and status change goes through it so the per-property
+ * occupancy counters stay in step with the seats.
  */
 public interface SeatService {
 
@@ -20,12 +29,39 @@ public interface SeatService {
    * 3. Changes its status to OCCUPIED
    * 4. Links it to the booking
    *
+   * A seat the booking already holds is occupied instead of allocating one.
+   *
    * @param booking The booking to assign a seat to
    * @return The allocated seat
    * @throws IllegalStateException if no seats are available
    */
   Seat blockSeatForBooking(Booking booking);
 
+  /**
+   * Hold an available seat for a PENDING booking. The seat is locked like a
+   * pessimistic confirmation and moved to HELD, so no other booking can take
+   * it until the hold is confirmed or released.
+   *
+   * @param booking The pending booking
+   * @return The held seat
+   * @throws IllegalStateException if no seats are available
+   */
+  Seat holdSeatForBooking(Booking booking);
+
+  /**
+   * Block one available seat per booking for a batch of confirmations.
+   * Bookings that already hold a seat keep it; it is moved to OCCUPIED.
+   *
+   * The available seats of every property involved are locked with a single
+   * PESSIMISTIC_WRITE query and handed out in booking order, whatever the
+   * configured allocation mode.
+   *
+   * @param bookings The bookings requesting a seat
+   * @return Allocated seat by booking id; bookings missing from the map could
+   *         not get a seat
+   */
+  Map<Long, Seat> blockSeatsForBookings(List<Booking> bookings);
+
   /**
    * Release a seat when a booking is cancelled or checked out.
    *
@@ -33,6 +69,43 @@ public interface SeatService {
    */
   void releaseSeat(Seat seat);
 
+  /**
+   * Release many seats at once, e.g. expired holds. Seat rows are written in
+   * one flush and each property's counters are adjusted once.
+   *
+   * @param seats The seats to release
+   */
+  void releaseSeats(List<Seat> seats);
+
+  /**
+   * Add a seat to a property.
+   *
+   * @param property The property
+   * @param label    Seat label
+   * @param status   Initial status
+   * @return The saved seat
+   */
+  Seat addSeat(Property property, String label, SeatStatus status);
+
+  /**
+   * Create the missing AVAILABLE seats ("Bed n") of properties that have
+   * fewer seats than beds, with multi-row INSERTs. Properties with enough
+   * seats are left alone; surplus seats are never removed.
+   *
+   * @param propertyIds The properties to provision
+   * @return Number of seats created
+   */
+  int provisionSeats(Collection<Long> propertyIds);
+
+  /**
+   * Move a seat to a new status, outside of booking allocation.
+   *
+   * @param seat   The seat to change
+   * @param status The new status
+   * @return The saved seat
+   */
+  Seat changeSeatStatus(Seat seat, SeatStatus status);
+
   /**
    * Get count of available seats for a property.
    *
@@ -48,4 +121,28 @@ public interface SeatService {
    * @return true if at least one seat is available
    */
   boolean hasAvailableSeats(Long propertyId);
+
+  /**
+   * Seat counts of a property, read from its occupancy counters.
+   *
+   * @param propertyId The property ID
+   * @return Counts; all zero when the property has no seats
+   */
+  SeatOccupancyDto getOccupancy(Long propertyId);
+
+  /**
+   * Seat counts of several properties in one lookup.
+   *
+   * @param propertyIds The property IDs
+   * @return Counts by property id; properties without seats are absent
+   */
+  Map<Long, SeatOccupancyDto> getOccupancy(Collection<Long> propertyIds);
+
+  /**
+   * Seat counts of every property a landlord owns in one lookup.
+   *
+   * @param ownerId The landlord's user ID
+   * @return Counts by property id; properties without seats are absent
+   */
+  Map<Long, SeatOccupancyDto> getOccupancyByOwner(Long ownerId);
 }
@@ -1,43 +1,100 @@
 package com.webapp.domain.property.service.impl;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.webapp.domain.booking.entity.Booking;
+import com.webapp.domain.property.dto.SeatOccupancyDto;
+import com.webapp.domain.property.entity.Property;
+import com.webapp.domain.property.entity.PropertySeatCounter;
 import com.webapp.domain.property.entity.Seat;
+import com.webapp.domain.property.enums.SeatAllocationMode;
 import com.webapp.domain.property.enums.SeatStatus;
+import com.webapp.domain.property.repository.PropertySeatCounterRepository;
 import com.webapp.domain.property.repository.SeatRepository;
 import com.webapp.domain.property.service.SeatService;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Implementation of SeatService with transactional seat management.
  *
  * CRITICAL: This service ensures atomic seat allocation to prevent overbooking.
- * Uses PESSIMISTIC_WRITE locking to handle concurrent booking approvals safely.
+ * The allocation strategy is chosen by {@code app.seats.allocation-mode}:
+ * PESSIMISTIC_WRITE locking (default), optimistic version compare-and-set
+ * with bounded retry, or a single atomic claim UPDATE.
+ *
+ * Under the pessimistic lock every concurrent confirmation for a property
+ * queues on the same lowest-id seat row until the holder commits. The
+ * optimistic mode spreads claimers over different rows, so they only collide
+ * when they pick the same seat; the atomic mode saves the read round-trip but,
+ * like the lock, lets the database pick the row.
+ *
+ * Each transition also adds its delta to the property's occupancy counters
+ * in the same transaction, after the seat row is written, so counts commit
+ * or roll back with the seats and availability checks and dashboards read a
+ * few rows per property instead of counting seats. The counters are split
+ * into {@code counter-stripes} rows per property and each transition updates
+ * a random one, so concurrent confirmations on one property rarely wait on
+ * each other's counter row; reads add the stripes up.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class SeatServiceImpl implements SeatService {
 
+  // Unlocked candidates read per optimistic allocation
+  private static final int OPTIMISTIC_CANDIDATES = 16;
+
   private final SeatRepository seatRepository;
+  private final PropertySeatCounterRepository counterRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final SeatAllocationMode allocationMode;
+  private final int maxAttempts;
+  private final int insertRows;
+  private final int counterStripes;
+
+  public SeatServiceImpl(SeatRepository seatRepository,
+      PropertySeatCounterRepository counterRepository,
+      JdbcTemplate jdbcTemplate,
+      @Value("${app.seats.allocation-mode:PESSIMISTIC}") SeatAllocationMode allocationMode,
+      @Value("${app.seats.optimistic.max-attempts:5}") int maxAttempts,
+      @Value("${app.seats.provisioning.insert-rows:200}") int insertRows,
+      @Value("${app.seats.counter-stripes:8}") int counterStripes) {
+    this.seatRepository = seatRepository;
+    this.counterRepository = counterRepository;
+    this.jdbcTemplate = jdbcTemplate;
+    this.allocationMode = allocationMode;
+    this.maxAttempts = Math.max(1, maxAttempts);
+    this.insertRows = Math.max(1, insertRows);
+    this.counterStripes = Math.max(1, counterStripes);
+  }
 
   /**
-   * Block an available seat for a booking atomically.
-   *
-   * Transaction Flow:
-   * 1. Query for AVAILABLE seat with PESSIMISTIC_WRITE lock
-   * 2. If found, update status to OCCUPIED
-   * 3. Return the seat (to be linked to booking)
-   *
-   * The pessimistic lock prevents race conditions by blocking other transactions
-   * from selecting the same seat until this transaction completes.
+   * Block an available seat for a booking atomically, using the configured
+   * allocation mode.
    *
    * @param booking The booking requesting a seat
    * @return The allocated seat
@@ -48,29 +105,183 @@ public class SeatServiceImpl implements SeatService {
   public Seat blockSeatForBooking(Booking booking) {
     Long propertyId = booking.getProperty().getId();
 
-    log.info("Attempting to block seat for booking {} on property {}",
-        booking.getId(), propertyId);
+    Seat held = booking.getSeat();
+    if (isHeld(held)) {
+      // The seat row's version guards against a concurrent hold expiry
+      held.setStatus(SeatStatus.OCCUPIED);
+      held.setUpdatedAt(LocalDateTime.now());
+      Seat savedSeat = seatRepository.saveAndFlush(held);
+      adjustCounters(propertyId, SeatStatus.HELD, SeatStatus.OCCUPIED, 1);
+      log.info("Occupied seat {} held by booking {} on property {}", held.getId(), booking.getId(), propertyId);
+      return savedSeat;
+    }
 
+    log.info("Attempting to block seat for booking {} on property {} ({})",
+        booking.getId(), propertyId, allocationMode);
+
+    Seat savedSeat = switch (allocationMode) {
+      case OPTIMISTIC -> blockOptimistically(booking, propertyId);
+      case ATOMIC_UPDATE -> blockByAtomicClaim(booking, propertyId);
+      default -> blockWithLock(booking, propertyId);
+    };
+    adjustCounters(propertyId, SeatStatus.AVAILABLE, SeatStatus.OCCUPIED, 1);
+
+    log.info("Successfully blocked seat {} (label: {}) for booking {} on property {}",
+        savedSeat.getId(), savedSeat.getLabel(), booking.getId(), propertyId);
+
+    return savedSeat;
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.MANDATORY)
+  public Seat holdSeatForBooking(Booking booking) {
+    Long propertyId = booking.getProperty().getId();
+    Seat seat = seatRepository.findFirstByPropertyIdAndStatusWithLock(propertyId, SeatStatus.AVAILABLE)
+        .orElseThrow(() -> new IllegalStateException("No seats available for this property"));
+
+    seat.setStatus(SeatStatus.HELD);
+    seat.setUpdatedAt(LocalDateTime.now());
+    Seat saved = seatRepository.saveAndFlush(seat);
+    adjustCounters(propertyId, SeatStatus.AVAILABLE, SeatStatus.HELD, 1);
+
+    log.info("Held seat {} for booking {} on property {}", seat.getId(), booking.getId(), propertyId);
+    return saved;
+  }
+
+  /**
+   * Transaction Flow:
+   * 1. Query for AVAILABLE seat with PESSIMISTIC_WRITE lock
+   * 2. If found, update status to OCCUPIED
+   * 3. Return the seat (to be linked to booking)
+   *
+   * The pessimistic lock prevents race conditions by blocking other transactions
+   * from selecting the same seat until this transaction completes.
+   */
+  private Seat blockWithLock(Booking booking, Long propertyId) {
     // Find first available seat with pessimistic lock
     // This query locks the row, preventing concurrent approvals from selecting it
     Seat seat = seatRepository.findFirstByPropertyIdAndStatusWithLock(
         propertyId, SeatStatus.AVAILABLE)
-        .orElseThrow(() -> {
-          log.warn("No available seats for property {} - booking {} cannot be approved",
-              propertyId, booking.getId());
-          return new IllegalStateException(
-              "No seats available for this property. Cannot approve booking.");
-        });
+        .orElseThrow(() -> noSeatsAvailable(booking, propertyId));
 
     // Update seat status to OCCUPIED
     seat.setStatus(SeatStatus.OCCUPIED);
     seat.setUpdatedAt(LocalDateTime.now());
-    Seat savedSeat = seatRepository.save(seat);
+    return seatRepository.saveAndFlush(seat);
+  }
 
-    log.info("Successfully blocked seat {} (label: {}) for booking {} on property {}",
-        savedSeat.getId(), savedSeat.getLabel(), booking.getId(), propertyId);
+  /**
+   * Read available seats without locking, then try to flip one from
+   * AVAILABLE at the version read. Candidates are tried in random order so
+   * concurrent confirmations spread over different rows instead of all
+   * racing for the lowest id. A failed compare-and-set does not poison the
+   * transaction; after {@code maxAttempts} failures the caller is told to
+   * retry.
+   *
+   * The claimed seat is loaded after the UPDATE, so it must not already be
+   * managed in the current persistence context.
+   */
+  private Seat blockOptimistically(Booking booking, Long propertyId) {
+    List<Object[]> candidates = new ArrayList<>(seatRepository.findCandidateVersions(
+        propertyId, SeatStatus.AVAILABLE, PageRequest.of(0, OPTIMISTIC_CANDIDATES)));
+    if (candidates.isEmpty()) {
+      throw noSeatsAvailable(booking, propertyId);
+    }
+    Collections.shuffle(candidates, ThreadLocalRandom.current());
 
-    return savedSeat;
+    int attempts = Math.min(maxAttempts, candidates.size());
+    for (int i = 0; i < attempts; i++) {
+      Long seatId = (Long) candidates.get(i)[0];
+      Long version = ((Number) candidates.get(i)[1]).longValue();
+      if (seatRepository.compareAndOccupy(seatId, version) == 1) {
+        return seatRepository.findById(seatId)
+            .orElseThrow(() -> new IllegalStateException("Claimed seat " + seatId + " disappeared"));
+      }
+      log.debug("Seat {} changed before booking {} could claim it (attempt {})", seatId, booking.getId(), i + 1);
+    }
+    if (seatRepository.countByPropertyIdAndStatus(propertyId, SeatStatus.AVAILABLE) == 0) {
+      throw noSeatsAvailable(booking, propertyId);
+    }
+    log.warn("Gave up claiming a seat for booking {} on property {} after {} attempts",
+        booking.getId(), propertyId, attempts);
+    throw new IllegalStateException("Seats for this property are in high demand. Please try again.");
+  }
+
+  /**
+   * {@code UPDATE ... WHERE status = 'AVAILABLE' LIMIT 1}: the database picks
+   * and occupies a seat in one statement, and the random claim token
+   * identifies which row this caller won.
+   */
+  private Seat blockByAtomicClaim(Booking booking, Long propertyId) {
+    String token = UUID.randomUUID().toString();
+    if (seatRepository.claimAvailable(propertyId, token) == 0) {
+      throw noSeatsAvailable(booking, propertyId);
+    }
+    return seatRepository.findByClaimToken(token)
+        .orElseThrow(() -> new IllegalStateException("Claimed seat for token " + token + " not found"));
+  }
+
+  /**
+   * One locked read covers every property in the batch; seats are taken in
+   * id order, as the single-booking lock would, and written back through
+   * dirty checking in JDBC batches.
+   */
+  @Override
+  @Transactional(propagation = Propagation.MANDATORY)
+  public Map<Long, Seat> blockSeatsForBookings(List<Booking> bookings) {
+    Map<Long, Seat> allocated = new LinkedHashMap<>();
+    if (bookings.isEmpty()) {
+      return allocated;
+    }
+
+    Map<Long, int[]> deltas = new TreeMap<>();
+    LocalDateTime now = LocalDateTime.now();
+    Set<Long> propertyIds = new TreeSet<>();
+    for (Booking booking : bookings) {
+      propertyIds.add(booking.getProperty().getId());
+      Seat held = booking.getSeat();
+      if (isHeld(held)) {
+        held.setStatus(SeatStatus.OCCUPIED);
+        held.setUpdatedAt(now);
+        allocated.put(booking.getId(), held);
+        addDelta(deltas, booking.getProperty().getId(), SeatStatus.HELD, SeatStatus.OCCUPIED);
+      }
+    }
+    Map<Long, Deque<Seat>> available = new HashMap<>();
+    for (Seat seat : seatRepository.findAllByPropertyIdInAndStatusWithLock(propertyIds, SeatStatus.AVAILABLE)) {
+      available.computeIfAbsent(seat.getProperty().getId(), id -> new ArrayDeque<>()).add(seat);
+    }
+
+    for (Booking booking : bookings) {
+      if (allocated.containsKey(booking.getId())) {
+        continue;
+      }
+      Deque<Seat> seats = available.get(booking.getProperty().getId());
+      Seat seat = seats != null ? seats.poll() : null;
+      if (seat == null) {
+        log.warn("No available seats for property {} - booking {} cannot be approved",
+            booking.getProperty().getId(), booking.getId());
+        continue;
+      }
+      seat.setStatus(SeatStatus.OCCUPIED);
+      seat.setUpdatedAt(now);
+      allocated.put(booking.getId(), seat);
+      addDelta(deltas, booking.getProperty().getId(), SeatStatus.AVAILABLE, SeatStatus.OCCUPIED);
+    }
+
+    seatRepository.flush();
+    deltas.forEach(this::applyDelta);
+
+    log.info("Blocked {} seats for {} bookings across {} properties",
+        allocated.size(), bookings.size(), propertyIds.size());
+    return allocated;
+  }
+
+  private IllegalStateException noSeatsAvailable(Booking booking, Long propertyId) {
+    log.warn("No available seats for property {} - booking {} cannot be approved",
+        propertyId, booking.getId());
+    return new IllegalStateException(
+        "No seats available for this property. Cannot approve booking.");
   }
 
   /**
@@ -89,20 +300,120 @@ public class SeatServiceImpl implements SeatService {
     log.info("Releasing seat {} (label: {}) from property {}",
         seat.getId(), seat.getLabel(), seat.getProperty().getId());
 
+    SeatStatus previous = seat.getStatus();
     seat.setStatus(SeatStatus.AVAILABLE);
     seat.setLastVacatedAt(LocalDateTime.now());
-    seatRepository.save(seat);
+    seatRepository.saveAndFlush(seat);
+    adjustCounters(seat.getProperty().getId(), previous, SeatStatus.AVAILABLE, 1);
 
     log.info("Seat {} released and now AVAILABLE", seat.getId());
   }
 
+  @Override
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void releaseSeats(List<Seat> seats) {
+    if (seats.isEmpty()) {
+      return;
+    }
+    Map<Long, int[]> deltas = new TreeMap<>();
+    LocalDateTime now = LocalDateTime.now();
+    for (Seat seat : seats) {
+      addDelta(deltas, seat.getProperty().getId(), seat.getStatus(), SeatStatus.AVAILABLE);
+      seat.setStatus(SeatStatus.AVAILABLE);
+      seat.setLastVacatedAt(now);
+    }
+    seatRepository.saveAll(seats);
+    seatRepository.flush();
+    deltas.forEach(this::applyDelta);
+
+    log.info("Released {} seats across {} properties", seats.size(), deltas.size());
+  }
+
+  @Override
+  @Transactional
+  public Seat addSeat(Property property, String label, SeatStatus status) {
+    Seat saved = seatRepository.saveAndFlush(Seat.builder()
+        .property(property)
+        .label(label)
+        .status(status)
+        .build());
+    adjustCounters(property.getId(), null, status, 1);
+    return saved;
+  }
+
   /**
-   * Get count of available seats for a property.
+   * Counter rows are locked first, so concurrent provisioning of the same
+   * property (a property update racing the reconciliation job) counts seats
+   * only after the other has committed. A property's very first seats have
+   * no counter row to lock yet.
+   */
+  @Override
+  @Transactional
+  public int provisionSeats(Collection<Long> propertyIds) {
+    if (propertyIds.isEmpty()) {
+      return 0;
+    }
+    counterRepository.findByPropertyIdInWithLock(propertyIds);
+
+    List<Object[]> missing = new ArrayList<>();
+    Map<Long, Integer> createdByProperty = new TreeMap<>();
+    for (Object[] row : seatRepository.findSeatCountsByPropertyIdIn(propertyIds)) {
+      Long propertyId = (Long) row[0];
+      int beds = ((Number) row[1]).intValue();
+      int seats = ((Number) row[2]).intValue();
+      for (int i = seats + 1; i <= beds; i++) {
+        missing.add(new Object[] { propertyId, "Bed " + i });
+      }
+      if (beds > seats) {
+        createdByProperty.put(propertyId, beds - seats);
+      }
+    }
+    if (missing.isEmpty()) {
+      return 0;
+    }
+
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    for (int from = 0; from < missing.size(); from += insertRows) {
+      List<Object[]> chunk = missing.subList(from, Math.min(from + insertRows, missing.size()));
+      StringBuilder sql = new StringBuilder(
+          "INSERT INTO seats (property_id, label, status, version, created_at, updated_at) VALUES ");
+      Object[] args = new Object[chunk.size() * 4];
+      for (int i = 0; i < chunk.size(); i++) {
+        sql.append(i == 0 ? "" : ", ").append("(?, ?, 'AVAILABLE', 0, ?, ?)");
+        args[i * 4] = chunk.get(i)[0];
+        args[i * 4 + 1] = chunk.get(i)[1];
+        args[i * 4 + 2] = now;
+        args[i * 4 + 3] = now;
+      }
+      jdbcTemplate.update(sql.toString(), args);
+    }
+    createdByProperty.forEach(
+        (propertyId, count) -> adjustCounters(propertyId, null, SeatStatus.AVAILABLE, count));
+
+    log.info("Provisioned {} seats across {} properties", missing.size(), createdByProperty.size());
+    return missing.size();
+  }
+
+  @Override
+  @Transactional
+  public Seat changeSeatStatus(Seat seat, SeatStatus status) {
+    SeatStatus previous = seat.getStatus();
+    if (previous == status) {
+      return seat;
+    }
+    seat.setStatus(status);
+    Seat saved = seatRepository.saveAndFlush(seat);
+    adjustCounters(seat.getProperty().getId(), previous, status, 1);
+    return saved;
+  }
+
+  /**
+   * Get count of available seats for a property, from its counters.
    */
   @Override
   @Transactional(readOnly = true)
   public long getAvailableSeatCount(Long propertyId) {
-    return seatRepository.countByPropertyIdAndStatus(propertyId, SeatStatus.AVAILABLE);
+    return getOccupancy(propertyId).getAvailable();
   }
 
   /**
@@ -113,4 +424,114 @@ public class SeatServiceImpl implements SeatService {
   public boolean hasAvailableSeats(Long propertyId) {
     return getAvailableSeatCount(propertyId) > 0;
   }
+
+  @Override
+  @Transactional(readOnly = true)
+  public SeatOccupancyDto getOccupancy(Long propertyId) {
+    SeatOccupancyDto occupancy = toOccupancyMap(counterRepository.findByPropertyId(propertyId)).get(propertyId);
+    return occupancy != null ? occupancy : SeatOccupancyDto.builder().propertyId(propertyId).build();
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Map<Long, SeatOccupancyDto> getOccupancy(Collection<Long> propertyIds) {
+    if (propertyIds.isEmpty()) {
+      return Map.of();
+    }
+    return toOccupancyMap(counterRepository.findByPropertyIdIn(propertyIds));
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Map<Long, SeatOccupancyDto> getOccupancyByOwner(Long ownerId) {
+    return toOccupancyMap(counterRepository.findByOwnerId(ownerId));
+  }
+
+  /**
+   * Create counters for properties whose seats predate them, e.g. when the
+   * schema is managed by Hibernate rather than the V132 migration.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional
+  public void createMissingCounters() {
+    int created = counterRepository.insertAllMissing();
+    for (int stripe = 1; stripe < counterStripes; stripe++) {
+      counterRepository.insertAllMissingStripe(stripe);
+    }
+    if (created > 0) {
+      log.info("Created seat counters for {} properties", created);
+    }
+  }
+
+  /**
+   * Move {@code seats} seats from one status bucket to another in the
+   * property's counters; a null status adds or removes seats. Seat rows must
+   * already be flushed, so a property without counters can be counted from
+   * the seats table instead.
+   */
+  private void adjustCounters(Long propertyId, SeatStatus from, SeatStatus to, int seats) {
+    int[] delta = new int[3];
+    if (from != null) {
+      delta[bucket(from)] -= seats;
+    }
+    if (to != null) {
+      delta[bucket(to)] += seats;
+    }
+    applyDelta(propertyId, delta);
+  }
+
+  private void applyDelta(Long propertyId, int[] delta) {
+    int stripe = ThreadLocalRandom.current().nextInt(counterStripes);
+    if (counterRepository.adjust(propertyId, stripe, delta[0], delta[1], delta[2]) > 0) {
+      return;
+    }
+    // Stripes added to the setting since the counters were created are missing until the next start
+    if (stripe != 0 && counterRepository.adjust(propertyId, 0, delta[0], delta[1], delta[2]) > 0) {
+      return;
+    }
+    List<Long> propertyIds = List.of(propertyId);
+    counterRepository.insertMissing(propertyIds);
+    for (int other = 1; other < counterStripes; other++) {
+      counterRepository.insertMissingStripe(propertyIds, other);
+    }
+  }
+
+  private static void addDelta(Map<Long, int[]> deltas, Long propertyId, SeatStatus from, SeatStatus to) {
+    int[] delta = deltas.computeIfAbsent(propertyId, id -> new int[3]);
+    delta[bucket(from)]--;
+    delta[bucket(to)]++;
+  }
+
+  private static boolean isHeld(Seat seat) {
+    return seat != null && seat.getStatus() == SeatStatus.HELD;
+  }
+
+  private static int bucket(SeatStatus status) {
+    return switch (status) {
+      case AVAILABLE -> 0;
+      case OCCUPIED -> 1;
+      default -> 2;
+    };
+  }
+
+  /**
+   * Occupancy per property, adding up its stripes.
+   */
+  private static Map<Long, SeatOccupancyDto> toOccupancyMap(List<PropertySeatCounter> counters) {
+    Map<Long, int[]> sums = new HashMap<>();
+    for (PropertySeatCounter counter : counters) {
+      int[] sum = sums.computeIfAbsent(counter.getPropertyId(), id -> new int[3]);
+      sum[0] += counter.getAvailable();
+      sum[1] += counter.getOccupied();
+      sum[2] += counter.getBlocked();
+    }
+    Map<Long, SeatOccupancyDto> occupancy = new HashMap<>();
+    sums.forEach((propertyId, sum) -> occupancy.put(propertyId, SeatOccupancyDto.builder()
+        .propertyId(propertyId)
+        .available(sum[0])
+        .occupied(sum[1])
+        .blocked(sum[2])
+        .build()));
+    return occupancy;
+  }
 }
@@ -0,0 +1,168 @@
+package com.webapp.domain.property.view;
+
+import java.sql.Date;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Write-behind counter for property detail views.
+ *
+ * A view is recorded in a striped {@link LongAdder}, so concurrent viewers of
+ * the same listing never contend on a row lock. A scheduled flush drains the
+ * counters into two JDBC batches: {@code properties.views += n} and the
+ * per-day {@code property_view_daily} series. Counts that fail to flush are
+ * added back and retried on the next run, and a final flush runs on shutdown.
+ */
+@Component
+@Slf4j
+public class PropertyViewCounter {
+
+  static final String INCREMENT_VIEWS_SQL = "UPDATE properties SET views = views + ? WHERE id = ?";
+  static final String INCREMENT_DAILY_SQL = "UPDATE property_view_daily SET views = views + ? "
+      + "WHERE property_id = ? AND view_date = ?";
+  static final String INSERT_DAILY_SQL = "INSERT INTO property_view_daily (property_id, view_date, views) "
+      + "VALUES (?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final Clock clock;
+
+  private final Map<ViewKey, LongAdder> pending = new ConcurrentHashMap<>();
+
+  @Autowired
+  public PropertyViewCounter(JdbcTemplate jdbcTemplate) {
+    this(jdbcTemplate, Clock.systemDefaultZone());
+  }
+
+  PropertyViewCounter(JdbcTemplate jdbcTemplate, Clock clock) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.clock = clock;
+  }
+
+  public void record(Long propertyId) {
+    pending.computeIfAbsent(new ViewKey(propertyId, LocalDate.now(clock)), k -> new LongAdder()).increment();
+  }
+
+  /**
+   * Views recorded but not yet written, for tests and diagnostics.
+   */
+  public long pendingViews() {
+    return pending.values().stream().mapToLong(LongAdder::sum).sum();
+  }
+
+  @Scheduled(fixedDelayString = "${app.views.flush-interval-ms:10000}")
+  public void scheduledFlush() {
+    flush();
+  }
+
+  @PreDestroy
+  public void drain() {
+    flush();
+    long lost = pendingViews();
+    if (lost > 0) {
+      log.warn("Shutting down with {} property views not persisted", lost);
+    }
+  }
+
+  /**
+   * Write accumulated counts to the database in batched UPDATEs.
+   *
+   * @return number of views flushed
+   */
+  public synchronized int flush() {
+    LocalDate today = LocalDate.now(clock);
+    List<Delta> deltas = new ArrayList<>();
+
+    for (Map.Entry<ViewKey, LongAdder> entry : pending.entrySet()) {
+      long count = entry.getValue().sumThenReset();
+      if (count > 0) {
+        deltas.add(new Delta(entry.getKey(), count));
+      } else if (entry.getKey().day().isBefore(today.minusDays(1))) {
+        // Stale day keys are drained; keeping yesterday's avoids racing a
+        // recorder that looked its adder up just before midnight
+        pending.remove(entry.getKey(), entry.getValue());
+      }
+    }
+    if (deltas.isEmpty()) {
+      return 0;
+    }
+
+    try {
+      writeTotals(deltas);
+    } catch (DataAccessException e) {
+      log.error("Failed to flush {} property view counters, will retry", deltas.size(), e);
+      restore(deltas);
+      return 0;
+    }
+
+    try {
+      writeDaily(deltas);
+    } catch (DataAccessException e) {
+      // Totals are already committed; only the time series loses this batch
+      log.error("Failed to flush daily property view series", e);
+    }
+
+    long views = deltas.stream().mapToLong(Delta::count).sum();
+    log.debug("Flushed {} property views across {} counters", views, deltas.size());
+    return (int) views;
+  }
+
+  private void writeTotals(List<Delta> deltas) {
+    Map<Long, Long> byProperty = new TreeMap<>();
+    for (Delta delta : deltas) {
+      byProperty.merge(delta.key().propertyId(), delta.count(), Long::sum);
+    }
+    List<Object[]> args = new ArrayList<>(byProperty.size());
+    byProperty.forEach((propertyId, count) -> args.add(new Object[] { count, propertyId }));
+    jdbcTemplate.batchUpdate(INCREMENT_VIEWS_SQL, args);
+  }
+
+  private void writeDaily(List<Delta> deltas) {
+    List<Object[]> updates = new ArrayList<>(deltas.size());
+    for (Delta delta : deltas) {
+      updates.add(new Object[] { delta.count(), delta.key().propertyId(), Date.valueOf(delta.key().day()) });
+    }
+    int[] updated = jdbcTemplate.batchUpdate(INCREMENT_DAILY_SQL, updates);
+
+    // A row is only missing on a property's first flush of the day, so the
+    // inserts are few and go one by one to handle another instance racing us
+    for (int i = 0; i < updated.length; i++) {
+      if (updated[i] != 0) {
+        continue;
+      }
+      Object[] row = updates.get(i);
+      try {
+        jdbcTemplate.update(INSERT_DAILY_SQL, row[1], row[2], row[0]);
+      } catch (DuplicateKeyException e) {
+        jdbcTemplate.update(INCREMENT_DAILY_SQL, row);
+      }
+    }
+  }
+
+  private void restore(List<Delta> deltas) {
+    for (Delta delta : deltas) {
+      pending.computeIfAbsent(delta.key(), k -> new LongAdder()).add(delta.count());
+    }
+  }
+
+  private record ViewKey(Long propertyId, LocalDate day) {
+  }
+
+  private record Delta(ViewKey key, long count) {
+  }
+}
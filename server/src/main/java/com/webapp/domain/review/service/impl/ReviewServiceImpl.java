@@ -1,11 +1,13 @@
 package com.webapp.domain.review.service.impl;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.webapp.domain.property.entity.Property;
+import com.webapp.domain.property.event.PropertyChangedEvent;
 import com.webapp.domain.property.repository.PropertyRepository;
 import com.webapp.domain.review.dto.ReviewRequest;
 import com.webapp.domain.review.dto.ReviewResponse;
@@ -24,6 +26,7 @@ public class ReviewServiceImpl implements ReviewService {
   private final ReviewRepository reviewRepository;
   private final UserRepository userRepository;
   private final PropertyRepository propertyRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Override
   @Transactional
@@ -87,6 +90,7 @@ public class ReviewServiceImpl implements ReviewService {
     property.setReviewsCount((int) count);
 
     propertyRepository.save(property);
+    eventPublisher.publishEvent(PropertyChangedEvent.saved(property));
   }
 
   @Override
@@ -47,6 +47,13 @@ public class AdminController {
         return ResponseEntity.ok(propertyService.getAllProperties());
     }
 
+    @GetMapping("/properties/page")
+    public ResponseEntity<com.webapp.domain.property.dto.PropertyCursorPage> getAllPropertiesPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(propertyService.getAllPropertiesPage(cursor, Math.max(1, Math.min(size, 200))));
+    }
+
     @PutMapping("/properties/{id}/approve")
     public ResponseEntity<com.webapp.domain.property.dto.PropertyResponse> approveProperty(
             @PathVariable Long id,
@@ -1,11 +1,13 @@
 package com.webapp.domain.user.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -32,6 +34,19 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
         Optional<User> findByEmail(String email);
 
+        /**
+         * Users with their roles in one statement, for pages that show many
+         * users at once.
+         */
+        @EntityGraph(attributePaths = { "roles" })
+        List<User> findAllByIdIn(Collection<Long> ids);
+
+        /**
+         * (id, email) of the given users, without loading them.
+         */
+        @Query("SELECT u.id, u.email FROM User u WHERE u.id IN :ids")
+        List<Object[]> findEmailsByIdIn(@Param("ids") Collection<Long> ids);
+
         boolean existsByEmail(String email);
 
         boolean existsByPhoneNumber(String phoneNumber);
@@ -7,8 +7,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.webapp.domain.booking.repository.BookingRepository;
+import com.webapp.domain.booking.service.BookingService;
 import com.webapp.domain.messaging.repository.MessageRepository;
 import com.webapp.domain.notification.enums.NotificationType;
+import com.webapp.domain.property.event.PropertyChangedEvent;
 import com.webapp.domain.property.repository.PropertyRepository;
 import com.webapp.domain.user.entity.User;
 import com.webapp.domain.user.enums.AccountStatus;
@@ -24,12 +26,14 @@ public class UserDeletionService {
 
     private final UserRepository userRepository;
     private final BookingRepository bookingRepository;
+    private final BookingService bookingService;
     private final PropertyRepository propertyRepository;
     private final MessageRepository messageRepository; // Used for message cleanup in executeDeletion
     private final com.webapp.domain.roommate.RoommatePostRepository roommatePostRepository;
     private final com.webapp.domain.roommate.RoommateRequestRepository roommateRequestRepository;
     private final com.webapp.domain.notification.repository.NotificationRepository notificationRepository;
     private final com.webapp.domain.notification.service.NotificationService notificationService;
+    private final org.springframework.context.ApplicationEventPublisher eventPublisher;
 
     private static final long DELETION_GRACE_PERIOD_DAYS = 3;
 
@@ -110,29 +114,19 @@ public class UserDeletionService {
         roommateRequestRepository.deleteAllByUserId(user.getId());
 
         // 2. Handle Bookings (Cancel Future, Keep Past)
-        List<com.webapp.domain.booking.entity.Booking> futureTenantBookings = bookingRepository
-                .findFutureBookingsByTenantId(user.getId());
-        for (com.webapp.domain.booking.entity.Booking b : futureTenantBookings) {
-            b.setStatus(com.webapp.domain.booking.enums.BookingStatus.CANCELLED);
-            bookingRepository.save(b);
-            // Ideally trigger refund logic here via FinanceService if payments exist
-            // For MVP: Just cancel.
-        }
+        // Seats and holds are released and the refund follows from the outbox
+        bookingService.cancelBookings(user.getDeletedBy(), bookingRepository.findFutureBookingsByTenantId(user.getId()));
 
         if (user.isHouseOwner()) {
-            List<com.webapp.domain.booking.entity.Booking> futureLandlordBookings = bookingRepository
-                    .findFutureBookingsByLandlordId(user.getId());
-            for (com.webapp.domain.booking.entity.Booking b : futureLandlordBookings) {
-                b.setStatus(com.webapp.domain.booking.enums.BookingStatus.CANCELLED);
-                bookingRepository.save(b);
-            }
+            bookingService.cancelBookings(user.getDeletedBy(),
+                    bookingRepository.findFutureBookingsByLandlordId(user.getId()));
 
             // Disable Properties
             List<com.webapp.domain.property.entity.Property> properties = propertyRepository
                     .findAllByOwnerId(user.getId());
             for (com.webapp.domain.property.entity.Property p : properties) {
                 p.setStatus(com.webapp.domain.property.enums.PropertyStatus.INACTIVE);
-                propertyRepository.save(p);
+                eventPublisher.publishEvent(PropertyChangedEvent.saved(propertyRepository.save(p)));
             }
         }
 
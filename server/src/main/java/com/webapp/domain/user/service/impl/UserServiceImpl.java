@@ -5,6 +5,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Primary;
 import org.springframework.lang.NonNull;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -18,6 +19,7 @@ import com.webapp.auth.exception.BadRequestException;
 import com.webapp.auth.exception.ResourceNotFoundException;
 import com.webapp.auth.exception.UserAlreadyExistsException;
 import com.webapp.auth.security.UserPrincipal;
+import com.webapp.domain.property.event.PropertyChangedEvent;
 import com.webapp.domain.user.dto.UserCreateDto;
 import com.webapp.domain.user.entity.User;
 import com.webapp.domain.user.enums.AuthProvider;
@@ -38,6 +40,7 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final com.webapp.domain.property.repository.PropertyRepository propertyRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
@@ -409,7 +412,7 @@ public class UserServiceImpl implements UserService {
         List<com.webapp.domain.property.entity.Property> properties = propertyRepository.findAllByOwnerId(userId);
         for (com.webapp.domain.property.entity.Property property : properties) {
             property.setStatus(com.webapp.domain.property.enums.PropertyStatus.INACTIVE);
-            propertyRepository.save(property);
+            eventPublisher.publishEvent(PropertyChangedEvent.saved(propertyRepository.save(property)));
         }
 
         // 4. Save User (Soft Delete)
@@ -0,0 +1,68 @@
+package com.webapp.scheduler;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.webapp.domain.property.repository.SeatRepository;
+import com.webapp.domain.property.service.SeatService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reconciles seats with beds: creates the missing seats of properties that
+ * have fewer seats than beds, e.g. ones created before seats were provisioned
+ * on save. Runs at startup and on a schedule, a chunk of properties per
+ * transaction.
+ */
+@Component
+@Slf4j
+public class SeatProvisioningJob {
+
+  private final SeatRepository seatRepository;
+  private final SeatService seatService;
+  private final int chunkSize;
+
+  public SeatProvisioningJob(SeatRepository seatRepository, SeatService seatService,
+      @Value("${app.seats.provisioning.chunk-size:100}") int chunkSize) {
+    this.seatRepository = seatRepository;
+    this.seatService = seatService;
+    this.chunkSize = Math.max(1, chunkSize);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void onStartup() {
+    reconcile();
+  }
+
+  @Scheduled(cron = "${app.seats.provisioning.cron:0 15 4 * * *}")
+  public void reconcile() {
+    int created = 0;
+    while (true) {
+      List<Long> propertyIds = seatRepository.findPropertyIdsMissingSeats(PageRequest.of(0, chunkSize));
+      if (propertyIds.isEmpty()) {
+        break;
+      }
+      int chunkCreated;
+      try {
+        chunkCreated = seatService.provisionSeats(propertyIds);
+      } catch (RuntimeException e) {
+        log.error("Seat provisioning failed for properties {}", propertyIds, e);
+        break;
+      }
+      created += chunkCreated;
+      // Provisioned properties drop out of the query; stop if this chunk did not shrink it
+      if (chunkCreated == 0 || propertyIds.size() < chunkSize) {
+        break;
+      }
+    }
+    if (created > 0) {
+      log.info("Seat reconciliation created {} seats", created);
+    }
+  }
+}
@@ -0,0 +1,8 @@
+-- Per-day detail view counts, written in batches by the view counter flush
+CREATE TABLE IF NOT EXISTS property_view_daily (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    property_id BIGINT NOT NULL,
+    view_date DATE NOT NULL,
+    views BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT uk_view_daily_property_date UNIQUE (property_id, view_date)
+);
@@ -0,0 +1,5 @@
+-- Optimistic and atomic-UPDATE seat allocation
+ALTER TABLE seats ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE seats ADD COLUMN claim_token VARCHAR(36) NULL;
+CREATE INDEX idx_seat_property_status ON seats (property_id, status);
+CREATE INDEX idx_seat_claim_token ON seats (claim_token);
@@ -0,0 +1,18 @@
+-- Transactional outbox for booking side effects (audit, notifications, finance)
+CREATE TABLE IF NOT EXISTS booking_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    booking_id BIGINT NOT NULL,
+    event_type VARCHAR(30) NOT NULL,
+    booking_status VARCHAR(30),
+    actor_id BIGINT,
+    request_id VARCHAR(50),
+    ip_address VARCHAR(45),
+    user_agent VARCHAR(500),
+    completed_consumers VARCHAR(255),
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NULL,
+    last_error VARCHAR(1000),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    processed_at TIMESTAMP NULL
+);
+CREATE INDEX idx_booking_outbox_pending ON booking_outbox (processed_at, next_attempt_at);
@@ -0,0 +1,18 @@
+-- Maintained per-property seat occupancy counters
+CREATE TABLE IF NOT EXISTS property_seat_counters (
+    property_id BIGINT PRIMARY KEY,
+    available INT NOT NULL DEFAULT 0,
+    occupied INT NOT NULL DEFAULT 0,
+    blocked INT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NULL,
+    CONSTRAINT fk_seat_counters_property FOREIGN KEY (property_id) REFERENCES properties(id) ON DELETE CASCADE
+);
+
+INSERT INTO property_seat_counters (property_id, available, occupied, blocked, updated_at)
+SELECT property_id,
+       SUM(CASE WHEN status = 'AVAILABLE' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN status = 'OCCUPIED' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN status IN ('BLOCKED', 'MAINTENANCE') THEN 1 ELSE 0 END),
+       CURRENT_TIMESTAMP
+FROM seats
+GROUP BY property_id;
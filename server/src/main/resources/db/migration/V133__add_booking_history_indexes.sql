@@ -0,0 +1,10 @@
+-- Keyset pagination of booking history, ordered by (start_date DESC, id DESC)
+CREATE INDEX idx_bookings_tenant_start ON bookings (tenant_id, start_date, id);
+CREATE INDEX idx_bookings_landlord_start ON bookings (landlord_id, start_date, id);
+-- Landlord history filtered by status (e.g. PENDING requests)
+CREATE INDEX idx_bookings_landlord_status_start ON bookings (landlord_id, status, start_date, id);
+
+-- Active and future bookings: owner + status IN (...) + end_date >= CURRENT_DATE
+CREATE INDEX idx_bookings_tenant_status_end ON bookings (tenant_id, status, end_date);
+CREATE INDEX idx_bookings_landlord_status_end ON bookings (landlord_id, status, end_date);
+CREATE INDEX idx_bookings_property_status_end ON bookings (property_id, status, end_date);
@@ -0,0 +1,5 @@
+-- Seat holds for PENDING bookings; EXPIRED status for holds that ran out
+ALTER TABLE bookings MODIFY COLUMN status VARCHAR(255) NOT NULL;
+ALTER TABLE bookings ADD COLUMN hold_expires_at DATETIME NULL;
+CREATE INDEX idx_bookings_status_hold ON bookings (status, hold_expires_at);
+
@@ -0,0 +1,4 @@
+-- Lease on outbox rows so that only one instance dispatches each event
+ALTER TABLE booking_outbox ADD COLUMN claim_token VARCHAR(36) NULL;
+ALTER TABLE booking_outbox ADD COLUMN claimed_until TIMESTAMP NULL;
+CREATE INDEX idx_booking_outbox_claim_token ON booking_outbox (claim_token);
@@ -0,0 +1,3 @@
+-- Several counter rows (stripes) per property, so concurrent seat transitions on one property update different rows
+ALTER TABLE property_seat_counters ADD COLUMN stripe INT NOT NULL DEFAULT 0;
+ALTER TABLE property_seat_counters DROP PRIMARY KEY, ADD PRIMARY KEY (property_id, stripe);
@@ -0,0 +1,2 @@
+-- idx_bookings_landlord_status_end (V133) starts with (landlord_id, status) and serves every lookup this one did
+DROP INDEX idx_bookings_landlord_status ON bookings;
@@ -0,0 +1,2 @@
+-- idx_seat_property_status (V130) repeats V122's idx_seats_property_status column for column
+DROP INDEX idx_seat_property_status ON seats;
@@ -0,0 +1,158 @@
+package com.webapp.auth.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("SlowConsumerInterceptor Tests")
+class SlowConsumerInterceptorTest {
+
+  private static final String SESSION = "s1";
+
+  private final WebSocketSessionRegistry sessionRegistry = mock(WebSocketSessionRegistry.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final List<Message<?>> sent = new ArrayList<>();
+  private final MessageChannel channel = (message, timeout) -> sent.add(message);
+
+  @Test
+  @DisplayName("Should pass messages while the session keeps up")
+  void shouldPassWhileKeepingUp() {
+    SlowConsumerInterceptor interceptor = interceptor(SlowConsumerPolicy.DROP, 2);
+
+    assertNotNull(interceptor.preSend(message("/topic/a", "1"), channel));
+    assertNotNull(interceptor.preSend(message("/topic/a", "2"), channel));
+
+    assertEquals(2, interceptor.pending(SESSION));
+  }
+
+  @Test
+  @DisplayName("Should drop messages once the backlog reaches the limit")
+  void shouldDrop() {
+    SlowConsumerInterceptor interceptor = interceptor(SlowConsumerPolicy.DROP, 2);
+    send(interceptor, 2);
+
+    assertNull(interceptor.preSend(message("/topic/a", "3"), channel));
+    assertEquals(1.0, counter("dropped"));
+    assertEquals(2, interceptor.pending(SESSION));
+  }
+
+  @Test
+  @DisplayName("Should keep the latest message per subscription and send it after the backlog drains")
+  void shouldCoalesce() {
+    SlowConsumerInterceptor interceptor = interceptor(SlowConsumerPolicy.COALESCE, 2);
+    List<Message<?>> accepted = send(interceptor, 2);
+
+    assertNull(interceptor.preSend(message("/topic/a", "old"), channel));
+    assertNull(interceptor.preSend(message("/topic/a", "new"), channel));
+    assertNull(interceptor.preSend(message("/topic/b", "other"), channel));
+    assertEquals(1.0, counter("coalesced"));
+
+    interceptor.afterMessageHandled(accepted.get(0), channel, null, null);
+
+    assertEquals(List.of("new", "other"), sent.stream().map(Message::getPayload).toList());
+  }
+
+  @Test
+  @DisplayName("Should queue chat on user queues instead of coalescing it")
+  void shouldNotCoalesceUserQueues() {
+    SlowConsumerInterceptor interceptor = interceptor(SlowConsumerPolicy.COALESCE, 2);
+    send(interceptor, 2);
+
+    assertNotNull(interceptor.preSend(userMessage("/user/queue/messages", "first"), channel));
+    assertNotNull(interceptor.preSend(userMessage("/user/queue/messages", "second"), channel));
+    assertNull(interceptor.preSend(userMessage("/user/queue/unread-count", "3"), channel));
+
+    assertEquals(4, interceptor.pending(SESSION));
+  }
+
+  @Test
+  @DisplayName("Should close the session when configured to disconnect")
+  void shouldDisconnect() {
+    when(sessionRegistry.close(SESSION, CloseStatus.SESSION_NOT_RELIABLE)).thenReturn(true);
+    SlowConsumerInterceptor interceptor = interceptor(SlowConsumerPolicy.DISCONNECT, 1);
+    send(interceptor, 1);
+
+    assertNull(interceptor.preSend(message("/topic/a", "2"), channel));
+    verify(sessionRegistry).close(SESSION, CloseStatus.SESSION_NOT_RELIABLE);
+    assertEquals(1.0, counter("disconnected"));
+  }
+
+  @Test
+  @DisplayName("Should treat a stalled socket write as slow")
+  void shouldDetectStalledSend() {
+    when(sessionRegistry.sendInProgressMs(SESSION)).thenReturn(5_000L);
+    SlowConsumerInterceptor interceptor = interceptor(SlowConsumerPolicy.DROP, 100);
+
+    assertNull(interceptor.preSend(message("/topic/a", "1"), channel));
+  }
+
+  @Test
+  @DisplayName("Should never hold back frames other than MESSAGE")
+  void shouldPassControlFrames() {
+    SlowConsumerInterceptor interceptor = interceptor(SlowConsumerPolicy.DISCONNECT, 1);
+    send(interceptor, 1);
+
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.HEARTBEAT);
+    accessor.setSessionId(SESSION);
+    assertNotNull(interceptor.preSend(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()),
+        channel));
+    verify(sessionRegistry, never()).close(any(), any());
+  }
+
+  private SlowConsumerInterceptor interceptor(SlowConsumerPolicy policy, int maxPending) {
+    return new SlowConsumerInterceptor(sessionRegistry, meterRegistry, policy, maxPending, 2000,
+        new String[] { "/topic/", "/user/queue/unread-count" });
+  }
+
+  private List<Message<?>> send(SlowConsumerInterceptor interceptor, int count) {
+    List<Message<?>> accepted = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      accepted.add(interceptor.preSend(message("/topic/a", "backlog-" + i), channel));
+    }
+    return accepted;
+  }
+
+  private double counter(String action) {
+    return meterRegistry.get("websocket.outbound.slow_consumer").tag("action", action).counter().count();
+  }
+
+  /**
+   * A user-destination message as the broker hands it to the outbound
+   * channel: resolved per session, with the subscribed destination kept.
+   */
+  private static Message<String> userMessage(String destination, String payload) {
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+    accessor.setSessionId(SESSION);
+    accessor.setDestination(destination.substring("/user".length()) + "-user" + SESSION);
+    accessor.setHeader(SimpMessageHeaderAccessor.ORIGINAL_DESTINATION, destination);
+    accessor.setSubscriptionId("sub-" + destination);
+    return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+  }
+
+  private static Message<String> message(String destination, String payload) {
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+    accessor.setSessionId(SESSION);
+    accessor.setDestination(destination);
+    accessor.setSubscriptionId("sub-" + destination);
+    return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+  }
+}
@@ -0,0 +1,181 @@
+package com.webapp.auth.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Type;
+import java.net.ServerSocket;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import com.webapp.Application;
+import com.webapp.auth.security.JwtTokenProvider;
+import com.webapp.auth.security.UserPrincipal;
+import com.webapp.domain.messaging.service.PresenceService;
+import com.webapp.domain.user.entity.User;
+import com.webapp.domain.user.enums.AuthProvider;
+import com.webapp.domain.user.repository.UserRepository;
+
+/**
+ * Two API instances relaying through one embedded Artemis STOMP broker: a
+ * client connected to node A must receive topic broadcasts and user
+ * messages sent from node B, and show as online on node B.
+ */
+@DisplayName("STOMP broker relay across two nodes")
+class StompBrokerRelayTwoNodeTest {
+
+  private static EmbeddedActiveMQ broker;
+  private static ConfigurableApplicationContext nodeA;
+  private static ConfigurableApplicationContext nodeB;
+
+  @BeforeAll
+  static void startCluster() throws Exception {
+    int stompPort = freePort();
+    ConfigurationImpl config = new ConfigurationImpl();
+    config.setPersistenceEnabled(false);
+    config.setSecurityEnabled(false);
+    config.addAcceptorConfiguration("stomp", "tcp://127.0.0.1:" + stompPort
+        + "?protocols=STOMP;anycastPrefix=/queue/;multicastPrefix=/topic/");
+    broker = new EmbeddedActiveMQ();
+    broker.setConfiguration(config);
+    broker.start();
+
+    nodeA = startNode("relay-a", stompPort);
+    nodeB = startNode("relay-b", stompPort);
+  }
+
+  @AfterAll
+  static void stopCluster() throws Exception {
+    if (nodeA != null) {
+      nodeA.close();
+    }
+    if (nodeB != null) {
+      nodeB.close();
+    }
+    if (broker != null) {
+      broker.stop();
+    }
+  }
+
+  @Test
+  @DisplayName("Should deliver messages sent from the other node and share presence with it")
+  void shouldFanOutAcrossNodes() throws Exception {
+    User user = nodeA.getBean(UserRepository.class).save(User.builder()
+        .email("relay-" + UUID.randomUUID() + "@example.com")
+        .authProvider(AuthProvider.LOCAL)
+        .build());
+    String token = nodeA.getBean(JwtTokenProvider.class).generateAccessToken(UserPrincipal.create(user));
+
+    WebSocketStompClient client = new WebSocketStompClient(
+        new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient()))));
+    client.setMessageConverter(new MappingJackson2MessageConverter());
+    StompHeaders connectHeaders = new StompHeaders();
+    connectHeaders.add("Authorization", "Bearer " + token);
+    StompSession session = client.connectAsync("ws://localhost:" + port(nodeA) + "/ws", new WebSocketHttpHeaders(),
+        connectHeaders, new StompSessionHandlerAdapter() {
+        }).get(10, TimeUnit.SECONDS);
+
+    BlockingQueue<Map<?, ?>> topicMessages = subscribe(session, "/topic/relay-test");
+    BlockingQueue<Map<?, ?>> userMessages = subscribe(session, "/user/queue/messages");
+
+    SimpMessagingTemplate template = nodeB.getBean(SimpMessagingTemplate.class);
+    assertEquals("broadcast", awaitDelivery(topicMessages,
+        () -> template.convertAndSend("/topic/relay-test", Map.of("text", "broadcast"))));
+    assertEquals("direct", awaitDelivery(userMessages,
+        () -> template.convertAndSendToUser(user.getEmail(), "/queue/messages", Map.of("text", "direct"))));
+
+    // Node B learns of the session on node A from the shared user registry
+    PresenceService presenceOnB = nodeB.getBean(PresenceService.class);
+    long deadline = System.currentTimeMillis() + 30_000;
+    while (!presenceOnB.isUserOnline(user.getId()) && System.currentTimeMillis() < deadline) {
+      Thread.sleep(200);
+    }
+    assertTrue(presenceOnB.isUserOnline(user.getId()));
+
+    session.disconnect();
+    client.stop();
+  }
+
+  /**
+   * Resend until a message arrives: subscriptions and the user registry
+   * reach the other node asynchronously.
+   */
+  private static Object awaitDelivery(BlockingQueue<Map<?, ?>> received, Runnable send) throws Exception {
+    long deadline = System.currentTimeMillis() + 30_000;
+    while (System.currentTimeMillis() < deadline) {
+      send.run();
+      Map<?, ?> message = received.poll(500, TimeUnit.MILLISECONDS);
+      if (message != null) {
+        return message.get("text");
+      }
+    }
+    return null;
+  }
+
+  private static BlockingQueue<Map<?, ?>> subscribe(StompSession session, String destination) {
+    BlockingQueue<Map<?, ?>> received = new LinkedBlockingQueue<>();
+    session.subscribe(destination, new StompFrameHandler() {
+      @Override
+      public Type getPayloadType(StompHeaders headers) {
+        return Map.class;
+      }
+
+      @Override
+      public void handleFrame(StompHeaders headers, Object payload) {
+        received.add((Map<?, ?>) payload);
+      }
+    });
+    return received;
+  }
+
+  private static ConfigurableApplicationContext startNode(String name, int stompPort) {
+    return new SpringApplicationBuilder(Application.class)
+        .profiles("test")
+        .properties(
+            "server.port=0",
+            "spring.datasource.url=jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1;MODE=MySQL",
+            "spring.jpa.show-sql=false",
+            "minio.enabled=false",
+            "app.file.upload-dir=uploads",
+            "app.websocket.broker.mode=relay",
+            "app.websocket.broker.relay.host=127.0.0.1",
+            "app.websocket.broker.relay.port=" + stompPort,
+            "app.websocket.broker.relay.heartbeat-ms=0")
+        .run();
+  }
+
+  private static int port(ConfigurableApplicationContext node) {
+    return ((ServletWebServerApplicationContext) node).getWebServer().getPort();
+  }
+
+  private static int freePort() throws Exception {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+}
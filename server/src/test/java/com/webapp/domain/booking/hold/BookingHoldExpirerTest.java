@@ -0,0 +1,54 @@
+package com.webapp.domain.booking.hold;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import com.webapp.domain.booking.repository.BookingRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookingHoldExpirer Tests")
+class BookingHoldExpirerTest {
+
+    @Mock
+    private BookingHolds holds;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Test
+    @DisplayName("Should expire holds that no instance expired within the grace period")
+    void shouldSweepOverdueHolds() throws Exception {
+        BookingHoldExpirer expirer = new BookingHoldExpirer(holds, bookingRepository, 1, 64, 100, 30000, 120000);
+        when(bookingRepository.findHoldsExpiredBefore(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(4L, 9L));
+        when(holds.expire(List.of(4L, 9L))).thenReturn(Map.of());
+
+        LocalDateTime sweptAt = LocalDateTime.now();
+        expirer.sweep();
+        assertEquals(2, expirer.pending());
+        Thread.sleep(5);
+        expirer.tick();
+
+        verify(holds).expire(List.of(4L, 9L));
+        assertEquals(0, expirer.pending());
+        ArgumentCaptor<LocalDateTime> before = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(bookingRepository).findHoldsExpiredBefore(before.capture(), any(Pageable.class));
+        // Holds inside the grace period are left to the instance that placed them
+        assertTrue(before.getValue().isBefore(sweptAt.minusSeconds(119)));
+    }
+}
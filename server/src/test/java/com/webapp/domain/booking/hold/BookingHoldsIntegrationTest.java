@@ -0,0 +1,165 @@
+package com.webapp.domain.booking.hold;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.webapp.domain.booking.dto.BookingRequest;
+import com.webapp.domain.booking.dto.BookingResponse;
+import com.webapp.domain.booking.enums.BookingStatus;
+import com.webapp.domain.booking.repository.BookingRepository;
+import com.webapp.domain.booking.service.BookingService;
+import com.webapp.domain.property.entity.Property;
+import com.webapp.domain.property.enums.PropertyType;
+import com.webapp.domain.property.repository.PropertyRepository;
+import com.webapp.domain.property.service.SeatService;
+import com.webapp.domain.user.entity.User;
+import com.webapp.domain.user.enums.AuthProvider;
+import com.webapp.domain.user.repository.UserRepository;
+import com.webapp.domain.verification.service.VerificationService;
+
+/**
+ * createBooking against a property with several seats, with holds enabled
+ * as they are by default.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@MockBean(software.amazon.awssdk.services.s3.S3Client.class)
+@TestPropertySource(properties = {
+        "minio.bucket-name=test-bucket",
+        "minio.url=http://localhost:9005",
+        "minio.access-key=minioadmin",
+        "minio.secret-key=minioadmin",
+        "minio.public-url=http://localhost:9005",
+        "app.file.upload-dir=uploads"
+})
+@DisplayName("Booking holds integration test")
+class BookingHoldsIntegrationTest {
+
+    @MockBean
+    private VerificationService verificationService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private SeatService seatService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should hold one seat per pending booking and free it on cancellation")
+    void shouldHoldSeatPerBooking() {
+        User landlord = createUser("landlord");
+        Property property = createProperty(landlord, 2);
+        new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> seatService.provisionSeats(List.of(property.getId())));
+        LocalDate startDate = LocalDate.now().plusDays(10);
+
+        BookingResponse first = book(createUser("tenant"), property, startDate);
+        BookingResponse second = book(createUser("tenant"), property, startDate);
+
+        assertEquals(BookingStatus.PENDING, first.getStatus());
+        assertNotNull(first.getHoldExpiresAt());
+        assertNotNull(second.getHoldExpiresAt());
+        assertNotEquals(seatOf(first), seatOf(second));
+        assertEquals(2, seatsIn(property, "HELD"));
+
+        User third = createUser("tenant");
+        IllegalStateException full = assertThrows(IllegalStateException.class,
+                () -> book(third, property, startDate));
+        assertEquals("No seats available for this property", full.getMessage());
+
+        bookingService.updateBookingStatus(landlord.getId(), first.getId(), BookingStatus.CONFIRMED);
+        bookingService.updateBookingStatus(second.getTenantId(), second.getId(), BookingStatus.CANCELLED);
+
+        assertEquals(1, seatsIn(property, "OCCUPIED"));
+        assertEquals(1, seatsIn(property, "AVAILABLE"));
+        assertEquals(0, seatsIn(property, "HELD"));
+    }
+
+    @Test
+    @DisplayName("Should free held and occupied seats when the platform cancels bookings")
+    void shouldReleaseSeatsOnPlatformCancellation() {
+        User landlord = createUser("landlord");
+        Property property = createProperty(landlord, 2);
+        new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> seatService.provisionSeats(List.of(property.getId())));
+        LocalDate startDate = LocalDate.now().plusDays(10);
+
+        BookingResponse held = book(createUser("tenant"), property, startDate);
+        BookingResponse confirmed = book(createUser("tenant"), property, startDate);
+        bookingService.updateBookingStatus(landlord.getId(), confirmed.getId(), BookingStatus.CONFIRMED);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> bookingService
+                .cancelBookings(null, bookingRepository.findFutureBookingsByLandlordId(landlord.getId())));
+
+        assertEquals(2, seatsIn(property, "AVAILABLE"));
+        assertEquals(BookingStatus.CANCELLED, bookingService.getBookingById(held.getId()).getStatus());
+        assertEquals(BookingStatus.CANCELLED, bookingService.getBookingById(confirmed.getId()).getStatus());
+    }
+
+    private BookingResponse book(User tenant, Property property, LocalDate startDate) {
+        return bookingService.createBooking(tenant.getId(), BookingRequest.builder()
+                .propertyId(property.getId())
+                .startDate(startDate)
+                .endDate(startDate.plusDays(3))
+                .build());
+    }
+
+    private Long seatOf(BookingResponse booking) {
+        return jdbcTemplate.queryForObject("SELECT seat_id FROM bookings WHERE id = ?", Long.class, booking.getId());
+    }
+
+    private int seatsIn(Property property, String status) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM seats WHERE property_id = ? AND status = ?",
+                Integer.class, property.getId(), status);
+    }
+
+    private User createUser(String role) {
+        return userRepository.save(User.builder()
+                .email(role + "-" + UUID.randomUUID() + "@example.com")
+                .authProvider(AuthProvider.LOCAL)
+                .build());
+    }
+
+    private Property createProperty(User owner, int beds) {
+        return propertyRepository.save(Property.builder()
+                .owner(owner)
+                .title("Hold Test Hostel")
+                .location("Dhanmondi, Dhaka")
+                .price("5000")
+                .propertyType(PropertyType.APARTMENT)
+                .beds(beds)
+                .build());
+    }
+}
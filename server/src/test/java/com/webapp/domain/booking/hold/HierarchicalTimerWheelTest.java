@@ -0,0 +1,85 @@
+package com.webapp.domain.booking.hold;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("HierarchicalTimerWheel Tests")
+class HierarchicalTimerWheelTest {
+
+    @Test
+    @DisplayName("Should fire at the deadline, never earlier")
+    void shouldFireAtDeadline() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(100, 4, 0);
+        wheel.schedule("a", 250);
+
+        assertTrue(wheel.advance(200).isEmpty());
+        assertEquals(List.of("a"), wheel.advance(300));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Should cascade deadlines beyond the first level")
+    void shouldCascadeFarDeadlines() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(1, 4, 0);
+        wheel.schedule("far", 1000);
+        wheel.schedule("near", 3);
+
+        assertEquals(List.of("near"), wheel.advance(999));
+        assertEquals(1, wheel.size());
+        assertEquals(List.of("far"), wheel.advance(1000));
+    }
+
+    @Test
+    @DisplayName("Should fire past deadlines on the next advance")
+    void shouldFireOverdue() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(10, 8, 1000);
+        wheel.schedule("late", 500);
+
+        assertEquals(List.of("late"), wheel.advance(1000));
+    }
+
+    @Test
+    @DisplayName("Should fire random deadlines within one tick of their time")
+    void shouldMatchDeadlinesWithinOneTick() {
+        long tick = 10;
+        HierarchicalTimerWheel<Integer> wheel = new HierarchicalTimerWheel<>(tick, 8, 0);
+        Random random = new Random(42);
+        Map<Integer, Long> deadlines = new HashMap<>();
+        for (int i = 0; i < 2000; i++) {
+            long deadline = random.nextInt(500_000);
+            deadlines.put(i, deadline);
+            wheel.schedule(i, deadline);
+        }
+
+        List<Integer> fired = new ArrayList<>();
+        for (long now = 0; now <= 500_000 + tick; now += 1 + random.nextInt(3 * (int) tick)) {
+            for (Integer item : wheel.advance(now)) {
+                long deadline = deadlines.get(item);
+                assertTrue(deadline <= now, "fired early: " + item);
+                assertTrue(now - deadline < 4 * tick, "fired late: " + item);
+                fired.add(item);
+            }
+        }
+        fired.addAll(wheel.advance(600_000));
+
+        assertEquals(deadlines.size(), fired.size());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Should refuse degenerate configurations")
+    void shouldRefuseBadConfig() {
+        assertThrows(IllegalArgumentException.class, () -> new HierarchicalTimerWheel<>(0, 8, 0));
+        assertThrows(IllegalArgumentException.class, () -> new HierarchicalTimerWheel<>(10, 1, 0));
+    }
+}
@@ -0,0 +1,179 @@
+package com.webapp.domain.booking.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.webapp.domain.booking.entity.BookingOutboxEvent;
+import com.webapp.domain.booking.enums.BookingEventType;
+import com.webapp.domain.booking.enums.BookingStatus;
+import com.webapp.domain.booking.repository.BookingOutboxRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookingOutboxDispatcher Tests")
+class BookingOutboxDispatcherTest {
+
+    @Mock
+    private BookingOutboxRepository outboxRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RecordingConsumer audit;
+    private RecordingConsumer finance;
+    private BookingOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        audit = new RecordingConsumer("audit", null);
+        finance = new RecordingConsumer("finance", 2L);
+        dispatcher = new BookingOutboxDispatcher(outboxRepository, List.of(audit, finance), transactionManager,
+                100, 3, 1000, 60000, 7);
+    }
+
+    @Test
+    @DisplayName("Should hand each consumer the whole batch and mark events processed")
+    void shouldDispatchBatch() {
+        List<BookingOutboxEvent> events = List.of(event(1L), event(3L));
+        leased(events);
+
+        assertEquals(2, dispatcher.dispatch());
+
+        assertEquals(List.of(List.of(1L, 3L)), audit.batches);
+        assertEquals(List.of(List.of(1L, 3L)), finance.batches);
+        events.forEach(event -> {
+            assertNotNull(event.getProcessedAt());
+            assertEquals("audit,finance", event.getCompletedConsumers());
+        });
+    }
+
+    @Test
+    @DisplayName("Should isolate a failing event and schedule it for retry")
+    void shouldRetryFailingEventAlone() {
+        BookingOutboxEvent good = event(1L);
+        BookingOutboxEvent bad = event(2L);
+        leased(List.of(good, bad));
+
+        assertEquals(1, dispatcher.dispatch());
+
+        // Batch attempt, then one event at a time
+        assertEquals(List.of(List.of(1L, 2L), List.of(1L), List.of(2L)), finance.batches);
+        assertNotNull(good.getProcessedAt());
+        assertNull(bad.getProcessedAt());
+        assertEquals(1, bad.getAttempts());
+        assertNotNull(bad.getNextAttemptAt());
+        assertTrue(bad.getLastError().startsWith("finance:"));
+        assertTrue(bad.isCompletedBy("audit"));
+    }
+
+    @Test
+    @DisplayName("Should skip consumers that already completed a redelivered event")
+    void shouldSkipCompletedConsumers() {
+        BookingOutboxEvent redelivered = event(2L);
+        redelivered.markCompletedBy("finance");
+        leased(List.of(redelivered));
+
+        assertEquals(1, dispatcher.dispatch());
+
+        assertEquals(List.of(List.of(2L)), audit.batches);
+        assertTrue(finance.batches.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should not dispatch events another instance leased first")
+    void shouldSkipEventsLeasedElsewhere() {
+        when(outboxRepository.findDueIds(anyInt(), any(), any())).thenReturn(List.of(10L, 30L));
+        when(outboxRepository.claim(anyCollection(), anyString(), any(), any())).thenReturn(0);
+
+        assertEquals(0, dispatcher.dispatch());
+
+        verify(outboxRepository, never()).findByClaimTokenOrderByIdAsc(anyString());
+        assertTrue(audit.batches.isEmpty());
+        assertTrue(finance.batches.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should release the lease once a batch is dispatched")
+    void shouldReleaseLease() {
+        BookingOutboxEvent good = event(1L);
+        BookingOutboxEvent bad = event(2L);
+        List.of(good, bad).forEach(event -> {
+            event.setClaimToken("token");
+            event.setClaimedUntil(LocalDateTime.now().plusMinutes(1));
+        });
+        leased(List.of(good, bad));
+
+        dispatcher.dispatch();
+
+        assertNull(good.getClaimToken());
+        assertNull(bad.getClaimToken());
+        assertNull(bad.getClaimedUntil());
+    }
+
+    private void leased(List<BookingOutboxEvent> events) {
+        List<Long> ids = events.stream().map(BookingOutboxEvent::getId).toList();
+        when(outboxRepository.findDueIds(anyInt(), any(), any())).thenReturn(ids);
+        when(outboxRepository.claim(eq(ids), anyString(), any(), any())).thenReturn(ids.size());
+        when(outboxRepository.findByClaimTokenOrderByIdAsc(anyString())).thenReturn(events);
+    }
+
+    private static BookingOutboxEvent event(Long bookingId) {
+        return BookingOutboxEvent.builder()
+                .id(bookingId * 10)
+                .bookingId(bookingId)
+                .type(BookingEventType.STATUS_CHANGED)
+                .bookingStatus(BookingStatus.CONFIRMED)
+                .build();
+    }
+
+    /**
+     * Records the booking ids of every batch it is given and fails any batch
+     * containing {@code failOn}.
+     */
+    private static class RecordingConsumer implements BookingOutboxConsumer {
+
+        private final String name;
+        private final Long failOn;
+        private final List<List<Long>> batches = new ArrayList<>();
+
+        RecordingConsumer(String name, Long failOn) {
+            this.name = name;
+            this.failOn = failOn;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public void consume(List<BookingOutboxEvent> events) {
+            List<Long> ids = events.stream().map(BookingOutboxEvent::getBookingId).toList();
+            batches.add(ids);
+            if (ids.contains(failOn)) {
+                throw new IllegalStateException("boom");
+            }
+        }
+    }
+}
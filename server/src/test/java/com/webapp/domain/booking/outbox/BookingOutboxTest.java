@@ -0,0 +1,67 @@
+package com.webapp.domain.booking.outbox;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.webapp.domain.booking.entity.Booking;
+import com.webapp.domain.booking.enums.BookingEventType;
+import com.webapp.domain.booking.enums.BookingStatus;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookingOutbox Tests")
+class BookingOutboxTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Should cut oversized client headers to the column lengths")
+    @SuppressWarnings("unchecked")
+    void shouldTruncateClientHeaders() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("User-Agent", "a".repeat(2000));
+        request.addHeader("X-Forwarded-For", "f".repeat(100) + ", 10.0.0.1");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        Booking booking = Booking.builder().id(1L).status(BookingStatus.PENDING).build();
+
+        new BookingOutbox(jdbcTemplate, eventPublisher, 50)
+                .recordAll(BookingEventType.CREATED, List.of(booking), 2L);
+
+        ArgumentCaptor<ParameterizedPreparedStatementSetter<Booking>> setter =
+                ArgumentCaptor.forClass(ParameterizedPreparedStatementSetter.class);
+        verify(jdbcTemplate).batchUpdate(eq(BookingOutbox.INSERT_EVENT_SQL), any(List.class), anyInt(),
+                setter.capture());
+        PreparedStatement ps = mock(PreparedStatement.class);
+        setter.getValue().setValues(ps, booking);
+        verify(ps).setString(6, "f".repeat(45));
+        verify(ps).setString(7, "a".repeat(500));
+    }
+}
@@ -0,0 +1,69 @@
+package com.webapp.domain.booking.outbox;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.webapp.domain.booking.entity.Booking;
+import com.webapp.domain.booking.entity.BookingOutboxEvent;
+import com.webapp.domain.booking.enums.BookingEventType;
+import com.webapp.domain.booking.enums.BookingStatus;
+import com.webapp.domain.booking.repository.BookingRepository;
+import com.webapp.domain.finance.repository.EarningRepository;
+import com.webapp.domain.finance.repository.PaymentRepository;
+import com.webapp.domain.finance.service.FinanceService;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FinanceOutboxConsumer Tests")
+class FinanceOutboxConsumerTest {
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private EarningRepository earningRepository;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private FinanceService financeService;
+
+    @Mock
+    private BookingBatchWriter batchWriter;
+
+    @InjectMocks
+    private FinanceOutboxConsumer consumer;
+
+    @Test
+    @DisplayName("Should record money only for bookings that are still confirmed")
+    void shouldSkipBookingsCancelledSinceConfirmation() {
+        Booking confirmed = Booking.builder().id(1L).status(BookingStatus.CONFIRMED).build();
+        Booking cancelled = Booking.builder().id(2L).status(BookingStatus.CANCELLED).build();
+        when(bookingRepository.findAllByIdIn(anyCollection())).thenReturn(List.of(confirmed, cancelled));
+        when(earningRepository.findBookingIdsIn(anyCollection())).thenReturn(List.of());
+        when(paymentRepository.findBookingIdsIn(anyCollection())).thenReturn(List.of());
+
+        consumer.consume(List.of(confirmation(1L), confirmation(2L)));
+
+        verify(batchWriter).insertEarnings(List.of(confirmed));
+        verify(batchWriter).insertPayments(List.of(confirmed));
+    }
+
+    private static BookingOutboxEvent confirmation(Long bookingId) {
+        return BookingOutboxEvent.builder()
+                .bookingId(bookingId)
+                .type(BookingEventType.STATUS_CHANGED)
+                .bookingStatus(BookingStatus.CONFIRMED)
+                .build();
+    }
+}
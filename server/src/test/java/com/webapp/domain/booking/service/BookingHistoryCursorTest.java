@@ -0,0 +1,42 @@
+package com.webapp.domain.booking.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.webapp.auth.exception.BadRequestException;
+import com.webapp.domain.booking.entity.Booking;
+
+@DisplayName("BookingHistoryCursor Tests")
+class BookingHistoryCursorTest {
+
+    @Test
+    @DisplayName("Should round-trip the start date and id of the last booking")
+    void shouldRoundTrip() {
+        Booking last = Booking.builder().id(314L).startDate(LocalDate.of(2025, 1, 31)).build();
+
+        BookingHistoryCursor decoded = BookingHistoryCursor.decode(BookingHistoryCursor.after(last).encode());
+
+        assertEquals(LocalDate.of(2025, 1, 31), decoded.getStartDate());
+        assertEquals(314L, decoded.getId());
+    }
+
+    @Test
+    @DisplayName("Should treat blank cursor as first page")
+    void shouldTreatBlankAsFirstPage() {
+        assertNull(BookingHistoryCursor.decode(null));
+        assertNull(BookingHistoryCursor.decode(" "));
+    }
+
+    @Test
+    @DisplayName("Should reject tampered cursors")
+    void shouldRejectInvalidCursor() {
+        assertThrows(BadRequestException.class, () -> BookingHistoryCursor.decode("not-a-cursor"));
+        assertThrows(BadRequestException.class, () -> BookingHistoryCursor.decode("MjAyNS0wMS0zMQ"));
+    }
+}
@@ -0,0 +1,349 @@
+package com.webapp.domain.booking.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.webapp.domain.booking.dto.BookingRequest;
+import com.webapp.domain.booking.dto.BookingResponse;
+import com.webapp.domain.booking.enums.BookingStatus;
+import com.webapp.domain.booking.repository.BookingRepository;
+import com.webapp.domain.property.entity.Property;
+import com.webapp.domain.property.enums.PropertyType;
+import com.webapp.domain.property.repository.PropertyRepository;
+import com.webapp.domain.property.repository.PropertySeatCounterRepository;
+import com.webapp.domain.property.repository.SeatRepository;
+import com.webapp.domain.property.service.SeatService;
+import com.webapp.domain.user.entity.User;
+import com.webapp.domain.user.enums.AuthProvider;
+import com.webapp.domain.user.repository.UserRepository;
+import com.webapp.domain.verification.service.VerificationService;
+
+/**
+ * Throughput benchmark for the booking pipeline on the embedded H2 database
+ * (MySQL mode).
+ *
+ * Worker threads create bookings through {@link BookingService#createBooking}
+ * and have the landlord confirm them; every confirmed booking then frees its
+ * seat again, a share by tenant cancellation and the rest by checking in and
+ * out, so the hot property stays contended instead of filling up. A
+ * configurable share of requests goes to one hot property with few seats,
+ * the rest spread over the others. The run reports completed-operation
+ * throughput and rejections separately, p50/p99 latency per step, time spent
+ * in locking reads and counter updates, and
+ * fails on any overbooking: a seat given to two live bookings, more live
+ * bookings on a property than it has beds, or counters that disagree with
+ * the seats table.
+ *
+ * Tagged {@code benchmark}, so it only runs with {@code mvn -Pbenchmark test}.
+ * Tune it with system properties, e.g.
+ * {@code -Dbenchmark.threads=16 -Dbenchmark.operations=4000 -Dbenchmark.hot-share=0.9}.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@MockBean(software.amazon.awssdk.services.s3.S3Client.class)
+@TestPropertySource(properties = {
+        "minio.bucket-name=test-bucket",
+        "minio.url=http://localhost:9005",
+        "minio.access-key=minioadmin",
+        "minio.secret-key=minioadmin",
+        "minio.public-url=http://localhost:9005",
+        "app.file.upload-dir=uploads",
+        "spring.jpa.show-sql=false",
+        "logging.level.com.webapp=WARN"
+})
+@DisplayName("Booking pipeline benchmark")
+class BookingPipelineBenchmarkTest {
+
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 8);
+    private static final int OPERATIONS = Integer.getInteger("benchmark.operations", 1000);
+    private static final int PROPERTIES = Math.max(2, Integer.getInteger("benchmark.properties", 20));
+    private static final int SEATS = Integer.getInteger("benchmark.seats", 4);
+    private static final double HOT_SHARE = Double.parseDouble(System.getProperty("benchmark.hot-share", "0.8"));
+    private static final double CANCEL_SHARE = Double.parseDouble(System.getProperty("benchmark.cancel-share", "0.5"));
+    private static final long SEED = Long.getLong("benchmark.seed", 42L);
+
+    // Prefix of both the booking pre-check and the seat allocation errors
+    private static final String NO_SEAT_MESSAGE = "No seats available for this property";
+
+    // H2 2.2 occasionally hands one identity value to two concurrent inserts when other
+    // transactions roll back; MySQL's AUTO_INCREMENT does not, so these are counted apart
+    private static final String H2_IDENTITY_COLLISION = "PRIMARY KEY ON PUBLIC.BOOKING_OUTBOX(ID)";
+
+    private static final AtomicLong LOCK_NANOS = new AtomicLong();
+    private static final AtomicLong LOCK_CALLS = new AtomicLong();
+
+    @MockBean
+    private VerificationService verificationService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private SeatService seatService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Times every {@code @Lock} or {@code @Modifying} call on the seat,
+     * counter and booking repositories: row lock waits plus the statements
+     * themselves.
+     */
+    @TestConfiguration
+    static class LockTimingConfig {
+
+        @Bean
+        static BeanPostProcessor lockTimingPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof SeatRepository || bean instanceof PropertySeatCounterRepository
+                            || bean instanceof BookingRepository) {
+                        return Proxy.newProxyInstance(bean.getClass().getClassLoader(),
+                                bean.getClass().getInterfaces(), timing(bean));
+                    }
+                    return bean;
+                }
+            };
+        }
+
+        private static InvocationHandler timing(Object target) {
+            return (proxy, method, args) -> {
+                boolean locking = method.isAnnotationPresent(Lock.class) || method.isAnnotationPresent(Modifying.class);
+                long startedAt = System.nanoTime();
+                try {
+                    return method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                } finally {
+                    if (locking) {
+                        LOCK_NANOS.addAndGet(System.nanoTime() - startedAt);
+                        LOCK_CALLS.incrementAndGet();
+                    }
+                }
+            };
+        }
+    }
+
+    @Test
+    @DisplayName("Should sustain concurrent booking traffic without overbooking")
+    void shouldNotOverbookUnderLoad() throws Exception {
+        User landlord = createUser("landlord");
+        List<User> tenants = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            tenants.add(createUser("tenant"));
+        }
+        List<Long> propertyIds = new ArrayList<>();
+        for (int i = 0; i < PROPERTIES; i++) {
+            propertyIds.add(createProperty(landlord, i == 0 ? SEATS : SEATS * 4).getId());
+        }
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> seatService.provisionSeats(propertyIds));
+
+        Queue<Long> createNanos = new ConcurrentLinkedQueue<>();
+        Queue<Long> confirmNanos = new ConcurrentLinkedQueue<>();
+        Queue<Long> cancelNanos = new ConcurrentLinkedQueue<>();
+        Queue<Long> checkOutNanos = new ConcurrentLinkedQueue<>();
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger turnedAway = new AtomicInteger();
+        AtomicInteger identityCollisions = new AtomicInteger();
+        Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+        AtomicInteger nextOperation = new AtomicInteger();
+        LocalDate firstNight = LocalDate.now().plusDays(30);
+
+        LOCK_NANOS.set(0);
+        LOCK_CALLS.set(0);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            Long tenantId = tenants.get(t).getId();
+            Random random = new Random(SEED + t);
+            workers.add(pool.submit(() -> {
+                start.await();
+                int operation;
+                while ((operation = nextOperation.getAndIncrement()) < OPERATIONS) {
+                    Long propertyId = random.nextDouble() < HOT_SHARE ? propertyIds.get(0)
+                            : propertyIds.get(1 + random.nextInt(PROPERTIES - 1));
+                    // Distinct nights per operation, so the calendar never refuses a request
+                    LocalDate startDate = firstNight.plusDays(2L * operation);
+                    try {
+                        long startedAt = System.nanoTime();
+                        BookingResponse booking = bookingService.createBooking(tenantId, BookingRequest.builder()
+                                .propertyId(propertyId)
+                                .startDate(startDate)
+                                .endDate(startDate.plusDays(1))
+                                .build());
+                        createNanos.add(System.nanoTime() - startedAt);
+
+                        startedAt = System.nanoTime();
+                        bookingService.updateBookingStatus(landlord.getId(), booking.getId(), BookingStatus.CONFIRMED);
+                        confirmNanos.add(System.nanoTime() - startedAt);
+
+                        // Free the seat again either way, so the hot property keeps being contended
+                        startedAt = System.nanoTime();
+                        if (random.nextDouble() < CANCEL_SHARE) {
+                            bookingService.updateBookingStatus(tenantId, booking.getId(), BookingStatus.CANCELLED);
+                            cancelNanos.add(System.nanoTime() - startedAt);
+                        } else {
+                            bookingService.checkIn(tenantId, booking.getId());
+                            bookingService.checkOut(tenantId, booking.getId());
+                            checkOutNanos.add(System.nanoTime() - startedAt);
+                        }
+                        completed.incrementAndGet();
+                    } catch (IllegalStateException e) {
+                        if (e.getMessage() == null || !e.getMessage().startsWith(NO_SEAT_MESSAGE)) {
+                            errors.add(e);
+                            continue;
+                        }
+                        // Every seat taken at this instant: expected on the hot property
+                        turnedAway.incrementAndGet();
+                    } catch (DuplicateKeyException e) {
+                        if (e.getMessage() == null || !e.getMessage().contains(H2_IDENTITY_COLLISION)) {
+                            errors.add(e);
+                            continue;
+                        }
+                        identityCollisions.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        errors.add(e);
+                    }
+                }
+                return null;
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get(10, TimeUnit.MINUTES);
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        pool.shutdown();
+
+        double seconds = elapsedNanos / 1e9;
+        System.out.printf("Booking pipeline: %d threads, %d operations, %d properties, hot share %.2f%n",
+                THREADS, OPERATIONS, PROPERTIES, HOT_SHARE);
+        System.out.printf("  completed %d in %.2f s (%.0f completed operations/s)%n",
+                completed.get(), seconds, completed.get() / seconds);
+        System.out.printf("  turned away %d (%.0f/s), H2 identity collisions %d, errors %d%n", turnedAway.get(),
+                turnedAway.get() / seconds, identityCollisions.get(), errors.size());
+        System.out.printf("  create  %s%n  confirm %s%n  cancel  %s%n  check in and out %s%n", latency(createNanos),
+                latency(confirmNanos), latency(cancelNanos), latency(checkOutNanos));
+        System.out.printf("  locking reads and counter updates: %d calls, %.1f ms total, %.3f ms mean%n",
+                LOCK_CALLS.get(), LOCK_NANOS.get() / 1e6,
+                LOCK_CALLS.get() == 0 ? 0 : LOCK_NANOS.get() / 1e6 / LOCK_CALLS.get());
+
+        int violations = countOverbookingViolations();
+        System.out.printf("  overbooking violations: %d%n", violations);
+
+        errors.forEach(Throwable::printStackTrace);
+        assertEquals(0, errors.size(), "Unexpected errors");
+        assertEquals(OPERATIONS, completed.get() + turnedAway.get() + identityCollisions.get());
+        // A run that only turns requests away measures nothing
+        assertTrue(completed.get() > 0, "No operation completed");
+        assertEquals(0, violations);
+    }
+
+    /**
+     * Seats held by more than one live booking, properties with more live
+     * seated bookings than beds, and counter rows that disagree with the
+     * seats table.
+     */
+    private int countOverbookingViolations() {
+        String live = "('PENDING', 'CONFIRMED', 'CHECKED_IN')";
+        int sharedSeats = jdbcTemplate.queryForList("SELECT seat_id FROM bookings WHERE seat_id IS NOT NULL "
+                + "AND status IN " + live + " GROUP BY seat_id HAVING COUNT(*) > 1").size();
+        int overfull = jdbcTemplate.queryForList("SELECT p.id FROM properties p JOIN bookings b ON b.property_id = p.id "
+                + "WHERE b.seat_id IS NOT NULL AND b.status IN " + live + " GROUP BY p.id, p.beds "
+                + "HAVING COUNT(*) > p.beds").size();
+        int seatMismatches = jdbcTemplate.queryForList("SELECT s.id FROM seats s WHERE s.status IN ('OCCUPIED', 'HELD') "
+                + "AND NOT EXISTS (SELECT 1 FROM bookings b WHERE b.seat_id = s.id AND b.status IN " + live + ")")
+                .size();
+        int counterMismatches = jdbcTemplate.queryForList("SELECT c.property_id FROM property_seat_counters c "
+                + "GROUP BY c.property_id "
+                + "HAVING SUM(c.occupied) <> (SELECT COUNT(*) FROM seats s WHERE s.property_id = c.property_id "
+                + "AND s.status = 'OCCUPIED') "
+                + "OR SUM(c.available) <> (SELECT COUNT(*) FROM seats s WHERE s.property_id = c.property_id "
+                + "AND s.status = 'AVAILABLE')").size();
+        return sharedSeats + overfull + seatMismatches + counterMismatches;
+    }
+
+    private static String latency(Queue<Long> samples) {
+        if (samples.isEmpty()) {
+            return "no samples";
+        }
+        long[] sorted = samples.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(sorted);
+        return String.format("n=%d p50=%.2f ms p99=%.2f ms max=%.2f ms", sorted.length,
+                percentile(sorted, 0.50) / 1e6, percentile(sorted, 0.99) / 1e6, sorted[sorted.length - 1] / 1e6);
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private User createUser(String role) {
+        return userRepository.save(User.builder()
+                .email(role + "-" + UUID.randomUUID() + "@example.com")
+                .authProvider(AuthProvider.LOCAL)
+                .build());
+    }
+
+    private Property createProperty(User owner, int beds) {
+        return propertyRepository.save(Property.builder()
+                .owner(owner)
+                .title("Benchmark Hostel")
+                .location("Mirpur, Dhaka")
+                .price("5000")
+                .propertyType(PropertyType.APARTMENT)
+                .beds(beds)
+                .build());
+    }
+}
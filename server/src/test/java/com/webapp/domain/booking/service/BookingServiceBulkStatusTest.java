@@ -0,0 +1,159 @@
+package com.webapp.domain.booking.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.webapp.domain.booking.dto.BulkBookingStatusRequest;
+import com.webapp.domain.booking.dto.BulkBookingStatusResponse;
+import com.webapp.domain.booking.entity.Booking;
+import com.webapp.domain.booking.enums.BookingEventType;
+import com.webapp.domain.booking.enums.BookingStatus;
+import com.webapp.domain.booking.hold.BookingHolds;
+import com.webapp.domain.booking.mapper.BookingMapper;
+import com.webapp.domain.booking.outbox.BookingOutbox;
+import com.webapp.domain.booking.repository.BookingRepository;
+import com.webapp.domain.booking.service.impl.BookingServiceImpl;
+import com.webapp.domain.property.availability.PropertyCalendarIndex;
+import com.webapp.domain.property.entity.Property;
+import com.webapp.domain.property.entity.Seat;
+import com.webapp.domain.property.enums.PropertyStatus;
+import com.webapp.domain.property.repository.PropertyRepository;
+import com.webapp.domain.property.service.SeatService;
+import com.webapp.domain.user.entity.User;
+import com.webapp.domain.user.service.UserService;
+import com.webapp.domain.verification.service.VerificationService;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookingService bulk status Tests")
+class BookingServiceBulkStatusTest {
+
+    private static final Long LANDLORD_ID = 10L;
+
+    @Mock
+    private BookingRepository bookingRepository;
+    @Mock
+    private UserService userService;
+    @Mock
+    private PropertyRepository propertyRepository;
+    @Mock
+    private BookingMapper bookingMapper;
+    @Mock
+    private VerificationService verificationService;
+    @Mock
+    private SeatService seatService;
+    @Mock
+    private PropertyCalendarIndex calendarIndex;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private BookingOutbox outbox;
+    @Mock
+    private BookingHolds holds;
+
+    @InjectMocks
+    private BookingServiceImpl bookingService;
+
+    private Property property;
+    private Booking first;
+    private Booking second;
+    private Booking foreign;
+
+    @BeforeEach
+    void setUp() {
+        User landlord = User.builder().id(LANDLORD_ID).build();
+        User tenant = User.builder().id(20L).build();
+        property = Property.builder().id(5L).title("Dhanmondi Hostel").status(PropertyStatus.APPROVED).build();
+
+        first = pending(1L, landlord, tenant);
+        second = pending(2L, landlord, tenant);
+        foreign = pending(3L, User.builder().id(99L).build(), tenant);
+    }
+
+    @Test
+    @DisplayName("Should confirm bookings that get a seat and report the rest per booking")
+    void shouldConfirmInOnePass() {
+        Seat seat = Seat.builder().id(50L).property(property).build();
+        when(bookingRepository.findAllByIdIn(List.of(1L, 2L, 3L, 4L))).thenReturn(List.of(first, second, foreign));
+        when(seatService.blockSeatsForBookings(List.of(first, second))).thenReturn(Map.of(1L, seat));
+
+        BulkBookingStatusResponse response = bookingService.bulkUpdateBookingStatus(LANDLORD_ID,
+                request(BookingStatus.CONFIRMED, 1L, 2L, 3L, 4L, 1L));
+
+        assertEquals(1, response.getUpdated());
+        assertEquals(3, response.getFailed());
+        List<BulkBookingStatusResponse.Result> results = response.getResults();
+        assertEquals(List.of(1L, 2L, 3L, 4L), results.stream().map(BulkBookingStatusResponse.Result::getBookingId)
+                .toList());
+        assertTrue(results.get(0).isSuccess());
+        assertEquals(BookingStatus.CONFIRMED, results.get(0).getStatus());
+        assertEquals(50L, results.get(0).getSeatId());
+        assertFalse(results.get(1).isSuccess());
+        assertEquals(BookingStatus.PENDING, results.get(1).getStatus());
+        assertNull(results.get(1).getSeatId());
+        assertFalse(results.get(2).isSuccess());
+        assertEquals("Booking not found", results.get(3).getError());
+
+        assertEquals(PropertyStatus.RENTED, property.getStatus());
+        verify(outbox).recordAll(BookingEventType.STATUS_CHANGED, List.of(first), LANDLORD_ID);
+    }
+
+    @Test
+    @DisplayName("Should reject without allocating seats, releasing holds")
+    void shouldRejectWithoutSeats() {
+        when(bookingRepository.findAllByIdIn(List.of(1L, 2L))).thenReturn(List.of(first, second));
+
+        BulkBookingStatusResponse response = bookingService.bulkUpdateBookingStatus(LANDLORD_ID,
+                request(BookingStatus.REJECTED, 1L, 2L));
+
+        assertEquals(2, response.getUpdated());
+        assertEquals(BookingStatus.REJECTED, first.getStatus());
+        assertEquals(BookingStatus.REJECTED, second.getStatus());
+        verify(seatService, never()).blockSeatsForBookings(anyList());
+        verify(holds).release(List.of(first, second));
+        verify(outbox).recordAll(BookingEventType.STATUS_CHANGED, List.of(first, second), LANDLORD_ID);
+    }
+
+    @Test
+    @DisplayName("Should refuse statuses other than CONFIRMED and REJECTED")
+    void shouldRefuseOtherStatuses() {
+        assertThrows(IllegalArgumentException.class,
+                () -> bookingService.bulkUpdateBookingStatus(LANDLORD_ID, request(BookingStatus.CANCELLED, 1L)));
+    }
+
+    private Booking pending(Long id, User landlord, User tenant) {
+        return Booking.builder()
+                .id(id)
+                .landlord(landlord)
+                .tenant(tenant)
+                .property(property)
+                .status(BookingStatus.PENDING)
+                .totalPrice(new BigDecimal("1000"))
+                .commission(new BigDecimal("50"))
+                .netAmount(new BigDecimal("950"))
+                .build();
+    }
+
+    private static BulkBookingStatusRequest request(BookingStatus status, Long... ids) {
+        return BulkBookingStatusRequest.builder().status(status).bookingIds(List.of(ids)).build();
+    }
+}
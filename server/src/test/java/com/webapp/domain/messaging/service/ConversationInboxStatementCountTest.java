@@ -0,0 +1,156 @@
+package com.webapp.domain.messaging.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import com.webapp.domain.messaging.dto.ConversationListResponse;
+import com.webapp.domain.messaging.dto.ConversationResponse;
+import com.webapp.domain.messaging.dto.UnreadCountResponse;
+import com.webapp.domain.messaging.entity.Conversation;
+import com.webapp.domain.messaging.repository.ConversationRepository;
+import com.webapp.domain.user.entity.User;
+import com.webapp.domain.user.enums.AuthProvider;
+import com.webapp.domain.user.repository.UserRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * The inbox must cost the same number of SQL statements however many
+ * conversations, and therefore participants, are on the page.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@MockBean(software.amazon.awssdk.services.s3.S3Client.class)
+@TestPropertySource(properties = {
+    "minio.bucket-name=test-bucket",
+    "minio.url=http://localhost:9005",
+    "minio.access-key=minioadmin",
+    "minio.secret-key=minioadmin",
+    "minio.public-url=http://localhost:9005",
+    "app.file.upload-dir=uploads"
+})
+@DisplayName("Conversation inbox statement count")
+class ConversationInboxStatementCountTest {
+
+  // Conversation page, participants with roles, total unread
+  private static final long INBOX_STATEMENTS = 3;
+
+  @Autowired
+  private MessageService messageService;
+
+  @Autowired
+  private PresenceService presenceService;
+
+  @Autowired
+  private ConversationRepository conversationRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.setStatisticsEnabled(true);
+  }
+
+  @AfterEach
+  void tearDown() {
+    statistics.setStatisticsEnabled(false);
+  }
+
+  @Test
+  @DisplayName("Should load an inbox page with a fixed number of statements")
+  void shouldLoadInboxWithFixedStatements() {
+    User small = inbox(2);
+    User large = inbox(12);
+
+    assertEquals(INBOX_STATEMENTS, statementsFor(() -> messageService.getConversations(small.getId(), 0, 20, null)));
+    assertEquals(INBOX_STATEMENTS, statementsFor(() -> messageService.getConversations(large.getId(), 0, 20, null)));
+  }
+
+  @Test
+  @DisplayName("Should fill participants, presence and unread counts from the batched lookups")
+  void shouldHydrateConversations() {
+    User owner = inbox(3);
+    List<Conversation> conversations = conversationRepository.findAllByUserId(owner.getId());
+    Long onlineId = conversations.get(0).getParticipantTwo().getId();
+    presenceService.sessionConnected("inbox-" + UUID.randomUUID(), onlineId, "online@example.com");
+
+    ConversationListResponse response = messageService.getConversations(owner.getId(), 0, 20, null);
+
+    assertEquals(3, response.getConversations().size());
+    assertEquals(3, response.getTotalUnreadCount());
+    for (ConversationResponse conversation : response.getConversations()) {
+      assertTrue(conversation.getOtherParticipantName().startsWith("Partner"));
+      assertEquals(1, conversation.getUnreadCount());
+      assertEquals(onlineId.equals(conversation.getOtherParticipantId()), conversation.isOtherParticipantOnline());
+    }
+  }
+
+  @Test
+  @DisplayName("Should count unread messages with one statement")
+  void shouldCountUnreadWithOneStatement() {
+    User owner = inbox(4);
+    UnreadCountResponse[] response = new UnreadCountResponse[1];
+
+    assertEquals(1, statementsFor(() -> response[0] = messageService.getUnreadCount(owner.getId())));
+    assertEquals(4, response[0].getTotalUnreadCount());
+    assertEquals(4, response[0].getUnreadByConversation().size());
+    assertFalse(response[0].getUnreadByConversation().containsValue(0));
+  }
+
+  private long statementsFor(Runnable action) {
+    statistics.clear();
+    action.run();
+    return statistics.getPrepareStatementCount();
+  }
+
+  /**
+   * A user with one conversation, and one unread message, per partner.
+   */
+  private User inbox(int partners) {
+    User owner = user("Owner");
+    List<Conversation> conversations = new ArrayList<>();
+    for (int i = 0; i < partners; i++) {
+      conversations.add(Conversation.builder()
+          .participantOne(owner)
+          .participantTwo(user("Partner"))
+          .subject("Room " + i)
+          .participantOneUnreadCount(1)
+          .build());
+    }
+    conversationRepository.saveAll(conversations);
+    return owner;
+  }
+
+  private User user(String firstName) {
+    return userRepository.save(User.builder()
+        .email("inbox-" + UUID.randomUUID() + "@example.com")
+        .firstName(firstName)
+        .lastName(UUID.randomUUID().toString().substring(0, 8))
+        .authProvider(AuthProvider.LOCAL)
+        .build());
+  }
+}
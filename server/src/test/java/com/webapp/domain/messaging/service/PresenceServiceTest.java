@@ -0,0 +1,226 @@
+package com.webapp.domain.messaging.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.web.socket.CloseStatus;
+
+import com.webapp.auth.config.WebSocketSessionRegistry;
+import com.webapp.domain.messaging.repository.ConversationRepository;
+import com.webapp.domain.user.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PresenceService Tests")
+class PresenceServiceTest {
+
+  @Mock
+  private SimpMessagingTemplate messagingTemplate;
+  @Mock
+  private ConversationRepository conversationRepository;
+  @Mock
+  private WebSocketSessionRegistry sessionRegistry;
+  @Mock
+  private SimpUserRegistry userRegistry;
+  @Mock
+  private UserRepository userRepository;
+
+  private PresenceService presenceService;
+
+  @BeforeEach
+  void setUp() {
+    presenceService = service(60_000);
+  }
+
+  private PresenceService service(long sessionTimeoutMs) {
+    return service("simple", sessionTimeoutMs);
+  }
+
+  private PresenceService service(String brokerMode, long sessionTimeoutMs) {
+    return new PresenceService(messagingTemplate, conversationRepository, sessionRegistry, userRegistry,
+        userRepository, brokerMode, 30_000, 16, 500, sessionTimeoutMs, 1000, 1440, 1_000_000);
+  }
+
+  @Test
+  @DisplayName("Should send changes only to online conversation partners, one message each")
+  @SuppressWarnings("unchecked")
+  void shouldSendToOnlinePartners() {
+    presenceService.sessionConnected("s2", 2L, "two@example.com");
+    presenceService.broadcastChanges();
+
+    // 1 talks to 2 (online, in two conversations) and 3 (offline)
+    when(conversationRepository.findParticipantPairs(anyCollection())).thenReturn(List.of(
+        new Object[] { 1L, 2L }, new Object[] { 2L, 1L }, new Object[] { 3L, 1L }));
+    presenceService.sessionConnected("s1", 1L, "one@example.com");
+    presenceService.broadcastChanges();
+
+    ArgumentCaptor<List<PresenceService.PresenceUpdate>> updates = ArgumentCaptor.forClass(List.class);
+    verify(messagingTemplate).convertAndSendToUser(eq("two@example.com"), eq("/queue/presence"),
+        updates.capture());
+    assertEquals(1, updates.getValue().size());
+    assertEquals(1L, updates.getValue().get(0).getUserId());
+    assertTrue(updates.getValue().get(0).isOnline());
+    verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+  }
+
+  @Test
+  @DisplayName("Should announce nothing for a reconnect within one window")
+  void shouldCoalesceReconnect() {
+    presenceService.sessionConnected("s1", 1L, "one@example.com");
+    presenceService.broadcastChanges();
+    clearInvocations(conversationRepository);
+
+    presenceService.sessionDisconnected("s1");
+    presenceService.sessionConnected("s1b", 1L, "one@example.com");
+    presenceService.broadcastChanges();
+
+    verifyNoInteractions(conversationRepository);
+    assertTrue(presenceService.isUserOnline(1L));
+  }
+
+  @Test
+  @DisplayName("Should return the current presence of every partner")
+  void shouldSnapshotPartners() {
+    when(conversationRepository.findParticipantPairs(List.of(1L))).thenReturn(List.of(
+        new Object[] { 1L, 2L }, new Object[] { 3L, 1L }));
+    presenceService.sessionConnected("s2", 2L, "two@example.com");
+
+    List<PresenceService.PresenceUpdate> snapshot = presenceService.getPartnerPresence(1L);
+
+    assertEquals(2, snapshot.size());
+    assertTrue(snapshot.stream().anyMatch(update -> update.getUserId() == 2L && update.isOnline()));
+    assertTrue(snapshot.stream().anyMatch(update -> update.getUserId() == 3L && !update.isOnline()
+        && update.getTimestamp() == null));
+  }
+
+  @Test
+  @DisplayName("Should keep a user online until their last session disconnects")
+  void shouldCountTabs() {
+    presenceService.sessionConnected("tab-1", 1L, "one@example.com");
+    presenceService.sessionConnected("tab-2", 1L, "one@example.com");
+
+    presenceService.sessionDisconnected("tab-1");
+    // The transport close after a DISCONNECT frame is counted once
+    presenceService.sessionDisconnected("tab-1");
+    assertTrue(presenceService.isUserOnline(1L));
+
+    presenceService.sessionDisconnected("tab-2");
+    assertFalse(presenceService.isUserOnline(1L));
+  }
+
+  @Test
+  @DisplayName("Should expire silent sessions and close their transport")
+  void shouldExpireSilentSessions() {
+    PresenceService expiring = service(-1_000);
+    expiring.sessionConnected("tab-1", 1L, "one@example.com");
+    expiring.sessionConnected("tab-2", 1L, "one@example.com");
+
+    expiring.sweepSessions();
+
+    assertFalse(expiring.isUserOnline(1L));
+    assertEquals(0, expiring.sessionCount());
+    verify(sessionRegistry).close("tab-1", CloseStatus.SESSION_NOT_RELIABLE);
+    verify(sessionRegistry).close("tab-2", CloseStatus.SESSION_NOT_RELIABLE);
+  }
+
+  @Test
+  @DisplayName("Should keep sessions that sent a frame within the timeout")
+  void shouldKeepLiveSessions() {
+    presenceService.sessionConnected("tab-1", 1L, "one@example.com");
+    presenceService.heartbeat("tab-1");
+
+    presenceService.sweepSessions();
+
+    assertTrue(presenceService.isUserOnline(1L));
+    assertEquals(1, presenceService.sessionCount());
+    verifyNoInteractions(sessionRegistry);
+  }
+
+  @Test
+  @DisplayName("Should see users connected to another instance in relay mode")
+  void shouldSeeUsersOnOtherInstances() {
+    PresenceService relay = service("relay", 60_000);
+    when(userRepository.findEmailsByIdIn(anyCollection())).thenReturn(List.<Object[]>of(
+        new Object[] { 2L, "two@example.com" }, new Object[] { 3L, "three@example.com" }));
+    when(userRegistry.getUser("two@example.com")).thenReturn(mock(SimpUser.class));
+
+    assertEquals(Set.of(2L), relay.onlineAmong(List.of(2L, 3L)));
+    assertTrue(relay.isUserOnline(2L));
+  }
+
+  @Test
+  @DisplayName("Should deliver changes to partners connected to another instance")
+  void shouldSendToPartnersOnOtherInstances() {
+    PresenceService relay = service("relay", 60_000);
+    when(conversationRepository.findParticipantPairs(anyCollection())).thenReturn(List.<Object[]>of(
+        new Object[] { 1L, 2L }));
+    when(userRepository.findEmailsByIdIn(anyCollection())).thenReturn(List.<Object[]>of(
+        new Object[] { 2L, "two@example.com" }));
+    when(userRegistry.getUser("two@example.com")).thenReturn(mock(SimpUser.class));
+
+    relay.sessionConnected("s1", 1L, "one@example.com");
+    relay.broadcastChanges();
+
+    verify(messagingTemplate).convertAndSendToUser(eq("two@example.com"), eq("/queue/presence"), anyList());
+  }
+
+  @Test
+  @DisplayName("Should announce a user offline only once no instance lists them")
+  @SuppressWarnings("unchecked")
+  void shouldSettleOfflineAcrossInstances() {
+    PresenceService relay = service("relay", 60_000);
+    when(conversationRepository.findParticipantPairs(anyCollection())).thenReturn(List.<Object[]>of(
+        new Object[] { 1L, 2L }));
+    relay.sessionConnected("s2", 2L, "two@example.com");
+    relay.sessionConnected("s1", 1L, "one@example.com");
+    relay.broadcastChanges();
+    clearInvocations(messagingTemplate);
+
+    // 1 leaves this instance while still listed on another
+    when(userRepository.findEmailsByIdIn(anyCollection())).thenReturn(List.<Object[]>of(
+        new Object[] { 1L, "one@example.com" }));
+    when(userRegistry.getUser("one@example.com")).thenReturn(mock(SimpUser.class));
+    relay.sessionDisconnected("s1");
+    relay.broadcastChanges();
+    relay.broadcastChanges();
+
+    ArgumentCaptor<List<PresenceService.PresenceUpdate>> updates = ArgumentCaptor.forClass(List.class);
+    verify(messagingTemplate).convertAndSendToUser(eq("two@example.com"), eq("/queue/presence"),
+        updates.capture());
+    assertTrue(updates.getValue().get(0).isOnline());
+
+    // The other instance drops them
+    when(userRegistry.getUser("one@example.com")).thenReturn(null);
+    relay.broadcastChanges();
+
+    verify(messagingTemplate, times(2)).convertAndSendToUser(eq("two@example.com"), eq("/queue/presence"),
+        updates.capture());
+    assertFalse(updates.getValue().get(0).isOnline());
+    assertFalse(relay.isUserOnline(1L));
+  }
+}
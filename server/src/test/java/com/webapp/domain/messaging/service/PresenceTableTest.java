@@ -0,0 +1,148 @@
+package com.webapp.domain.messaging.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PresenceTable Tests")
+class PresenceTableTest {
+
+  @Test
+  @DisplayName("Should stay online until the last session closes")
+  void shouldCountSessions() {
+    PresenceTable table = new PresenceTable(16);
+
+    assertTrue(table.connect(7, "a@example.com", 1000));
+    assertFalse(table.connect(7, "a@example.com", 2000));
+    assertEquals(2, table.sessionCount(7));
+    assertEquals("a@example.com", table.email(7));
+
+    assertFalse(table.disconnect(7, 3000));
+    assertTrue(table.isOnline(7));
+    assertTrue(table.disconnect(7, 4000));
+    assertFalse(table.disconnect(7, 5000));
+    assertFalse(table.isOnline(7));
+    assertEquals(4000, table.lastSeenMs(7));
+    assertNull(table.email(7));
+
+    assertFalse(table.isOnline(8));
+    assertEquals(0, table.lastSeenMs(8));
+    assertNull(table.email(8));
+  }
+
+  @Test
+  @DisplayName("Should announce only users whose state differs from the last announcement")
+  void shouldCoalesceFlips() {
+    PresenceTable table = new PresenceTable(16);
+    table.connect(1, "one@example.com", 1);
+    table.connect(2, "two@example.com", 1);
+    assertArrayEquals(new long[] { 1, 2 }, sorted(table.drainChanged()));
+
+    // 1 drops and reconnects within the window, 2 goes away
+    table.disconnect(1, 2);
+    table.connect(1, "one@example.com", 3);
+    table.disconnect(2, 3);
+
+    assertArrayEquals(new long[] { 2 }, table.drainChanged());
+    assertEquals(0, table.drainChanged().length);
+  }
+
+  @Test
+  @DisplayName("Should keep every user across growth")
+  void shouldGrow() {
+    PresenceTable table = new PresenceTable(16);
+    for (long userId = 1; userId <= 10_000; userId++) {
+      table.connect(userId, null, userId);
+    }
+    for (long userId = 1; userId <= 10_000; userId += 2) {
+      table.disconnect(userId, userId + 1);
+    }
+
+    assertEquals(10_000, table.size());
+    for (long userId = 1; userId <= 10_000; userId++) {
+      assertEquals(userId % 2 == 0, table.isOnline(userId));
+    }
+    assertEquals(5_000, table.drainChanged().length);
+  }
+
+  @Test
+  @DisplayName("Should refuse non-positive user ids")
+  void shouldRefuseZeroId() {
+    PresenceTable table = new PresenceTable(16);
+
+    assertThrows(IllegalArgumentException.class, () -> table.connect(0, null, 1));
+    assertFalse(table.isOnline(0));
+  }
+
+  @Test
+  @DisplayName("Should evict offline users past the retention and keep lookups intact")
+  void shouldEvictExpiredOffline() {
+    PresenceTable table = new PresenceTable(16);
+    for (long userId = 1; userId <= 1_000; userId++) {
+      table.connect(userId, null, userId);
+      if (userId % 3 != 0) {
+        table.disconnect(userId, userId);
+      }
+    }
+    table.drainChanged();
+
+    assertEquals(334, table.evictOffline(501, Integer.MAX_VALUE));
+
+    for (long userId = 1; userId <= 1_000; userId++) {
+      boolean kept = userId % 3 == 0 || userId >= 501;
+      assertEquals(kept ? userId : 0, table.lastSeenMs(userId));
+      assertEquals(userId % 3 == 0, table.isOnline(userId));
+    }
+  }
+
+  @Test
+  @DisplayName("Should evict the offline users seen longest ago beyond the size limit")
+  void shouldEvictOldestBeyondLimit() {
+    PresenceTable table = new PresenceTable(16);
+    for (long userId = 1; userId <= 10_000; userId++) {
+      table.connect(userId, null, userId);
+      if (userId > 10) {
+        table.disconnect(userId, userId);
+      }
+    }
+    table.drainChanged();
+
+    assertEquals(9_900, table.evictOffline(0, 100));
+
+    assertEquals(100, table.size());
+    assertTrue(table.capacity() < 1024);
+    for (long userId = 1; userId <= 10; userId++) {
+      assertTrue(table.isOnline(userId));
+    }
+    for (long userId = 9_911; userId <= 10_000; userId++) {
+      assertEquals(userId, table.lastSeenMs(userId));
+    }
+  }
+
+  @Test
+  @DisplayName("Should not evict users with an unannounced change")
+  void shouldKeepUnannounced() {
+    PresenceTable table = new PresenceTable(16);
+    table.connect(1, null, 1);
+    table.drainChanged();
+    table.disconnect(1, 2);
+
+    assertEquals(0, table.evictOffline(100, 0));
+    assertArrayEquals(new long[] { 1 }, table.drainChanged());
+    assertEquals(1, table.evictOffline(100, 0));
+  }
+
+  private static long[] sorted(long[] ids) {
+    long[] copy = ids.clone();
+    Arrays.sort(copy);
+    return copy;
+  }
+}
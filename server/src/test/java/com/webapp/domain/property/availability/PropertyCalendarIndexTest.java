@@ -0,0 +1,119 @@
+package com.webapp.domain.property.availability;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.webapp.domain.booking.enums.BookingStatus;
+import com.webapp.domain.booking.event.BookingChangedEvent;
+import com.webapp.domain.booking.repository.BookingRepository;
+import com.webapp.domain.property.entity.PropertyAvailability;
+import com.webapp.domain.property.entity.PropertyAvailability.AvailabilityStatus;
+import com.webapp.domain.property.event.AvailabilityChangedEvent;
+import com.webapp.domain.property.repository.PropertyAvailabilityRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PropertyCalendarIndex Tests")
+class PropertyCalendarIndexTest {
+
+  private static final Long PROPERTY_ID = 1L;
+
+  @Mock
+  private BookingRepository bookingRepository;
+
+  @Mock
+  private PropertyAvailabilityRepository availabilityRepository;
+
+  private PropertyCalendarIndex index;
+
+  @BeforeEach
+  void setUp() {
+    index = new PropertyCalendarIndex(bookingRepository, availabilityRepository);
+    // Booking for the nights of the 10th-14th, maintenance on the 15th-16th
+    when(bookingRepository.findCalendarRows(anyList(), any())).thenReturn(List.<Object[]>of(
+        new Object[] { PROPERTY_ID, 100L, day(10), day(15) }));
+    when(availabilityRepository.findCalendarRows()).thenReturn(List.<Object[]>of(
+        new Object[] { PROPERTY_ID, 7L, day(15), day(16), AvailabilityStatus.MAINTENANCE, "Painting" },
+        new Object[] { PROPERTY_ID, 8L, day(20), day(25), AvailabilityStatus.AVAILABLE, null }));
+    index.rebuild();
+  }
+
+  @Test
+  @DisplayName("Should treat check-out day as free and inclusive block end as occupied")
+  void shouldRespectRangeBoundaries() {
+    assertTrue(index.isFree(PROPERTY_ID, day(5), day(10)));
+    assertFalse(index.isFree(PROPERTY_ID, day(9), day(11)));
+    assertFalse(index.isFree(PROPERTY_ID, day(16), day(18)));
+    assertTrue(index.isFree(PROPERTY_ID, day(17), day(19)));
+    assertTrue(index.isFree(PROPERTY_ID, day(20), day(25)));
+    assertTrue(index.isFree(2L, day(10), day(15)));
+  }
+
+  @Test
+  @DisplayName("Should find the first window past merged booking and block")
+  void shouldFindNextFreeWindow() {
+    assertEquals(day(1), index.nextFreeWindow(PROPERTY_ID, day(1), 3));
+    assertEquals(day(17), index.nextFreeWindow(PROPERTY_ID, day(8), 3));
+    assertEquals(day(17), index.nextFreeWindow(PROPERTY_ID, day(12), 1));
+  }
+
+  @Test
+  @DisplayName("Should report every property occupied during a stay in one pass")
+  void shouldFindOccupiedProperties() {
+    index.onBookingChanged(new BookingChangedEvent(200L, 2L, BookingStatus.CONFIRMED, day(3), day(6), false));
+
+    assertEquals(java.util.Set.of(1L, 2L), index.findOccupied(day(5), day(12)));
+    assertEquals(java.util.Set.of(2L), index.findOccupied(day(4), day(5)));
+    assertTrue(index.findOccupied(day(17), day(20)).isEmpty());
+  }
+
+  @Test
+  @DisplayName("Should follow booking cancellations and confirmations")
+  void shouldApplyBookingChanges() {
+    index.onBookingChanged(new BookingChangedEvent(100L, PROPERTY_ID, BookingStatus.CANCELLED, day(10), day(15),
+        false));
+    assertTrue(index.isFree(PROPERTY_ID, day(10), day(15)));
+
+    index.onBookingChanged(new BookingChangedEvent(101L, PROPERTY_ID, BookingStatus.PENDING, day(1), day(3),
+        false));
+    assertTrue(index.isFree(PROPERTY_ID, day(1), day(3)));
+
+    index.onBookingChanged(new BookingChangedEvent(101L, PROPERTY_ID, BookingStatus.CONFIRMED, day(1), day(3),
+        false));
+    assertFalse(index.isFree(PROPERTY_ID, day(2), day(4)));
+  }
+
+  @Test
+  @DisplayName("Should replace availability ranges and serve the calendar view")
+  void shouldApplyAvailabilityChanges() {
+    PropertyAvailability blocked = PropertyAvailability.builder()
+        .id(9L).startDate(day(18)).endDate(day(26)).status(AvailabilityStatus.BLOCKED).build();
+
+    index.onAvailabilityChanged(AvailabilityChangedEvent.saved(PROPERTY_ID, blocked, List.of(8L)));
+
+    assertFalse(index.isFree(PROPERTY_ID, day(26), day(27)));
+    assertEquals(List.of(7L, 9L), index.availability(PROPERTY_ID).stream()
+        .map(PropertyCalendarIndex.AvailabilityRange::id).toList());
+    assertEquals(day(26), index.availability(PROPERTY_ID).get(1).endDate());
+
+    index.onAvailabilityChanged(AvailabilityChangedEvent.removed(PROPERTY_ID, 7L));
+    assertEquals(day(15), index.nextFreeWindow(PROPERTY_ID, day(12), 2));
+  }
+
+  private static LocalDate day(int dayOfMonth) {
+    return LocalDate.of(2030, 1, dayOfMonth);
+  }
+}
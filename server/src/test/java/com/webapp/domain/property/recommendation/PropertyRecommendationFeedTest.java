@@ -0,0 +1,65 @@
+package com.webapp.domain.property.recommendation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.webapp.domain.property.entity.Property;
+import com.webapp.domain.property.enums.PropertyStatus;
+import com.webapp.domain.property.event.PropertyChangedEvent;
+import com.webapp.domain.property.recommendation.PropertyRecommendationFeed.Candidate;
+
+@DisplayName("PropertyRecommendationFeed Tests")
+class PropertyRecommendationFeedTest {
+
+  private PropertyRecommendationFeed feed;
+
+  @BeforeEach
+  void setUp() {
+    feed = new PropertyRecommendationFeed(null, new BigDecimal[] { new BigDecimal("10000") }, 50, 60000);
+    List<Candidate> ranked = new ArrayList<>(List.of(
+        candidate(1L, 100L, "dhaka", "8000", 4.8),
+        candidate(2L, 200L, "dhaka", "15000", 4.9),
+        candidate(3L, 100L, "chittagong", "6000", 4.5),
+        candidate(4L, 300L, "dhaka", "9000", 3.0),
+        candidate(5L, 300L, "sylhet", "7000", 2.0)));
+    ranked.sort(PropertyRecommendationFeed.RANKING);
+    feed.load(ranked);
+  }
+
+  @Test
+  @DisplayName("Should rank city and budget segment first, then backfill")
+  void shouldBackfillFromWiderSegments() {
+    List<Long> ids = feed.recommend(999L, "Dhaka", new BigDecimal("10000"), 5);
+
+    assertEquals(List.of(1L, 4L, 2L, 3L, 5L), ids);
+  }
+
+  @Test
+  @DisplayName("Should exclude the caller's own listings")
+  void shouldExcludeOwnListings() {
+    List<Long> ids = feed.recommend(100L, "dhaka", null, 3);
+
+    assertEquals(List.of(2L, 4L, 5L), ids);
+  }
+
+  @Test
+  @DisplayName("Should drop listings that leave searchable status")
+  void shouldRemoveOnStatusChange() {
+    Property rented = Property.builder().id(2L).status(PropertyStatus.RENTED).build();
+
+    feed.onPropertyChanged(PropertyChangedEvent.saved(rented));
+
+    assertEquals(List.of(1L, 4L, 3L), feed.recommend(999L, "dhaka", null, 3));
+  }
+
+  private static Candidate candidate(Long id, Long ownerId, String city, String price, double rating) {
+    return new Candidate(id, ownerId, city, new BigDecimal(price), rating, 0);
+  }
+}
@@ -0,0 +1,61 @@
+package com.webapp.domain.property.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.webapp.domain.property.dto.LocationSuggestion;
+
+@DisplayName("LocationSuggestIndex Tests")
+class LocationSuggestIndexTest {
+
+  private LocationSuggestIndex index;
+
+  @BeforeEach
+  void setUp() {
+    index = new LocationSuggestIndex(null);
+    index.index(1L, "House 4, Gulshan 2, Dhaka 1212");
+    index.index(2L, "Road 7, Gulshan 2, Dhaka 1212");
+    index.index(3L, "Block C, Banani, Dhaka 1213");
+    index.index(4L, "Zindabazar, Sylhet 3100");
+  }
+
+  @Test
+  @DisplayName("Should rank names by listing count")
+  void shouldRankByCount() {
+    List<LocationSuggestion> suggestions = index.suggest("d", 10);
+
+    assertEquals(List.of("Dhaka", "Gulshan 2, Dhaka", "Banani, Dhaka"), texts(suggestions));
+    assertEquals(3, suggestions.get(0).getCount());
+    assertEquals(List.of("Dhaka"), texts(index.suggest("d", 1)));
+  }
+
+  @Test
+  @DisplayName("Should match at any word start")
+  void shouldMatchWordStarts() {
+    assertEquals(List.of("Gulshan 2, Dhaka"), texts(index.suggest("GUL", 10)));
+    assertEquals(List.of("Sylhet", "Zindabazar, Sylhet"), texts(index.suggest("syl", 10)));
+    assertTrue(index.suggest("ulshan", 10).isEmpty());
+  }
+
+  @Test
+  @DisplayName("Should update counts incrementally as listings change")
+  void shouldUpdateIncrementally() {
+    index.index(2L, "Road 9, Banani, Dhaka 1213");
+    index.remove(4L);
+
+    assertEquals(1, index.suggest("gulshan", 10).get(0).getCount());
+    assertEquals(2, index.suggest("banani", 10).get(0).getCount());
+    assertTrue(index.suggest("sylhet", 10).isEmpty());
+    assertTrue(index.suggest("zind", 10).isEmpty());
+  }
+
+  private static List<String> texts(List<LocationSuggestion> suggestions) {
+    return suggestions.stream().map(LocationSuggestion::getText).toList();
+  }
+}
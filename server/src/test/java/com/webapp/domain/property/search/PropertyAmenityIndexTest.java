@@ -0,0 +1,62 @@
+package com.webapp.domain.property.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PropertyAmenityIndex Tests")
+class PropertyAmenityIndexTest {
+
+  private static final Long WIFI = 1L;
+  private static final Long KITCHEN = 2L;
+  private static final Long GYM = 3L;
+
+  private PropertyAmenityIndex index;
+
+  @BeforeEach
+  void setUp() {
+    index = new PropertyAmenityIndex(null);
+    index.index(10L, Set.of(WIFI, KITCHEN));
+    index.index(20L, Set.of(WIFI));
+    index.index(30L, Set.of(WIFI, KITCHEN, GYM));
+  }
+
+  @Test
+  @DisplayName("Should intersect amenity bitsets")
+  void shouldRequireAllAmenities() {
+    assertEquals(List.of(10L, 20L, 30L), index.findWithAll(List.of(WIFI)));
+    assertEquals(List.of(10L, 30L), index.findWithAll(List.of(WIFI, KITCHEN)));
+    assertEquals(List.of(30L), index.findWithAll(List.of(KITCHEN, GYM)));
+  }
+
+  @Test
+  @DisplayName("Should return nothing for an amenity no listing has")
+  void shouldReturnEmptyForUnknownAmenity() {
+    assertTrue(index.findWithAll(List.of(WIFI, 99L)).isEmpty());
+  }
+
+  @Test
+  @DisplayName("Should patch bits when amenities change")
+  void shouldPatchOnUpdate() {
+    index.index(10L, Set.of(GYM));
+
+    assertEquals(List.of(30L), index.findWithAll(List.of(WIFI, KITCHEN)));
+    assertEquals(List.of(10L, 30L), index.findWithAll(List.of(GYM)));
+  }
+
+  @Test
+  @DisplayName("Should reuse ordinals of removed listings")
+  void shouldReuseOrdinals() {
+    index.remove(20L);
+    index.index(40L, Set.of(WIFI));
+
+    assertEquals(List.of(10L, 30L, 40L), index.findWithAll(List.of(WIFI)));
+    assertEquals(3, index.size());
+  }
+}
@@ -0,0 +1,76 @@
+package com.webapp.domain.property.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.webapp.domain.property.dto.PropertyFacetsResponse;
+import com.webapp.domain.property.dto.PropertySearchCriteria;
+import com.webapp.domain.property.enums.PropertyType;
+
+@DisplayName("PropertyFacetIndex Tests")
+class PropertyFacetIndexTest {
+
+  private PropertyFacetIndex index;
+
+  @BeforeEach
+  void setUp() {
+    index = new PropertyFacetIndex(null, new BigDecimal[] { new BigDecimal("10000"), new BigDecimal("5000") });
+    index.put(1L, doc("4000", 1, 1, PropertyType.ROOM, 7L));
+    index.put(2L, doc("8000", 2, 1, PropertyType.APARTMENT, 7L, 8L));
+    index.put(3L, doc("15000", 3, 2, PropertyType.APARTMENT, 8L));
+    index.put(4L, doc("25000", 4, 3, PropertyType.HOUSE));
+  }
+
+  @Test
+  @DisplayName("Should count every facet in one pass")
+  void shouldAggregateAllFacets() {
+    PropertyFacetsResponse facets = index.aggregate(null, new PropertySearchCriteria());
+
+    assertEquals(4, facets.getTotal());
+    assertEquals(List.of(1L, 1L, 2L), facets.getPriceBuckets().stream()
+        .map(PropertyFacetsResponse.PriceBucket::getCount).toList());
+    assertEquals(Map.of("APARTMENT", 2L, "HOUSE", 1L, "ROOM", 1L), facets.getPropertyTypes());
+    assertEquals(Map.of(1, 2L, 2, 1L, 3, 1L), facets.getBaths());
+    assertEquals(List.of(2L, 2L), facets.getAmenities().stream()
+        .map(PropertyFacetsResponse.AmenityFacet::getCount).toList());
+  }
+
+  @Test
+  @DisplayName("Should apply filters and candidate ids before counting")
+  void shouldRespectFiltersAndCandidates() {
+    PropertySearchCriteria criteria = PropertySearchCriteria.builder()
+        .minBeds(2)
+        .propertyType("APARTMENT")
+        .build();
+
+    PropertyFacetsResponse facets = index.aggregate(List.of(1L, 3L, 4L), criteria);
+
+    assertEquals(1, facets.getTotal());
+    assertEquals(Map.of(3, 1L), facets.getBeds());
+    assertEquals(8L, facets.getAmenities().get(0).getId());
+  }
+
+  @Test
+  @DisplayName("Should match the property type regardless of case")
+  void shouldMatchPropertyTypeIgnoringCase() {
+    PropertySearchCriteria criteria = PropertySearchCriteria.builder()
+        .propertyType("apartment")
+        .build();
+
+    PropertyFacetsResponse facets = index.aggregate(null, criteria);
+
+    assertEquals(2, facets.getTotal());
+  }
+
+  private static PropertyFacetIndex.FacetDoc doc(String price, int beds, int baths, PropertyType type,
+      long... amenityIds) {
+    return new PropertyFacetIndex.FacetDoc(new BigDecimal(price), beds, baths, type, amenityIds);
+  }
+}
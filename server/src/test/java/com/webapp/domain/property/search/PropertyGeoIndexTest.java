@@ -0,0 +1,81 @@
+package com.webapp.domain.property.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.webapp.domain.property.entity.Property;
+import com.webapp.domain.property.enums.PropertyStatus;
+import com.webapp.domain.property.event.PropertyChangedEvent;
+
+@DisplayName("PropertyGeoIndex Tests")
+class PropertyGeoIndexTest {
+
+  private PropertyGeoIndex index;
+
+  @BeforeEach
+  void setUp() {
+    index = new PropertyGeoIndex(null, 0.05);
+    index.upsert(1L, 23.7806, 90.4070); // Gulshan
+    index.upsert(2L, 23.7461, 90.3742); // Dhanmondi
+    index.upsert(3L, 23.8103, 90.4125); // Banani
+    index.upsert(4L, 22.3569, 91.7832); // Chittagong
+  }
+
+  @Test
+  @DisplayName("Should return properties within radius ordered by distance")
+  void shouldFindWithinRadius() {
+    List<Long> ids = index.findWithinRadius(23.7810, 90.4075, 6, 10);
+
+    assertEquals(List.of(1L, 3L, 2L), ids);
+  }
+
+  @Test
+  @DisplayName("Should return properties inside viewport")
+  void shouldFindWithinBounds() {
+    List<Long> ids = index.findWithinBounds(23.70, 90.30, 23.79, 90.45, 10);
+
+    assertEquals(List.of(1L, 2L), ids);
+  }
+
+  @Test
+  @DisplayName("Should search both sides of the antimeridian")
+  void shouldFindAcrossAntimeridian() {
+    index.upsert(5L, -17.7134, 178.0650); // Suva
+    index.upsert(6L, -13.8333, -171.7500); // Apia
+
+    assertEquals(List.of(5L, 6L), index.findWithinBounds(-20, 175, -10, -170, 10));
+    assertEquals(List.of(5L, 6L), index.findWithinRadius(-16, 179.9, 1000, 10));
+  }
+
+  @Test
+  @DisplayName("Should drop property when it leaves searchable status")
+  void shouldRemoveOnStatusChange() {
+    Property property = Property.builder()
+        .id(1L)
+        .latitude(23.7806)
+        .longitude(90.4070)
+        .status(PropertyStatus.RENTED)
+        .build();
+
+    index.onPropertyChanged(PropertyChangedEvent.saved(property));
+
+    assertEquals(3, index.size());
+    assertFalse(index.findWithinBounds(23.70, 90.30, 23.79, 90.45, 10).contains(1L));
+  }
+
+  @Test
+  @DisplayName("Should move property to new cell when coordinates change")
+  void shouldMoveOnCoordinateChange() {
+    index.upsert(4L, 23.7500, 90.3800);
+
+    assertEquals(List.of(2L, 4L), index.findWithinBounds(23.74, 90.37, 23.76, 90.39, 10));
+    assertTrue(index.findWithinRadius(22.3569, 91.7832, 5, 10).isEmpty());
+  }
+}
@@ -0,0 +1,62 @@
+package com.webapp.domain.property.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.webapp.auth.exception.BadRequestException;
+import com.webapp.domain.property.entity.Property;
+
+@DisplayName("PropertySearchCursor Tests")
+class PropertySearchCursorTest {
+
+  @Test
+  @DisplayName("Should round-trip a price cursor")
+  void shouldRoundTripPriceCursor() {
+    Property last = Property.builder().id(42L).priceAmount(new BigDecimal("12500.50")).build();
+
+    String encoded = PropertySearchCursor.after(PropertySearchCursor.Sort.PRICE, last).encode();
+    PropertySearchCursor decoded = PropertySearchCursor.decode(encoded, PropertySearchCursor.Sort.PRICE);
+
+    assertEquals(new BigDecimal("12500.50"), decoded.getPriceAmount());
+    assertEquals(42L, decoded.getId());
+  }
+
+  @Test
+  @DisplayName("Should round-trip a newest-first cursor")
+  void shouldRoundTripNewestCursor() {
+    LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 10, 15, 30);
+    Property last = Property.builder().id(7L).createdAt(createdAt).build();
+
+    String encoded = PropertySearchCursor.after(PropertySearchCursor.Sort.NEWEST, last).encode();
+    PropertySearchCursor decoded = PropertySearchCursor.decode(encoded, PropertySearchCursor.Sort.NEWEST);
+
+    assertEquals(createdAt, decoded.getCreatedAt());
+    assertEquals(7L, decoded.getId());
+  }
+
+  @Test
+  @DisplayName("Should treat blank cursor as first page")
+  void shouldTreatBlankAsFirstPage() {
+    assertNull(PropertySearchCursor.decode(null, PropertySearchCursor.Sort.PRICE));
+    assertNull(PropertySearchCursor.decode("", PropertySearchCursor.Sort.PRICE));
+  }
+
+  @Test
+  @DisplayName("Should reject tampered or mismatched cursors")
+  void shouldRejectInvalidCursor() {
+    Property last = Property.builder().id(1L).priceAmount(BigDecimal.TEN).build();
+    String priceCursor = PropertySearchCursor.after(PropertySearchCursor.Sort.PRICE, last).encode();
+
+    assertThrows(BadRequestException.class,
+        () -> PropertySearchCursor.decode(priceCursor, PropertySearchCursor.Sort.NEWEST));
+    assertThrows(BadRequestException.class,
+        () -> PropertySearchCursor.decode("not-a-cursor", PropertySearchCursor.Sort.PRICE));
+  }
+}
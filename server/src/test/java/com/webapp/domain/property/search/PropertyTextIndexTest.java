@@ -0,0 +1,69 @@
+package com.webapp.domain.property.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PropertyTextIndex Tests")
+class PropertyTextIndexTest {
+
+  private PropertyTextIndex index;
+
+  @BeforeEach
+  void setUp() {
+    index = new PropertyTextIndex(null, 64);
+    index.index(1L, "Cozy studio in Dhanmondi", "Close to the lake", "Road 27, Dhanmondi 1209");
+    index.index(2L, "Family apartment", "Quiet street near Dhanmondi lake", "House 5, Mohammadpur 1207");
+    index.index(3L, "Shared room", "Bachelor friendly", "Gulshan 2, Dhaka 1212");
+  }
+
+  @Test
+  @DisplayName("Should rank title and location matches above description matches")
+  void shouldRankByFieldWeight() {
+    assertEquals(List.of(1L, 2L), index.search("dhanmondi", 10));
+  }
+
+  @Test
+  @DisplayName("Should match on token prefix")
+  void shouldMatchPrefix() {
+    assertEquals(List.of(1L, 2L), index.search("Dhanm", 10));
+    assertEquals(List.of(3L), index.search("gul", 10));
+  }
+
+  @Test
+  @DisplayName("Should require every query token to match")
+  void shouldIntersectTokens() {
+    assertEquals(List.of(2L), index.search("dhanmondi family", 10));
+    assertTrue(index.search("dhanmondi gulshan", 10).isEmpty());
+  }
+
+  @Test
+  @DisplayName("Should apply the filter before ranking and return every match")
+  void shouldFilterDuringIndexPass() {
+    for (long id = 10; id < 1510; id++) {
+      index.index(id, "Dhanmondi seat " + id, null, "Dhanmondi");
+    }
+
+    assertEquals(1502, index.search("dhanmondi", id -> true).size());
+    assertEquals(List.of(2L), index.search("dhanmondi", id -> id == 2L));
+    assertEquals(List.of(1L), index.search("dhanmondi lake", id -> id != 2L));
+  }
+
+  @Test
+  @DisplayName("Should forget terms removed by an update")
+  void shouldReindexOnUpdate() {
+    index.index(1L, "Cozy studio", "Renovated", "Banani, Dhaka 1213");
+
+    assertEquals(List.of(2L), index.search("dhanmondi", 10));
+    assertEquals(List.of(1L), index.search("banani", 10));
+
+    index.remove(1L);
+    assertTrue(index.search("banani", 10).isEmpty());
+    assertEquals(2, index.size());
+  }
+}
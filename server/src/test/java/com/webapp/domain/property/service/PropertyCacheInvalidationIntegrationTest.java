@@ -0,0 +1,130 @@
+package com.webapp.domain.property.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.webapp.domain.booking.dto.BookingRequest;
+import com.webapp.domain.booking.dto.BookingResponse;
+import com.webapp.domain.booking.enums.BookingStatus;
+import com.webapp.domain.booking.service.BookingService;
+import com.webapp.domain.property.entity.Property;
+import com.webapp.domain.property.enums.PropertyStatus;
+import com.webapp.domain.property.enums.PropertyType;
+import com.webapp.domain.property.event.PropertyChangedEvent;
+import com.webapp.domain.property.repository.PropertyRepository;
+import com.webapp.domain.property.search.PropertyTextIndex;
+import com.webapp.domain.user.entity.User;
+import com.webapp.domain.user.enums.AuthProvider;
+import com.webapp.domain.user.repository.UserRepository;
+import com.webapp.domain.verification.service.VerificationService;
+
+/**
+ * Status changes made by bookings reaching the detail cache and the search
+ * indexes once they commit.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@MockBean(software.amazon.awssdk.services.s3.S3Client.class)
+@TestPropertySource(properties = {
+    "minio.bucket-name=test-bucket",
+    "minio.url=http://localhost:9005",
+    "minio.access-key=minioadmin",
+    "minio.secret-key=minioadmin",
+    "minio.public-url=http://localhost:9005",
+    "app.file.upload-dir=uploads"
+})
+@DisplayName("Property cache invalidation integration test")
+class PropertyCacheInvalidationIntegrationTest {
+
+  @MockBean
+  private VerificationService verificationService;
+
+  @Autowired
+  private PropertyService propertyService;
+
+  @Autowired
+  private BookingService bookingService;
+
+  @Autowired
+  private SeatService seatService;
+
+  @Autowired
+  private PropertyTextIndex textIndex;
+
+  @Autowired
+  private PropertyRepository propertyRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private ApplicationEventPublisher eventPublisher;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Test
+  @DisplayName("Should invalidate cached details and search entries when bookings change the property status")
+  void shouldInvalidateOnBookingStatusChange() {
+    String keyword = "cachetest" + UUID.randomUUID().toString().replace("-", "");
+    User landlord = createUser("landlord");
+    Property property = propertyRepository.save(Property.builder()
+        .owner(landlord)
+        .title("Hostel " + keyword)
+        .location("Gulshan, Dhaka")
+        .price("5000")
+        .propertyType(PropertyType.APARTMENT)
+        .beds(1)
+        .status(PropertyStatus.APPROVED)
+        .build());
+    eventPublisher.publishEvent(PropertyChangedEvent.saved(property));
+    new TransactionTemplate(transactionManager)
+        .executeWithoutResult(status -> seatService.provisionSeats(List.of(property.getId())));
+    BookingResponse booking = book(createUser("tenant"), property);
+    assertEquals(PropertyStatus.APPROVED.getDisplayName(),
+        propertyService.getPropertyById(property.getId()).getStatus());
+    assertEquals(List.of(property.getId()), textIndex.search(keyword, 10));
+
+    bookingService.updateBookingStatus(landlord.getId(), booking.getId(), BookingStatus.CONFIRMED);
+    // A rented listing is no longer public, so a stale entry would still show it
+    assertThrows(RuntimeException.class, () -> propertyService.getPropertyById(property.getId()));
+    assertTrue(textIndex.search(keyword, 10).isEmpty());
+
+    bookingService.updateBookingStatus(landlord.getId(), booking.getId(), BookingStatus.CANCELLED);
+    assertEquals(PropertyStatus.APPROVED.getDisplayName(),
+        propertyService.getPropertyById(property.getId()).getStatus());
+    assertEquals(List.of(property.getId()), textIndex.search(keyword, 10));
+  }
+
+  private BookingResponse book(User tenant, Property property) {
+    LocalDate startDate = LocalDate.now().plusDays(10);
+    return bookingService.createBooking(tenant.getId(), BookingRequest.builder()
+        .propertyId(property.getId())
+        .startDate(startDate)
+        .endDate(startDate.plusDays(3))
+        .build());
+  }
+
+  private User createUser(String role) {
+    return userRepository.save(User.builder()
+        .email(role + "-" + UUID.randomUUID() + "@example.com")
+        .authProvider(AuthProvider.LOCAL)
+        .build());
+  }
+}
@@ -0,0 +1,173 @@
+package com.webapp.domain.property.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.webapp.domain.property.dto.PropertyResponse;
+import com.webapp.domain.property.entity.Amenity;
+import com.webapp.domain.property.entity.Property;
+import com.webapp.domain.property.enums.PropertyType;
+import com.webapp.domain.property.repository.AmenityRepository;
+import com.webapp.domain.property.repository.PropertyRepository;
+import com.webapp.domain.user.entity.User;
+import com.webapp.domain.user.enums.AuthProvider;
+import com.webapp.domain.user.repository.UserRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * List cards are read as projections: a fixed number of statements and no
+ * Property entities however many listings are on the page. The entity path
+ * they replaced is measured alongside for comparison.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@MockBean(software.amazon.awssdk.services.s3.S3Client.class)
+@TestPropertySource(properties = {
+    "minio.bucket-name=test-bucket",
+    "minio.url=http://localhost:9005",
+    "minio.access-key=minioadmin",
+    "minio.secret-key=minioadmin",
+    "minio.public-url=http://localhost:9005",
+    "app.file.upload-dir=uploads"
+})
+@DisplayName("Property card statement count")
+class PropertyCardStatementCountTest {
+
+  // Card rows, amenities of the page
+  private static final long CARD_STATEMENTS = 2;
+
+  private static final int WARMUP_RUNS = 20;
+  private static final int TIMED_RUNS = 50;
+
+  @Autowired
+  private PropertyService propertyService;
+
+  @Autowired
+  private PropertyRepository propertyRepository;
+
+  @Autowired
+  private AmenityRepository amenityRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.setStatisticsEnabled(true);
+  }
+
+  @AfterEach
+  void tearDown() {
+    statistics.setStatisticsEnabled(false);
+  }
+
+  @Test
+  @DisplayName("Should load my properties with a fixed number of statements and no Property entities")
+  void shouldLoadCardsWithoutEntities() {
+    User small = owner(2);
+    User large = owner(40);
+
+    assertEquals(CARD_STATEMENTS, measure("cards, 2 listings",
+        () -> propertyService.getMyProperties(small.getId())).statements());
+    Measurement cards = measure("cards, 40 listings", () -> propertyService.getMyProperties(large.getId()));
+    assertEquals(CARD_STATEMENTS, cards.statements());
+    assertEquals(0, cards.propertyLoads());
+
+    // getMyProperties before list cards: the owner's entity graph mapped to full responses
+    Measurement entities = measure("entities, 40 listings", () -> new TransactionTemplate(transactionManager)
+        .execute(status -> propertyRepository.findAllByOwnerId(large.getId()).stream()
+            .map(property -> (PropertyResponse) ReflectionTestUtils.invokeMethod(propertyService, "mapToResponse",
+                property))
+            .toList()));
+    assertEquals(40, entities.propertyLoads());
+    assertTrue(entities.entityLoads() > cards.entityLoads());
+  }
+
+  /**
+   * Statements and entity loads of one call, then allocation and latency
+   * averaged over {@link #TIMED_RUNS} warm calls, printed for the record.
+   */
+  private Measurement measure(String label, Supplier<List<?>> action) {
+    for (int i = 0; i < WARMUP_RUNS; i++) {
+      action.get();
+    }
+    statistics.clear();
+    int rows = action.get().size();
+    Measurement measurement = new Measurement(statistics.getPrepareStatementCount(),
+        statistics.getEntityLoadCount(),
+        statistics.getEntityStatistics(Property.class.getName()).getLoadCount());
+
+    com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+    long startedAt = System.nanoTime();
+    for (int i = 0; i < TIMED_RUNS; i++) {
+      action.get();
+    }
+    long elapsedNanos = System.nanoTime() - startedAt;
+    long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+    System.out.printf("%s: %d rows, %d statements, %d entities (%d properties), %d KB allocated, %.2f ms per call%n",
+        label, rows, measurement.statements(), measurement.entityLoads(), measurement.propertyLoads(),
+        allocated / 1024 / TIMED_RUNS, elapsedNanos / 1e6 / TIMED_RUNS);
+    return measurement;
+  }
+
+  private record Measurement(long statements, long entityLoads, long propertyLoads) {
+  }
+
+  /**
+   * A landlord with the given number of listings, each with two amenities.
+   */
+  private User owner(int listings) {
+    User owner = userRepository.save(User.builder()
+        .email("cards-" + UUID.randomUUID() + "@example.com")
+        .authProvider(AuthProvider.LOCAL)
+        .build());
+    List<Amenity> amenities = amenityRepository.saveAll(List.of(
+        Amenity.builder().name("Wifi " + UUID.randomUUID()).build(),
+        Amenity.builder().name("Laundry " + UUID.randomUUID()).build()));
+    for (int i = 0; i < listings; i++) {
+      propertyRepository.save(Property.builder()
+          .owner(owner)
+          .title("Card Test Hostel " + i)
+          .description("A long description that list cards no longer carry")
+          .location("Uttara, Dhaka")
+          .price("5000")
+          .propertyType(PropertyType.APARTMENT)
+          .beds(2)
+          .amenities(Set.copyOf(amenities))
+          .build());
+    }
+    return owner;
+  }
+}
@@ -0,0 +1,91 @@
+package com.webapp.domain.property.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.webapp.domain.property.entity.Property;
+import com.webapp.domain.property.enums.PropertyType;
+import com.webapp.domain.property.repository.PropertyRepository;
+import com.webapp.domain.user.entity.User;
+import com.webapp.domain.user.enums.AuthProvider;
+import com.webapp.domain.user.repository.UserRepository;
+
+/**
+ * Deleting a listing whose seats and occupancy counters have been provisioned.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@MockBean(software.amazon.awssdk.services.s3.S3Client.class)
+@TestPropertySource(properties = {
+    "minio.bucket-name=test-bucket",
+    "minio.url=http://localhost:9005",
+    "minio.access-key=minioadmin",
+    "minio.secret-key=minioadmin",
+    "minio.public-url=http://localhost:9005",
+    "app.file.upload-dir=uploads"
+})
+@DisplayName("Property deletion integration test")
+class PropertyDeletionIntegrationTest {
+
+  @Autowired
+  private PropertyService propertyService;
+
+  @Autowired
+  private SeatService seatService;
+
+  @Autowired
+  private PropertyRepository propertyRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  @DisplayName("Should delete a property together with its seats")
+  void shouldDeletePropertyWithSeats() {
+    User owner = userRepository.save(User.builder()
+        .email("delete-" + UUID.randomUUID() + "@example.com")
+        .authProvider(AuthProvider.LOCAL)
+        .build());
+    Property property = propertyRepository.save(Property.builder()
+        .owner(owner)
+        .title("Delete Test Hostel")
+        .location("Banani, Dhaka")
+        .price("5000")
+        .propertyType(PropertyType.APARTMENT)
+        .beds(3)
+        .build());
+    new TransactionTemplate(transactionManager)
+        .executeWithoutResult(status -> seatService.provisionSeats(List.of(property.getId())));
+    assertEquals(3, seatCount(property));
+
+    propertyService.deleteProperty(owner.getId(), property.getId());
+
+    assertFalse(propertyRepository.existsById(property.getId()));
+    assertEquals(0, seatCount(property));
+  }
+
+  private int seatCount(Property property) {
+    return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM seats WHERE property_id = ?", Integer.class,
+        property.getId());
+  }
+}
@@ -6,13 +6,19 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,12 +26,28 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.webapp.auth.exception.BadRequestException;
 import com.webapp.domain.file.service.FileStorageService;
+import com.webapp.domain.property.availability.PropertyCalendarIndex;
+import com.webapp.domain.property.cache.PropertyDetailCache;
+import com.webapp.domain.property.dto.PropertyCardRow;
 import com.webapp.domain.property.dto.PropertyResponse;
+import com.webapp.domain.property.entity.Amenity;
 import com.webapp.domain.property.entity.Property;
+import com.webapp.domain.property.event.PropertyChangedEvent;
+import com.webapp.domain.property.recommendation.PropertyRecommendationFeed;
 import com.webapp.domain.property.repository.PropertyRepository;
+import com.webapp.domain.property.repository.SeatRepository;
+import com.webapp.domain.property.search.PropertyAmenityIndex;
+import com.webapp.domain.property.search.PropertyFacetIndex;
+import com.webapp.domain.property.search.PropertyGeoIndex;
+import com.webapp.domain.property.search.PropertyTextIndex;
 import com.webapp.domain.user.entity.User;
 import com.webapp.domain.user.repository.UserRepository;
 
@@ -42,6 +64,33 @@ class PropertyServiceTest {
   @Mock
   private FileStorageService fileStorageService;
 
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Mock
+  private PropertyGeoIndex geoIndex;
+
+  @Mock
+  private PropertyTextIndex textIndex;
+
+  @Mock
+  private PropertyAmenityIndex amenityIndex;
+
+  @Mock
+  private PropertyFacetIndex facetIndex;
+
+  @Mock
+  private PropertyRecommendationFeed recommendationFeed;
+
+  @Mock
+  private PropertyCalendarIndex calendarIndex;
+
+  @Mock
+  private SeatRepository seatRepository;
+
+  @Spy
+  private PropertyDetailCache detailCache = new PropertyDetailCache(new SimpleMeterRegistry(), 100, 60);
+
   @InjectMocks
   private PropertyService propertyService;
 
@@ -76,20 +125,34 @@ class PropertyServiceTest {
   @Test
   @DisplayName("Should get property by ID")
   void shouldGetPropertyById() {
-    when(propertyRepository.findById(1L)).thenReturn(Optional.of(testProperty));
+    when(propertyRepository.findDetailById(1L)).thenReturn(Optional.of(testProperty));
 
     PropertyResponse response = propertyService.getPropertyById(1L);
 
     assertNotNull(response);
     assertEquals("Nice Apartment", response.getTitle());
     assertEquals(1L, response.getOwnerId());
-    verify(propertyRepository).findById(1L);
+    verify(propertyRepository).findDetailById(1L);
+  }
+
+  @Test
+  @DisplayName("Should serve repeated property lookups from cache until invalidated")
+  void shouldCachePropertyById() {
+    when(propertyRepository.findDetailById(1L)).thenReturn(Optional.of(testProperty));
+
+    propertyService.getPropertyById(1L);
+    propertyService.getPropertyById(1L);
+    verify(propertyRepository, times(1)).findDetailById(1L);
+
+    detailCache.onPropertyChanged(PropertyChangedEvent.saved(testProperty));
+    propertyService.getPropertyById(1L);
+    verify(propertyRepository, times(2)).findDetailById(1L);
   }
 
   @Test
   @DisplayName("Should throw exception when property not found")
   void shouldThrowExceptionWhenPropertyNotFound() {
-    when(propertyRepository.findById(999L)).thenReturn(Optional.empty());
+    when(propertyRepository.findDetailById(999L)).thenReturn(Optional.empty());
 
     assertThrows(RuntimeException.class, () -> propertyService.getPropertyById(999L));
   }
@@ -97,13 +160,47 @@ class PropertyServiceTest {
   @Test
   @DisplayName("Should get my properties")
   void shouldGetMyProperties() {
-    when(propertyRepository.findAllByOwnerId(1L)).thenReturn(List.of(testProperty));
+    PropertyCardRow card = new PropertyCardRow(1L, "Nice Apartment", "123 Main St, City 12345", "1500",
+        BigDecimal.valueOf(1500), 2, 1, 800, null, 0.0, 0, false, 0, 0,
+        com.webapp.domain.property.enums.PropertyStatus.ACTIVE, APARTMENT, null, null, null, 1L, "John", "Doe");
+    Amenity wifi = Amenity.builder().id(7L).name("WiFi").build();
+    when(propertyRepository.findCardsByOwnerId(1L)).thenReturn(List.of(card));
+    when(propertyRepository.findAmenitiesByPropertyIdIn(List.of(1L)))
+        .thenReturn(List.<Object[]>of(new Object[] { 1L, wifi }));
 
     List<PropertyResponse> properties = propertyService.getMyProperties(1L);
 
     assertNotNull(properties);
     assertEquals(1, properties.size());
     assertEquals("Nice Apartment", properties.get(0).getTitle());
+    assertEquals("John Doe", properties.get(0).getOwnerName());
+    assertEquals(java.util.Set.of(wifi), properties.get(0).getAmenities());
+  }
+
+  @Test
+  @DisplayName("Should drop search candidates occupied during the requested stay")
+  void shouldFilterSearchByStayDates() {
+    LocalDate checkIn = LocalDate.of(2030, 3, 1);
+    LocalDate checkOut = LocalDate.of(2030, 3, 5);
+    when(textIndex.search(eq("dhaka"), any(Predicate.class))).thenAnswer(invocation -> Stream.of(3L, 1L, 2L)
+        .filter(invocation.<Predicate<Long>>getArgument(1))
+        .toList());
+    when(facetIndex.matches(any(), any())).thenReturn(true);
+    when(calendarIndex.findOccupied(checkIn, checkOut)).thenReturn(java.util.Set.of(2L));
+    when(propertyRepository.searchPropertyCardsByIds(eq(List.of(3L, 1L)), any(), any(), any(), any(), any(),
+        anyList())).thenReturn(List.of());
+
+    propertyService.searchProperties("dhaka", null, null, null, null, null, null, checkIn, checkOut);
+
+    verify(propertyRepository).searchPropertyCardsByIds(eq(List.of(3L, 1L)), any(), any(), any(), any(), any(),
+        anyList());
+  }
+
+  @Test
+  @DisplayName("Should reject a stay filter with only one date")
+  void shouldRejectHalfOpenStayFilter() {
+    assertThrows(BadRequestException.class, () -> propertyService.searchProperties(null, null, null, null, null,
+        null, null, LocalDate.of(2030, 3, 1), null));
   }
 
   @Test
@@ -137,6 +234,7 @@ class PropertyServiceTest {
 
     assertDoesNotThrow(() -> propertyService.deleteProperty(1L, 1L));
 
+    verify(seatRepository).deleteByPropertyId(1L);
     verify(propertyRepository).delete(testProperty);
   }
 
@@ -0,0 +1,162 @@
+package com.webapp.domain.property.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.webapp.domain.booking.entity.Booking;
+import com.webapp.domain.property.dto.SeatOccupancyDto;
+import com.webapp.domain.property.entity.Property;
+import com.webapp.domain.property.entity.Seat;
+import com.webapp.domain.property.enums.PropertyType;
+import com.webapp.domain.property.enums.SeatAllocationMode;
+import com.webapp.domain.property.enums.SeatStatus;
+import com.webapp.domain.property.repository.PropertyRepository;
+import com.webapp.domain.property.repository.PropertySeatCounterRepository;
+import com.webapp.domain.property.repository.SeatRepository;
+import com.webapp.domain.property.service.impl.SeatServiceImpl;
+import com.webapp.domain.user.entity.User;
+import com.webapp.domain.user.enums.AuthProvider;
+import com.webapp.domain.user.repository.UserRepository;
+
+/**
+ * Concurrent confirmations against one property with fewer seats than
+ * requests, once per allocation mode. Every mode must hand out each seat at
+ * most once and leave the seats table and the property's occupancy counters
+ * consistent with what callers were given; throughput is printed for
+ * comparison.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@MockBean(software.amazon.awssdk.services.s3.S3Client.class)
+@TestPropertySource(properties = {
+    "minio.bucket-name=test-bucket",
+    "minio.url=http://localhost:9005",
+    "minio.access-key=minioadmin",
+    "minio.secret-key=minioadmin",
+    "minio.public-url=http://localhost:9005",
+    "app.file.upload-dir=uploads"
+})
+@DisplayName("Seat allocation stress test")
+class SeatAllocationStressTest {
+
+  private static final int SEATS = 20;
+  private static final int THREADS = 8;
+  private static final int CONFIRMATIONS = 40;
+
+  @Autowired
+  private SeatRepository seatRepository;
+
+  @Autowired
+  private PropertySeatCounterRepository counterRepository;
+
+  @Autowired
+  private PropertyRepository propertyRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @ParameterizedTest
+  @EnumSource(SeatAllocationMode.class)
+  @DisplayName("Should never hand out a seat twice under concurrent confirmations")
+  void shouldNeverOverbook(SeatAllocationMode mode) throws Exception {
+    TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+    SeatService seatService = new SeatServiceImpl(seatRepository, counterRepository, jdbcTemplate, mode, 5, 200, 8);
+    Property property = createProperty();
+    int provisioned = transaction.execute(status -> seatService.provisionSeats(List.of(property.getId())));
+    assertEquals(SEATS, provisioned);
+
+    Set<Long> claimed = ConcurrentHashMap.newKeySet();
+    AtomicInteger duplicates = new AtomicInteger();
+    AtomicInteger rejected = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+    List<Future<?>> results = new ArrayList<>();
+
+    for (int i = 0; i < CONFIRMATIONS; i++) {
+      Booking booking = Booking.builder().id((long) i).property(property).build();
+      results.add(pool.submit(() -> {
+        start.await();
+        try {
+          Seat seat = transaction.execute(status -> seatService.blockSeatForBooking(booking));
+          if (!claimed.add(seat.getId())) {
+            duplicates.incrementAndGet();
+          }
+        } catch (IllegalStateException e) {
+          rejected.incrementAndGet();
+        }
+        return null;
+      }));
+    }
+
+    long startedAt = System.nanoTime();
+    start.countDown();
+    for (Future<?> result : results) {
+      result.get(60, TimeUnit.SECONDS);
+    }
+    long elapsedMs = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    pool.shutdown();
+
+    System.out.printf("%s: %d claimed, %d rejected in %d ms (%.0f confirmations/s)%n", mode, claimed.size(),
+        rejected.get(), elapsedMs, CONFIRMATIONS * 1000.0 / elapsedMs);
+
+    long occupied = seatRepository.countByPropertyIdAndStatus(property.getId(), SeatStatus.OCCUPIED);
+    assertEquals(0, duplicates.get());
+    assertEquals(CONFIRMATIONS, claimed.size() + rejected.get());
+    assertEquals(claimed.size(), occupied);
+    SeatOccupancyDto counters = seatService.getOccupancy(property.getId());
+    assertEquals(claimed.size(), counters.getOccupied());
+    assertEquals(SEATS - claimed.size(), counters.getAvailable());
+    if (mode == SeatAllocationMode.OPTIMISTIC) {
+      // Bounded retry may turn some callers away while seats remain
+      assertTrue(claimed.size() <= SEATS);
+    } else {
+      assertEquals(SEATS, claimed.size());
+    }
+  }
+
+  private Property createProperty() {
+    User owner = userRepository.save(User.builder()
+        .email("stress-" + UUID.randomUUID() + "@example.com")
+        .authProvider(AuthProvider.LOCAL)
+        .build());
+    Property property = propertyRepository.save(Property.builder()
+        .owner(owner)
+        .title("Stress Hostel")
+        .location("Gulshan, Dhaka")
+        .price("5000")
+        .propertyType(PropertyType.APARTMENT)
+        .beds(SEATS)
+        .build());
+    return property;
+  }
+}
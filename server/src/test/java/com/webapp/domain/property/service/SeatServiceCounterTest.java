@@ -0,0 +1,183 @@
+package com.webapp.domain.property.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.invocation.Invocation;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.webapp.domain.property.dto.SeatOccupancyDto;
+import com.webapp.domain.property.entity.Property;
+import com.webapp.domain.property.entity.PropertySeatCounter;
+import com.webapp.domain.property.entity.Seat;
+import com.webapp.domain.property.enums.SeatAllocationMode;
+import com.webapp.domain.property.enums.SeatStatus;
+import com.webapp.domain.property.repository.PropertySeatCounterRepository;
+import com.webapp.domain.property.repository.SeatRepository;
+import com.webapp.domain.property.service.impl.SeatServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SeatService occupancy counter Tests")
+class SeatServiceCounterTest {
+
+  private static final Long PROPERTY_ID = 7L;
+
+  @Mock
+  private SeatRepository seatRepository;
+  @Mock
+  private PropertySeatCounterRepository counterRepository;
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  private SeatService seatService;
+  private Property property;
+
+  @BeforeEach
+  void setUp() {
+    seatService = new SeatServiceImpl(seatRepository, counterRepository, jdbcTemplate,
+        SeatAllocationMode.PESSIMISTIC, 2, 2, 1);
+    property = Property.builder().id(PROPERTY_ID).build();
+  }
+
+  @Test
+  @DisplayName("Should move one seat between counters on a status change")
+  void shouldMoveSeatBetweenCounters() {
+    Seat seat = Seat.builder().id(1L).property(property).status(SeatStatus.AVAILABLE).build();
+    when(seatRepository.saveAndFlush(seat)).thenReturn(seat);
+    when(counterRepository.adjust(PROPERTY_ID, 0, -1, 0, 1)).thenReturn(1);
+
+    seatService.changeSeatStatus(seat, SeatStatus.MAINTENANCE);
+
+    assertEquals(SeatStatus.MAINTENANCE, seat.getStatus());
+    verify(counterRepository).adjust(PROPERTY_ID, 0, -1, 0, 1);
+    verify(counterRepository, never()).insertMissing(any());
+  }
+
+  @Test
+  @DisplayName("Should leave counters alone when the status does not change")
+  void shouldIgnoreNoOpChange() {
+    Seat seat = Seat.builder().id(1L).property(property).status(SeatStatus.BLOCKED).build();
+
+    seatService.changeSeatStatus(seat, SeatStatus.BLOCKED);
+
+    verify(seatRepository, never()).saveAndFlush(any());
+    verify(counterRepository, never()).adjust(anyLong(), anyInt(), anyInt(), anyInt(), anyInt());
+  }
+
+  @Test
+  @DisplayName("Should count a property's seats when it has no counters yet")
+  void shouldCreateMissingCounters() {
+    Seat seat = Seat.builder().id(1L).property(property).status(SeatStatus.AVAILABLE).build();
+    when(seatRepository.saveAndFlush(any(Seat.class))).thenReturn(seat);
+    when(counterRepository.adjust(PROPERTY_ID, 0, 1, 0, 0)).thenReturn(0);
+
+    seatService.addSeat(property, "Bed 1", SeatStatus.AVAILABLE);
+
+    verify(counterRepository).insertMissing(List.of(PROPERTY_ID));
+  }
+
+  @Test
+  @DisplayName("Should provision missing seats with multi-row inserts and count them once")
+  void shouldProvisionMissingSeats() {
+    List<Object[]> counts = List.of(
+        new Object[] { PROPERTY_ID, 4, 1L },
+        new Object[] { 8L, 2, 2L });
+    when(seatRepository.findSeatCountsByPropertyIdIn(List.of(PROPERTY_ID, 8L))).thenReturn(counts);
+    when(counterRepository.adjust(PROPERTY_ID, 0, 3, 0, 0)).thenReturn(1);
+
+    int created = seatService.provisionSeats(List.of(PROPERTY_ID, 8L));
+
+    assertEquals(3, created);
+    // Two rows per statement
+    List<String> sql = new ArrayList<>();
+    List<Object> labels = new ArrayList<>();
+    for (Invocation invocation : mockingDetails(jdbcTemplate).getInvocations()) {
+      Object[] raw = invocation.getRawArguments();
+      sql.add((String) raw[0]);
+      Object[] args = (Object[]) raw[1];
+      for (int i = 1; i < args.length; i += 4) {
+        labels.add(args[i]);
+      }
+    }
+    assertEquals(2, sql.size());
+    assertTrue(sql.get(0).endsWith("VALUES (?, ?, 'AVAILABLE', 0, ?, ?), (?, ?, 'AVAILABLE', 0, ?, ?)"));
+    assertEquals(List.of("Bed 2", "Bed 3", "Bed 4"), labels);
+    verify(counterRepository).adjust(PROPERTY_ID, 0, 3, 0, 0);
+    verify(counterRepository, never()).adjust(eq(8L), anyInt(), anyInt(), anyInt(), anyInt());
+  }
+
+  @Test
+  @DisplayName("Should answer availability and portfolio lookups from counters")
+  void shouldReadCounters() {
+    PropertySeatCounter counter = PropertySeatCounter.builder()
+        .propertyId(PROPERTY_ID).stripe(0).available(2).occupied(3).blocked(1).build();
+    when(counterRepository.findByPropertyId(PROPERTY_ID)).thenReturn(List.of(counter));
+    when(counterRepository.findByOwnerId(10L)).thenReturn(List.of(counter));
+
+    assertEquals(2, seatService.getAvailableSeatCount(PROPERTY_ID));
+    Map<Long, SeatOccupancyDto> portfolio = seatService.getOccupancyByOwner(10L);
+    assertEquals(6, portfolio.get(PROPERTY_ID).getTotal());
+    verify(seatRepository, never()).countByPropertyIdAndStatus(any(), any());
+  }
+
+  @Test
+  @DisplayName("Should spread transitions over stripes and add them up on reads")
+  void shouldStripeCounters() {
+    seatService = new SeatServiceImpl(seatRepository, counterRepository, jdbcTemplate,
+        SeatAllocationMode.PESSIMISTIC, 2, 2, 4);
+    Seat seat = Seat.builder().id(1L).property(property).status(SeatStatus.AVAILABLE).build();
+    when(seatRepository.saveAndFlush(seat)).thenReturn(seat);
+    when(counterRepository.adjust(eq(PROPERTY_ID), anyInt(), eq(-1), eq(1), eq(0))).thenReturn(1);
+
+    seatService.changeSeatStatus(seat, SeatStatus.OCCUPIED);
+
+    verify(counterRepository).adjust(eq(PROPERTY_ID), anyInt(), eq(-1), eq(1), eq(0));
+    verify(counterRepository, never()).insertMissing(any());
+
+    // A single stripe can go negative; only the sum is meaningful
+    when(counterRepository.findByPropertyId(PROPERTY_ID)).thenReturn(List.of(
+        PropertySeatCounter.builder().propertyId(PROPERTY_ID).stripe(0).available(5).occupied(0).build(),
+        PropertySeatCounter.builder().propertyId(PROPERTY_ID).stripe(1).available(-2).occupied(2).build(),
+        PropertySeatCounter.builder().propertyId(PROPERTY_ID).stripe(3).available(-1).occupied(1).build()));
+
+    SeatOccupancyDto occupancy = seatService.getOccupancy(PROPERTY_ID);
+    assertEquals(2, occupancy.getAvailable());
+    assertEquals(3, occupancy.getOccupied());
+    assertEquals(2, seatService.getAvailableSeatCount(PROPERTY_ID));
+  }
+
+  @Test
+  @DisplayName("Should fall back to stripe 0 and then create the stripes when a stripe is missing")
+  void shouldCreateMissingStripes() {
+    seatService = new SeatServiceImpl(seatRepository, counterRepository, jdbcTemplate,
+        SeatAllocationMode.PESSIMISTIC, 2, 2, 3);
+    Seat seat = Seat.builder().id(1L).property(property).status(SeatStatus.AVAILABLE).build();
+    when(seatRepository.saveAndFlush(any(Seat.class))).thenReturn(seat);
+    when(counterRepository.adjust(eq(PROPERTY_ID), anyInt(), eq(1), eq(0), eq(0))).thenReturn(0);
+
+    seatService.addSeat(property, "Bed 1", SeatStatus.AVAILABLE);
+
+    verify(counterRepository).adjust(PROPERTY_ID, 0, 1, 0, 0);
+    verify(counterRepository).insertMissing(List.of(PROPERTY_ID));
+    verify(counterRepository).insertMissingStripe(List.of(PROPERTY_ID), 1);
+    verify(counterRepository).insertMissingStripe(List.of(PROPERTY_ID), 2);
+  }
+}
@@ -0,0 +1,90 @@
+package com.webapp.domain.property.view;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PropertyViewCounter Tests")
+class PropertyViewCounterTest {
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  private PropertyViewCounter counter;
+
+  @BeforeEach
+  void setUp() {
+    Clock clock = Clock.fixed(Instant.parse("2024-05-01T10:00:00Z"), ZoneOffset.UTC);
+    counter = new PropertyViewCounter(jdbcTemplate, clock);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  @DisplayName("Should flush accumulated views as one batched update per property")
+  void shouldFlushInBatch() {
+    when(jdbcTemplate.batchUpdate(eq(PropertyViewCounter.INCREMENT_VIEWS_SQL), anyList()))
+        .thenReturn(new int[] { 1, 1 });
+    when(jdbcTemplate.batchUpdate(eq(PropertyViewCounter.INCREMENT_DAILY_SQL), anyList()))
+        .thenReturn(new int[] { 1, 1 });
+    counter.record(1L);
+    counter.record(1L);
+    counter.record(2L);
+
+    assertEquals(3, counter.flush());
+
+    ArgumentCaptor<List<Object[]>> args = ArgumentCaptor.forClass(List.class);
+    verify(jdbcTemplate).batchUpdate(eq(PropertyViewCounter.INCREMENT_VIEWS_SQL), args.capture());
+    assertEquals(2, args.getValue().size());
+    assertArrayEquals(new Object[] { 2L, 1L }, args.getValue().get(0));
+    assertArrayEquals(new Object[] { 1L, 2L }, args.getValue().get(1));
+    assertEquals(0, counter.pendingViews());
+  }
+
+  @Test
+  @DisplayName("Should keep views for the next flush when the database is unavailable")
+  void shouldRetainViewsOnFailure() {
+    when(jdbcTemplate.batchUpdate(eq(PropertyViewCounter.INCREMENT_VIEWS_SQL), anyList()))
+        .thenThrow(new DataAccessResourceFailureException("down"));
+    counter.record(1L);
+    counter.record(1L);
+
+    assertEquals(0, counter.flush());
+    assertEquals(2, counter.pendingViews());
+    verify(jdbcTemplate, never()).batchUpdate(eq(PropertyViewCounter.INCREMENT_DAILY_SQL), anyList());
+  }
+
+  @Test
+  @DisplayName("Should insert a daily row on the first flush of the day")
+  void shouldInsertMissingDailyRow() {
+    when(jdbcTemplate.batchUpdate(eq(PropertyViewCounter.INCREMENT_VIEWS_SQL), anyList()))
+        .thenReturn(new int[] { 1 });
+    when(jdbcTemplate.batchUpdate(eq(PropertyViewCounter.INCREMENT_DAILY_SQL), anyList()))
+        .thenReturn(new int[] { 0 });
+    counter.record(5L);
+
+    counter.flush();
+
+    verify(jdbcTemplate).update(eq(PropertyViewCounter.INSERT_DAILY_SQL), eq(5L), any(), eq(1L));
+  }
+}